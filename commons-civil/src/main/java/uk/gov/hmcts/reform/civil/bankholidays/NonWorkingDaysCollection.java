@@ -6,28 +6,47 @@ import uk.gov.hmcts.reform.civil.helpers.ResourceReader;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
+/**
+ * Non-working days other than weekends and public holidays, read once from a data file with one ISO date per
+ * line. Lines that are not dates are ignored.
+ */
 @Service
 public class NonWorkingDaysCollection {
 
-    private final String dataResource;
+    private final Set<LocalDate> nonWorkingDays;
 
     public NonWorkingDaysCollection(@Value("${nonworking-days.datafile}") String dataSource) {
-        this.dataResource = dataSource;
+        this.nonWorkingDays = readNonWorkingDays(dataSource);
     }
 
     public boolean contains(LocalDate date) {
-        final String isoDate = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return nonWorkingDays.contains(date);
+    }
+
+    private static Set<LocalDate> readNonWorkingDays(String dataResource) {
+        String data;
         try {
-            String data = ResourceReader.readString(dataResource);
-            return Arrays.stream(data.split("[\r\n]+"))
-                .map(String::trim)
-                .anyMatch(Predicate.isEqual(isoDate));
+            data = ResourceReader.readString(dataResource);
         } catch (IllegalStateException e) {
             // thrown from ResourceReader#readString
-            return false;
+            return Collections.emptySet();
         }
+        Set<LocalDate> dates = new HashSet<>();
+        Arrays.stream(data.split("[\r\n]+"))
+            .map(String::trim)
+            .forEach(line -> {
+                try {
+                    dates.add(LocalDate.parse(line, DateTimeFormatter.ISO_LOCAL_DATE));
+                } catch (DateTimeParseException e) {
+                    // not a date, so it can never match one
+                }
+            });
+        return Collections.unmodifiableSet(dates);
     }
 }
@@ -1,20 +1,29 @@
 package uk.gov.hmcts.reform.civil.bankholidays;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Stores all public holidays retrieved from Gov uk API: https://www.gov.uk/bank-holidays.json
+ * The holidays are retrieved again once a day; if that fails the holidays already retrieved are kept.
  */
+@Slf4j
 @Service
 public class PublicHolidaysCollection {
 
+    static final Duration REFRESH_INTERVAL = Duration.ofHours(24);
+    static final Duration RETRY_INTERVAL = Duration.ofHours(1);
+
     private final BankHolidaysApi bankHolidaysApi;
-    private Set<LocalDate> cachedPublicHolidays;
+    private volatile CachedPublicHolidays cachedPublicHolidays;
 
     @Autowired
     public PublicHolidaysCollection(BankHolidaysApi bankHolidaysApi) {
@@ -24,15 +33,48 @@ public class PublicHolidaysCollection {
     private Set<LocalDate> retrieveAllPublicHolidays() {
         BankHolidays bankHolidays = bankHolidaysApi.retrieveAll();
 
-        return bankHolidays.englandAndWales.events.stream()
-            .map(item -> item.date)
-            .collect(Collectors.toSet());
+        return Collections.unmodifiableSet(
+            bankHolidays.englandAndWales.events.stream()
+                .map(item -> item.date)
+                .collect(Collectors.toSet())
+        );
     }
 
     public Set<LocalDate> getPublicHolidays() {
-        if (cachedPublicHolidays == null) {
-            cachedPublicHolidays = retrieveAllPublicHolidays();
+        CachedPublicHolidays current = cachedPublicHolidays;
+        if (current == null || !Instant.now().isBefore(current.refreshAt)) {
+            current = refresh(current);
+        }
+        return current.publicHolidays;
+    }
+
+    private synchronized CachedPublicHolidays refresh(CachedPublicHolidays stale) {
+        if (cachedPublicHolidays != stale) {
+            return cachedPublicHolidays;
+        }
+        try {
+            cachedPublicHolidays = new CachedPublicHolidays(
+                retrieveAllPublicHolidays(),
+                Instant.now().plus(REFRESH_INTERVAL)
+            );
+        } catch (RuntimeException e) {
+            if (stale == null) {
+                throw e;
+            }
+            log.warn("Refreshing public holidays failed, keeping the public holidays already retrieved", e);
+            cachedPublicHolidays = new CachedPublicHolidays(stale.publicHolidays, Instant.now().plus(RETRY_INTERVAL));
         }
         return cachedPublicHolidays;
     }
+
+    private static class CachedPublicHolidays {
+
+        private final Set<LocalDate> publicHolidays;
+        private final Instant refreshAt;
+
+        private CachedPublicHolidays(Set<LocalDate> publicHolidays, Instant refreshAt) {
+            this.publicHolidays = publicHolidays;
+            this.refreshAt = refreshAt;
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.civil.bankholidays;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Immutable calendar of the working days in a fixed range of dates. Each day is evaluated once when the calendar
+ * is built, after which checking a day, finding the next or previous working day and adding working days are
+ * array lookups. Lookups whose answer falls outside the range return empty.
+ */
+public class WorkingDayCalendar {
+
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+    private final BitSet workingDays;
+    private final int[] workingDaysBefore;
+    private final int[] workingDayOffsets;
+
+    public WorkingDayCalendar(LocalDate firstDay, LocalDate lastDay, Predicate<LocalDate> isWorkingDay) {
+        if (lastDay.isBefore(firstDay)) {
+            throw new IllegalArgumentException("Last day of the calendar must not be before its first day");
+        }
+        int length = Math.toIntExact(lastDay.toEpochDay() - firstDay.toEpochDay() + 1);
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.workingDays = new BitSet(length);
+        this.workingDaysBefore = new int[length + 1];
+        for (int offset = 0; offset < length; offset++) {
+            boolean workingDay = isWorkingDay.test(firstDay.plusDays(offset));
+            workingDays.set(offset, workingDay);
+            workingDaysBefore[offset + 1] = workingDaysBefore[offset] + (workingDay ? 1 : 0);
+        }
+        this.workingDayOffsets = workingDays.stream().toArray();
+    }
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(firstDay) && !date.isAfter(lastDay);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return workingDays.get(offsetOf(date));
+    }
+
+    /**
+     * Returns the given date if it is a working day, otherwise the first working day after it.
+     */
+    public Optional<LocalDate> getNextWorkingDay(LocalDate date) {
+        return workingDay(workingDaysBefore[offsetOf(date)]);
+    }
+
+    /**
+     * Returns the given date if it is a working day, otherwise the last working day before it.
+     */
+    public Optional<LocalDate> getPreviousWorkingDay(LocalDate date) {
+        return workingDay(workingDaysBefore[offsetOf(date) + 1] - 1L);
+    }
+
+    /**
+     * Returns the working day that is the given number of working days after the date, or the date itself when
+     * no working days are to be added.
+     */
+    public Optional<LocalDate> plusWorkingDays(LocalDate date, int workingDaysToAdd) {
+        int offset = offsetOf(date);
+        if (workingDaysToAdd <= 0) {
+            return Optional.of(date);
+        }
+        return workingDay(workingDaysBefore[offset + 1] + (long) workingDaysToAdd - 1);
+    }
+
+    private Optional<LocalDate> workingDay(long index) {
+        if (index < 0 || index >= workingDayOffsets.length) {
+            return Optional.empty();
+        }
+        return Optional.of(firstDay.plusDays(workingDayOffsets[(int) index]));
+    }
+
+    private int offsetOf(LocalDate date) {
+        if (!covers(date)) {
+            throw new IllegalArgumentException("Date " + date + " is outside the working day calendar");
+        }
+        return (int) (date.toEpochDay() - firstDay.toEpochDay());
+    }
+}
@@ -5,7 +5,12 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.bankholidays.NonWorkingDaysCollection;
 import uk.gov.hmcts.reform.civil.bankholidays.PublicHolidaysCollection;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import static java.time.DayOfWeek.SATURDAY;
 import static java.time.DayOfWeek.SUNDAY;
@@ -15,16 +20,20 @@ import static java.util.Objects.requireNonNull;
 @RequiredArgsConstructor
 public class WorkingDayIndicator {
 
+    static final Duration CALENDAR_REFRESH_INTERVAL = Duration.ofHours(24);
+    static final int CALENDAR_YEARS_EITHER_SIDE = 10;
+
     private final PublicHolidaysCollection publicHolidaysCollection;
     private final NonWorkingDaysCollection nonWorkingDaysCollection;
+    private volatile CachedCalendar cachedCalendar;
 
     /**
      * Verifies if given date is a working day in UK (England and Wales only).
      */
     public boolean isWorkingDay(LocalDate date) {
-        return !isWeekend(date)
-            && !isPublicHoliday(date)
-            && !isCustomNonWorkingDay(date);
+        return getCalendar(date)
+            .map(calendar -> calendar.isWorkingDay(date))
+            .orElseGet(() -> evaluateWorkingDay(date));
     }
 
     public boolean isWeekend(LocalDate date) {
@@ -42,12 +51,82 @@ public class WorkingDayIndicator {
     public LocalDate getNextWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getNextWorkingDay(date.plusDays(1));
+        return getCalendar(date)
+            .flatMap(calendar -> calendar.getNextWorkingDay(date))
+            .orElseGet(() -> stepToWorkingDay(date, day -> day.plusDays(1)));
     }
 
     public LocalDate getPreviousWorkingDay(LocalDate date) {
         requireNonNull(date);
 
-        return isWorkingDay(date) ? date : getPreviousWorkingDay(date.minusDays(1));
+        return getCalendar(date)
+            .flatMap(calendar -> calendar.getPreviousWorkingDay(date))
+            .orElseGet(() -> stepToWorkingDay(date, day -> day.minusDays(1)));
+    }
+
+    /**
+     * Returns the working day that is the given number of working days after the date, e.g. the following Monday
+     * for a Friday plus one working day.
+     */
+    public LocalDate plusWorkingDays(LocalDate date, int workingDays) {
+        requireNonNull(date);
+
+        return getCalendar(date)
+            .flatMap(calendar -> calendar.plusWorkingDays(date, workingDays))
+            .orElseGet(() -> {
+                LocalDate currentDate = date;
+                for (int i = 0; i < workingDays; i++) {
+                    currentDate = getNextWorkingDay(currentDate.plusDays(1));
+                }
+                return currentDate;
+            });
+    }
+
+    private boolean evaluateWorkingDay(LocalDate date) {
+        return !isWeekend(date)
+            && !isPublicHoliday(date)
+            && !isCustomNonWorkingDay(date);
+    }
+
+    private LocalDate stepToWorkingDay(LocalDate date, UnaryOperator<LocalDate> step) {
+        LocalDate currentDate = date;
+        while (!isWorkingDay(currentDate)) {
+            currentDate = step.apply(currentDate);
+        }
+        return currentDate;
+    }
+
+    private Optional<WorkingDayCalendar> getCalendar(LocalDate date) {
+        CachedCalendar current = cachedCalendar;
+        if (current == null || !Instant.now().isBefore(current.refreshAt)) {
+            current = refreshCalendar(current);
+        }
+        return current.calendar.covers(date) ? Optional.of(current.calendar) : Optional.empty();
+    }
+
+    private synchronized CachedCalendar refreshCalendar(CachedCalendar stale) {
+        if (cachedCalendar != stale) {
+            return cachedCalendar;
+        }
+        LocalDate today = LocalDate.now();
+        Set<LocalDate> publicHolidays = publicHolidaysCollection.getPublicHolidays();
+        WorkingDayCalendar calendar = new WorkingDayCalendar(
+            today.minusYears(CALENDAR_YEARS_EITHER_SIDE).withDayOfYear(1),
+            today.plusYears(CALENDAR_YEARS_EITHER_SIDE).withMonth(12).withDayOfMonth(31),
+            date -> !isWeekend(date) && !publicHolidays.contains(date) && !isCustomNonWorkingDay(date)
+        );
+        cachedCalendar = new CachedCalendar(calendar, Instant.now().plus(CALENDAR_REFRESH_INTERVAL));
+        return cachedCalendar;
+    }
+
+    private static class CachedCalendar {
+
+        private final WorkingDayCalendar calendar;
+        private final Instant refreshAt;
+
+        private CachedCalendar(WorkingDayCalendar calendar, Instant refreshAt) {
+            this.calendar = calendar;
+            this.refreshAt = refreshAt;
+        }
     }
 }
@@ -1,17 +1,38 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.civil.config.CacheSpecProperties.CacheSpec;
 
+/**
+ * Bounds every cache by size and age, as configured under civil.cache. Statistics are recorded so the actuator
+ * exports them as cache metrics.
+ */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
 public class CacheConfiguration {
 
     @Bean
-    public CacheManagerCustomizer<CaffeineCacheManager> cacheManagerCustomizer() {
-        return cacheManager -> cacheManager.setAllowNullValues(false);
+    public CacheManagerCustomizer<CaffeineCacheManager> cacheManagerCustomizer(CacheSpecProperties properties) {
+        return cacheManager -> {
+            cacheManager.setAllowNullValues(false);
+            cacheManager.setCaffeine(caffeine(properties.getDefaults()));
+            properties.getSpecs().forEach(
+                (cacheName, spec) -> cacheManager.registerCustomCache(cacheName, caffeine(spec).build())
+            );
+        };
+    }
+
+    private static Caffeine<Object, Object> caffeine(CacheSpec spec) {
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getExpireAfterWrite());
+        return spec.isRecordStats() ? caffeine.recordStats() : caffeine;
     }
 }
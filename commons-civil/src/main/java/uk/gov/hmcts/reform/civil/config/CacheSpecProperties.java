@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Size limit, expiry and statistics recording for each Caffeine cache, keyed by cache name. Caches without
+ * their own entry use the defaults.
+ */
+@Data
+@ConfigurationProperties("civil.cache")
+public class CacheSpecProperties {
+
+    private CacheSpec defaults = new CacheSpec();
+    private Map<String, CacheSpec> specs = new HashMap<>();
+
+    @Data
+    public static class CacheSpec {
+
+        private long maximumSize = 1000;
+        private Duration expireAfterWrite = Duration.ofHours(1);
+        private boolean recordStats = true;
+    }
+}
@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.civil.referencedata;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+
+/**
+ * Holds the latest snapshot of court venues so that location lookups are answered from memory. A snapshot older
+ * than the refresh interval is still served while a new one is loaded in the background, using the token of the
+ * request that found it stale as location reference data only accepts user tokens. A snapshot older than the
+ * maximum staleness is no longer served, and neither is any snapshot before the first load completes, leaving the
+ * caller to query location reference data directly. A failed load keeps the current snapshot and is retried after
+ * a minute.
+ */
+@Slf4j
+@Component
+public class CourtLocationIndex {
+
+    static final Duration RETRY_INTERVAL = Duration.ofMinutes(1);
+
+    private final Duration refreshInterval;
+    private final Duration maxStaleness;
+    private final ExecutorService executorService;
+    private final Clock clock;
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private volatile CourtLocationSnapshot snapshot;
+    private volatile Instant nextLoadAt = Instant.MIN;
+    private volatile long loadTimeMillis;
+
+    @Autowired
+    public CourtLocationIndex(@Value("${genApp.lrd.snapshot.refresh-interval-minutes:60}") long refreshIntervalMinutes,
+                              @Value("${genApp.lrd.snapshot.max-staleness-minutes:1440}") long maxStalenessMinutes,
+                              MeterRegistry meterRegistry) {
+        this(Duration.ofMinutes(refreshIntervalMinutes), Duration.ofMinutes(maxStalenessMinutes), meterRegistry,
+             Executors.newSingleThreadExecutor(loaderThreadFactory()), Clock.systemUTC());
+    }
+
+    CourtLocationIndex(Duration refreshInterval, Duration maxStaleness, MeterRegistry meterRegistry,
+                       ExecutorService executorService, Clock clock) {
+        this.refreshInterval = refreshInterval;
+        this.maxStaleness = maxStaleness;
+        this.executorService = executorService;
+        this.clock = clock;
+        Gauge.builder("civil.lrd.court.locations.load.time", this, index -> index.loadTimeMillis)
+            .description("Time taken to load the current court location snapshot")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        Gauge.builder("civil.lrd.court.locations.entries", this, CourtLocationIndex::getSize)
+            .description("Number of court venues in the current court location snapshot")
+            .register(meterRegistry);
+        Gauge.builder("civil.lrd.court.locations.staleness", this, CourtLocationIndex::getStalenessSeconds)
+            .description("Age of the current court location snapshot")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the current snapshot, if it may still be served, starting a load in the background first when
+     * there is no snapshot yet or the current one is due for a refresh.
+     *
+     * @param authToken user token to load a new snapshot with
+     * @param loader    loads a snapshot with the given user token
+     * @return the current snapshot, or empty when location reference data should be queried directly
+     */
+    public Optional<CourtLocationSnapshot> getSnapshot(String authToken,
+                                                       Function<String, CourtLocationSnapshot> loader) {
+        CourtLocationSnapshot current = snapshot;
+        Instant now = clock.instant();
+        if ((current == null || !now.isBefore(current.getLoadedAt().plus(refreshInterval)))
+            && !now.isBefore(nextLoadAt)) {
+            loadInBackground(authToken, loader);
+        }
+        if (current == null || !now.isBefore(current.getLoadedAt().plus(maxStaleness))) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private void loadInBackground(String authToken, Function<String, CourtLocationSnapshot> loader) {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorService.execute(() -> load(authToken, loader));
+        } catch (RuntimeException e) {
+            loading.set(false);
+            log.warn("Court location snapshot load could not be started", e);
+        }
+    }
+
+    private void load(String authToken, Function<String, CourtLocationSnapshot> loader) {
+        try {
+            long start = System.nanoTime();
+            CourtLocationSnapshot loaded = loader.apply(authToken);
+            loadTimeMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            snapshot = loaded;
+            log.info("Loaded {} court locations in {} ms", loaded.getSize(), loadTimeMillis);
+        } catch (RuntimeException e) {
+            nextLoadAt = clock.instant().plus(RETRY_INTERVAL);
+            log.warn("Loading court location snapshot failed, keeping the current snapshot", e);
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    private int getSize() {
+        CourtLocationSnapshot current = snapshot;
+        return current == null ? 0 : current.getSize();
+    }
+
+    private double getStalenessSeconds() {
+        CourtLocationSnapshot current = snapshot;
+        return current == null ? Double.NaN
+            : Duration.between(current.getLoadedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    private static CustomizableThreadFactory loaderThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("court-location-loader-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.civil.referencedata;
+
+import lombok.Getter;
+import uk.gov.hmcts.reform.civil.referencedata.model.LocationRefData;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Court venues retrieved from location reference data at one point in time, indexed by epimms id for the lookups
+ * served by {@link LocationRefDataService} and by region id. Venues without an epimms id or region id are left out
+ * of the corresponding index.
+ */
+public class CourtLocationSnapshot {
+
+    private final Map<String, List<LocationRefData>> locationsByEpimmsId;
+    private final Map<String, List<LocationRefData>> locationsByRegionId;
+    @Getter
+    private final List<LocationRefData> defaultJudgmentLocations;
+    @Getter
+    private final LocationRefData ccmccLocation;
+    @Getter
+    private final Instant loadedAt;
+    @Getter
+    private final int size;
+
+    public CourtLocationSnapshot(List<LocationRefData> courtVenues,
+                                 List<LocationRefData> defaultJudgmentLocations,
+                                 LocationRefData ccmccLocation,
+                                 Instant loadedAt) {
+        this.locationsByEpimmsId = index(courtVenues, LocationRefData::getEpimmsId);
+        this.locationsByRegionId = index(courtVenues, LocationRefData::getRegionId);
+        this.defaultJudgmentLocations = List.copyOf(defaultJudgmentLocations);
+        this.ccmccLocation = ccmccLocation;
+        this.loadedAt = loadedAt;
+        this.size = courtVenues.size();
+    }
+
+    public List<LocationRefData> getLocationsByEpimmsId(String epimmsId) {
+        return epimmsId == null ? List.of() : locationsByEpimmsId.getOrDefault(epimmsId, List.of());
+    }
+
+    public List<LocationRefData> getLocationsByEpimmsIdAndCourtType(String epimmsId, String courtTypeId) {
+        return getLocationsByEpimmsId(epimmsId).stream()
+            .filter(location -> courtTypeId.equals(location.getCourtTypeId()))
+            .collect(Collectors.toList());
+    }
+
+    public List<LocationRefData> getLocationsByRegionId(String regionId) {
+        return regionId == null ? List.of() : locationsByRegionId.getOrDefault(regionId, List.of());
+    }
+
+    private static Map<String, List<LocationRefData>> index(List<LocationRefData> courtVenues,
+                                                            Function<LocationRefData, String> key) {
+        return Map.copyOf(courtVenues.stream()
+                              .filter(location -> Objects.nonNull(key.apply(location)))
+                              .collect(Collectors.groupingBy(key, Collectors.collectingAndThen(
+                                  Collectors.toList(), List::copyOf))));
+    }
+}
@@ -15,6 +15,7 @@ import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.referencedata.model.LocationRefData;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -29,11 +30,19 @@ import static org.apache.logging.log4j.util.Strings.concat;
 @RequiredArgsConstructor
 public class LocationRefDataService {
 
+    private static final String CIVIL_COURT_TYPE_ID = "10";
+
     private final RestTemplate restTemplate;
     private final LRDConfiguration lrdConfiguration;
     private final AuthTokenGenerator authTokenGenerator;
+    private final CourtLocationIndex courtLocationIndex;
 
     public LocationRefData getCcmccLocation(String authToken) {
+        Optional<LocationRefData> ccmccLocation = getSnapshot(authToken)
+            .map(CourtLocationSnapshot::getCcmccLocation);
+        if (ccmccLocation.isPresent()) {
+            return ccmccLocation.get();
+        }
         try {
             ResponseEntity<List<LocationRefData>> responseEntity = restTemplate.exchange(
                 buildURIforCcmcc(),
@@ -59,6 +68,10 @@ public class LocationRefDataService {
     }
 
     public List<LocationRefData> getCourtLocationsForDefaultJudgments(String authToken) {
+        Optional<CourtLocationSnapshot> snapshot = getSnapshot(authToken);
+        if (snapshot.isPresent()) {
+            return new ArrayList<>(snapshot.get().getDefaultJudgmentLocations());
+        }
         try {
             ResponseEntity<List<LocationRefData>> responseEntity = restTemplate.exchange(
                 buildURIForDefaultJudgments(),
@@ -76,14 +89,20 @@ public class LocationRefDataService {
 
     public List<LocationRefData> getCourtLocationsForGeneralApplication(String authToken) {
         try {
-            ResponseEntity<List<LocationRefData>> responseEntity = restTemplate.exchange(
-                buildURI(),
-                HttpMethod.GET,
-                getHeaders(authToken),
-                new ParameterizedTypeReference<>() {
-                }
-            );
-            return onlyEnglandAndWalesLocations(responseEntity.getBody())
+            Optional<CourtLocationSnapshot> snapshot = getSnapshot(authToken);
+            List<LocationRefData> locations;
+            if (snapshot.isPresent()) {
+                locations = snapshot.get().getDefaultJudgmentLocations();
+            } else {
+                locations = restTemplate.exchange(
+                    buildURI(),
+                    HttpMethod.GET,
+                    getHeaders(authToken),
+                    new ParameterizedTypeReference<List<LocationRefData>>() {
+                    }
+                ).getBody();
+            }
+            return onlyEnglandAndWalesLocations(locations)
                 .stream().sorted(Comparator.comparing(LocationRefData::getSiteName)).collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Location Reference Data Lookup Failed - " + e.getMessage(), e);
@@ -92,6 +111,12 @@ public class LocationRefDataService {
     }
 
     public List<LocationRefData> getCourtLocationsByEpimmsId(String authToken, String epimmsId) {
+        List<LocationRefData> locations = getSnapshot(authToken)
+            .map(snapshot -> snapshot.getLocationsByEpimmsId(epimmsId))
+            .orElse(List.of());
+        if (!locations.isEmpty()) {
+            return new ArrayList<>(locations);
+        }
         try {
             ResponseEntity<List<LocationRefData>> responseEntity = restTemplate.exchange(
                 buildURIforCourtLocation(epimmsId),
@@ -108,6 +133,12 @@ public class LocationRefDataService {
     }
 
     public List<LocationRefData> getCourtLocationsByEpimmsIdAndCourtType(String authToken, String epimmsId) {
+        List<LocationRefData> locations = getSnapshot(authToken)
+            .map(snapshot -> snapshot.getLocationsByEpimmsIdAndCourtType(epimmsId, CIVIL_COURT_TYPE_ID))
+            .orElse(List.of());
+        if (!locations.isEmpty()) {
+            return locations;
+        }
         try {
             ResponseEntity<List<LocationRefData>> responseEntity = restTemplate.exchange(
                 buildURIforCourtLocationCourtType(epimmsId),
@@ -123,6 +154,32 @@ public class LocationRefDataService {
         return new ArrayList<>();
     }
 
+    private Optional<CourtLocationSnapshot> getSnapshot(String authToken) {
+        return courtLocationIndex.getSnapshot(authToken, this::loadSnapshot);
+    }
+
+    private CourtLocationSnapshot loadSnapshot(String authToken) {
+        HttpEntity<String> headers = getHeaders(authToken);
+        List<LocationRefData> ccmccLocations = fetchLocations(buildURIforCcmcc(), headers);
+        return new CourtLocationSnapshot(
+            fetchLocations(buildURIforAllCourtVenues(), headers),
+            fetchLocations(buildURIForDefaultJudgments(), headers),
+            ccmccLocations.isEmpty() ? null : ccmccLocations.get(0),
+            Instant.now()
+        );
+    }
+
+    private List<LocationRefData> fetchLocations(URI uri, HttpEntity<String> headers) {
+        List<LocationRefData> locations = restTemplate.exchange(
+            uri,
+            HttpMethod.GET,
+            headers,
+            new ParameterizedTypeReference<List<LocationRefData>>() {
+            }
+        ).getBody();
+        return locations == null ? List.of() : locations;
+    }
+
     private URI buildURI() {
         String queryURL = lrdConfiguration.getUrl() + lrdConfiguration.getEndpoint();
         UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(queryURL)
@@ -150,6 +207,11 @@ public class LocationRefDataService {
         return builder.buildAndExpand(new HashMap<>()).toUri();
     }
 
+    private URI buildURIforAllCourtVenues() {
+        String queryURL = lrdConfiguration.getUrl() + lrdConfiguration.getEndpoint();
+        return UriComponentsBuilder.fromUriString(queryURL).buildAndExpand(new HashMap<>()).toUri();
+    }
+
     private URI buildURIforCourtLocation(String epimmsId) {
         String queryURL = lrdConfiguration.getUrl() + lrdConfiguration.getEndpoint();
         UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(queryURL)
@@ -161,7 +223,7 @@ public class LocationRefDataService {
         String queryURL = lrdConfiguration.getUrl() + lrdConfiguration.getEndpoint();
         UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(queryURL)
             .queryParam("epimms_id", epimmsId)
-            .queryParam("court_type_id", "10");
+            .queryParam("court_type_id", CIVIL_COURT_TYPE_ID);
         return builder.buildAndExpand(new HashMap<>()).toUri();
     }
 
@@ -1,27 +1,55 @@
 package uk.gov.hmcts.reform.civil.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import feign.FeignException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
 import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.civil.prd.model.Organisation;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
 
+/**
+ * Looks up organisations in professional reference data. Organisations found by id are kept in the
+ * organisationCache, bounded and expired as configured under civil.cache; concurrent lookups of an organisation
+ * that is not cached wait for a single request. Organisations that are not found are not cached. Without a
+ * Caffeine organisationCache every lookup goes to professional reference data.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OrganisationService {
 
+    static final String ORGANISATION_CACHE = "organisationCache";
+
     private final OrganisationApi organisationApi;
     private final AuthTokenGenerator authTokenGenerator;
     private final UserService userService;
     private final PrdAdminUserConfiguration userConfig;
+    private final Cache<Object, Object> organisations;
+
+    public OrganisationService(OrganisationApi organisationApi,
+                               AuthTokenGenerator authTokenGenerator,
+                               UserService userService,
+                               PrdAdminUserConfiguration userConfig,
+                               ObjectProvider<CacheManager> cacheManager) {
+        this.organisationApi = organisationApi;
+        this.authTokenGenerator = authTokenGenerator;
+        this.userService = userService;
+        this.userConfig = userConfig;
+        this.organisations = organisationCache(cacheManager.getIfAvailable());
+    }
 
     //WARNING! below function findOrganisation is being used by both damages and specified claims,
     // changes to this code may break one of the claim journeys, check with respective teams before changing it
@@ -39,7 +67,43 @@ public class OrganisationService {
     //WARNING! below function findOrganisationById is being used by both damages and specified claims,
     // changes to this code may break one of the claim journeys, check with respective teams before changing it
     public Optional<Organisation> findOrganisationById(String id) {
-        String authToken = userService.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+        if (organisations == null || id == null) {
+            return loadOrganisation(getPrdAdminToken(), id);
+        }
+        return ofNullable((Organisation) organisations.get(
+            id, key -> loadOrganisation(getPrdAdminToken(), id).orElse(null)));
+    }
+
+    /**
+     * Looks up several organisations at once, requesting only the ones not already cached, all with the same
+     * admin token.
+     *
+     * @param ids organisation ids
+     * @return the organisations found, keyed by organisation id
+     */
+    public Map<String, Organisation> findOrganisationsById(Collection<String> ids) {
+        Collection<String> distinctIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (distinctIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (organisations == null) {
+            return loadOrganisations(distinctIds);
+        }
+        Map<String, Organisation> found = new HashMap<>();
+        organisations.getAll(distinctIds, missingIds -> loadOrganisations(
+            missingIds.stream().map(String.class::cast).collect(Collectors.toList())))
+            .forEach((id, organisation) -> found.put((String) id, (Organisation) organisation));
+        return found;
+    }
+
+    private Map<String, Organisation> loadOrganisations(Collection<String> ids) {
+        String authToken = getPrdAdminToken();
+        Map<String, Organisation> found = new HashMap<>();
+        ids.forEach(id -> loadOrganisation(authToken, id).ifPresent(organisation -> found.put(id, organisation)));
+        return found;
+    }
+
+    private Optional<Organisation> loadOrganisation(String authToken, String id) {
         try {
             return ofNullable(organisationApi.findOrganisationById(authToken, authTokenGenerator.generate(), id));
         } catch (FeignException.NotFound ex) {
@@ -47,4 +111,15 @@ public class OrganisationService {
             return Optional.empty();
         }
     }
+
+    private String getPrdAdminToken() {
+        return userService.getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+    }
+
+    private static Cache<Object, Object> organisationCache(CacheManager cacheManager) {
+        org.springframework.cache.Cache cache = cacheManager == null
+            ? null
+            : cacheManager.getCache(ORGANISATION_CACHE);
+        return cache instanceof CaffeineCache ? ((CaffeineCache) cache).getNativeCache() : null;
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
@@ -25,4 +26,13 @@ public class UserService {
     public String getAccessToken(String username, String password) {
         return idamClient.getAccessToken(username, password);
     }
+
+    /**
+     * Fetches a new access token, replacing the one held in the cache, e.g. when the cached token is about to
+     * expire.
+     */
+    @CachePut(value = "accessTokenCache")
+    public String refreshAccessToken(String username, String password) {
+        return idamClient.getAccessToken(username, password);
+    }
 }
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.civil.bankholidays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks that the working day calendar gives the same answers as stepping a day at a time over weekends, public
+ * holidays and custom non-working days, as WorkingDayIndicator did before the calendar, for every day of two
+ * years inside the calendar's range and one year outside it.
+ */
+class WorkingDayCalendarEquivalenceTest {
+
+    private static final String NON_WORKING_DAYS = "/non-working-days/nwd-valid.dat";
+    private static final Set<LocalDate> CUSTOM_NON_WORKING_DAYS = Set.of(
+        LocalDate.of(2020, 12, 1),
+        LocalDate.of(2020, 12, 2),
+        LocalDate.of(2020, 12, 4),
+        LocalDate.of(2020, 12, 5)
+    );
+    private static final Set<LocalDate> PUBLIC_HOLIDAYS = Set.of(
+        LocalDate.of(2020, 12, 25),
+        LocalDate.of(2020, 12, 28),
+        LocalDate.of(1990, 12, 25),
+        LocalDate.of(1990, 12, 26)
+    );
+    private static final List<Integer> WORKING_DAYS_TO_ADD = List.of(0, 1, 5, 28);
+
+    private WorkingDayIndicator workingDayIndicator;
+
+    @BeforeEach
+    void setUp() {
+        PublicHolidaysCollection publicHolidaysCollection = mock(PublicHolidaysCollection.class);
+        given(publicHolidaysCollection.getPublicHolidays()).willReturn(PUBLIC_HOLIDAYS);
+        workingDayIndicator = new WorkingDayIndicator(
+            publicHolidaysCollection,
+            new NonWorkingDaysCollection(NON_WORKING_DAYS)
+        );
+    }
+
+    @Test
+    void shouldMatchSteppingDayByDay_whenCheckingWorkingDays() {
+        dates().forEach(date -> {
+            assertThat(workingDayIndicator.isWorkingDay(date)).as(date.toString()).isEqualTo(isWorkingDay(date));
+            assertThat(workingDayIndicator.getNextWorkingDay(date)).as(date.toString())
+                .isEqualTo(stepToWorkingDay(date, 1));
+            assertThat(workingDayIndicator.getPreviousWorkingDay(date)).as(date.toString())
+                .isEqualTo(stepToWorkingDay(date, -1));
+        });
+    }
+
+    @Test
+    void shouldMatchSteppingDayByDay_whenAddingWorkingDays() {
+        dates().forEach(date -> WORKING_DAYS_TO_ADD.forEach(
+            workingDays -> assertThat(workingDayIndicator.plusWorkingDays(date, workingDays))
+                .as("%s plus %d working days", date, workingDays)
+                .isEqualTo(stepWorkingDays(date, workingDays))
+        ));
+    }
+
+    private static Stream<LocalDate> dates() {
+        return Stream.concat(
+            LocalDate.of(2020, 1, 1).datesUntil(LocalDate.of(2022, 1, 1)),
+            LocalDate.of(1990, 1, 1).datesUntil(LocalDate.of(1991, 1, 1))
+        );
+    }
+
+    private static LocalDate stepWorkingDays(LocalDate date, int workingDays) {
+        LocalDate currentDate = date;
+        for (int i = 0; i < workingDays; i++) {
+            currentDate = stepToWorkingDay(currentDate.plusDays(1), 1);
+        }
+        return currentDate;
+    }
+
+    private static LocalDate stepToWorkingDay(LocalDate date, int step) {
+        LocalDate currentDate = date;
+        while (!isWorkingDay(currentDate)) {
+            currentDate = currentDate.plusDays(step);
+        }
+        return currentDate;
+    }
+
+    private static boolean isWorkingDay(LocalDate date) {
+        return date.getDayOfWeek() != SATURDAY
+            && date.getDayOfWeek() != SUNDAY
+            && !PUBLIC_HOLIDAYS.contains(date)
+            && !CUSTOM_NON_WORKING_DAYS.contains(date);
+    }
+}
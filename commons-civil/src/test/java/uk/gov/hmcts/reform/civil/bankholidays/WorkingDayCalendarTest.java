@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.civil.bankholidays;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WorkingDayCalendarTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2022, 12, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2023, 1, 31);
+    private static final LocalDate FRIDAY_BEFORE_CHRISTMAS = LocalDate.of(2022, 12, 23);
+    private static final LocalDate CHRISTMAS_DAY = LocalDate.of(2022, 12, 25);
+    private static final LocalDate BOXING_DAY_HOLIDAY = LocalDate.of(2022, 12, 26);
+    private static final LocalDate CHRISTMAS_DAY_HOLIDAY = LocalDate.of(2022, 12, 27);
+    private static final LocalDate WEDNESDAY_AFTER_CHRISTMAS = LocalDate.of(2022, 12, 28);
+    private static final Set<LocalDate> HOLIDAYS = Set.of(BOXING_DAY_HOLIDAY, CHRISTMAS_DAY_HOLIDAY);
+
+    private final WorkingDayCalendar calendar = new WorkingDayCalendar(
+        FIRST_DAY,
+        LAST_DAY,
+        date -> date.getDayOfWeek() != SATURDAY && date.getDayOfWeek() != SUNDAY && !HOLIDAYS.contains(date)
+    );
+
+    @Nested
+    class IsWorkingDay {
+
+        @Test
+        void shouldReturnTrue_whenWeekday() {
+            assertThat(calendar.isWorkingDay(FRIDAY_BEFORE_CHRISTMAS)).isTrue();
+        }
+
+        @Test
+        void shouldReturnFalse_whenWeekendOrHoliday() {
+            assertThat(calendar.isWorkingDay(CHRISTMAS_DAY)).isFalse();
+            assertThat(calendar.isWorkingDay(BOXING_DAY_HOLIDAY)).isFalse();
+        }
+
+        @Test
+        void shouldThrowIllegalArgumentException_whenDateOutsideCalendar() {
+            assertThrows(IllegalArgumentException.class, () -> calendar.isWorkingDay(LAST_DAY.plusDays(1)));
+        }
+    }
+
+    @Nested
+    class NextWorkingDay {
+
+        @Test
+        void shouldReturnSameDay_whenWorkingDay() {
+            assertThat(calendar.getNextWorkingDay(FRIDAY_BEFORE_CHRISTMAS)).contains(FRIDAY_BEFORE_CHRISTMAS);
+        }
+
+        @Test
+        void shouldSkipWeekendAndHolidays_whenNotWorkingDay() {
+            assertThat(calendar.getNextWorkingDay(CHRISTMAS_DAY)).contains(WEDNESDAY_AFTER_CHRISTMAS);
+        }
+
+        @Test
+        void shouldReturnEmpty_whenNextWorkingDayOutsideCalendar() {
+            WorkingDayCalendar weekendOnly = new WorkingDayCalendar(
+                LocalDate.of(2023, 1, 7), LocalDate.of(2023, 1, 8), date -> false);
+
+            assertThat(weekendOnly.getNextWorkingDay(LocalDate.of(2023, 1, 7))).isEmpty();
+        }
+    }
+
+    @Nested
+    class PreviousWorkingDay {
+
+        @Test
+        void shouldReturnSameDay_whenWorkingDay() {
+            assertThat(calendar.getPreviousWorkingDay(WEDNESDAY_AFTER_CHRISTMAS)).contains(WEDNESDAY_AFTER_CHRISTMAS);
+        }
+
+        @Test
+        void shouldSkipWeekendAndHolidays_whenNotWorkingDay() {
+            assertThat(calendar.getPreviousWorkingDay(CHRISTMAS_DAY_HOLIDAY)).contains(FRIDAY_BEFORE_CHRISTMAS);
+        }
+
+        @Test
+        void shouldReturnEmpty_whenPreviousWorkingDayOutsideCalendar() {
+            WorkingDayCalendar weekendOnly = new WorkingDayCalendar(
+                LocalDate.of(2023, 1, 7), LocalDate.of(2023, 1, 8), date -> false);
+
+            assertThat(weekendOnly.getPreviousWorkingDay(LocalDate.of(2023, 1, 8))).isEmpty();
+        }
+    }
+
+    @Nested
+    class PlusWorkingDays {
+
+        @Test
+        void shouldSkipWeekendAndHolidays_whenAddingWorkingDays() {
+            assertThat(calendar.plusWorkingDays(FRIDAY_BEFORE_CHRISTMAS, 1)).contains(WEDNESDAY_AFTER_CHRISTMAS);
+            assertThat(calendar.plusWorkingDays(FRIDAY_BEFORE_CHRISTMAS, 3)).contains(LocalDate.of(2022, 12, 30));
+        }
+
+        @Test
+        void shouldCountFromNextWorkingDay_whenStartingOnNonWorkingDay() {
+            assertThat(calendar.plusWorkingDays(CHRISTMAS_DAY, 1)).contains(WEDNESDAY_AFTER_CHRISTMAS);
+        }
+
+        @Test
+        void shouldReturnSameDay_whenNoWorkingDaysAdded() {
+            assertThat(calendar.plusWorkingDays(CHRISTMAS_DAY, 0)).contains(CHRISTMAS_DAY);
+        }
+
+        @Test
+        void shouldReturnEmpty_whenResultOutsideCalendar() {
+            assertThat(calendar.plusWorkingDays(LAST_DAY, 1)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenLastDayBeforeFirstDay() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkingDayCalendar(LAST_DAY, FIRST_DAY, date -> true));
+    }
+}
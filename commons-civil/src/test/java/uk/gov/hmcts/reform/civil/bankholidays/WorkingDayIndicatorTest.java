@@ -195,4 +195,37 @@ class WorkingDayIndicatorTest {
             assertEquals(PREVIOUS_WORKING_DAY_BEFORE_BANK_HOLIDAY, previousWorkingDay);
         }
     }
+
+    @Nested
+    class PlusWorkingDays {
+
+        @Test
+        void shouldReturnFollowingMonday_whenOneWorkingDayAddedToFriday() {
+            assertEquals(MONDAY.plusWeeks(1), service.plusWorkingDays(FRIDAY, 1));
+        }
+
+        @Test
+        void shouldSkipBankHoliday_whenWorkingDaysAddedAcrossIt() {
+            when(publicHolidaysApiClient.getPublicHolidays()).thenReturn(
+                new HashSet<>(singletonList(BANK_HOLIDAY))
+            );
+
+            LocalDate workingDay = service.plusWorkingDays(PREVIOUS_WORKING_DAY_BEFORE_BANK_HOLIDAY, 2);
+
+            assertEquals(NEXT_WORKING_DAY_AFTER_BANK_HOLIDAY.plusDays(1), workingDay);
+        }
+
+        @Test
+        void shouldReturnSameDay_whenNoWorkingDaysAdded() {
+            assertEquals(SATURDAY, service.plusWorkingDays(SATURDAY, 0));
+        }
+
+        @Test
+        void shouldStepDayByDay_whenDateOutsidePrecomputedCalendar() {
+            LocalDate farFutureFriday = LocalDate.of(2199, 1, 4);
+
+            assertEquals(LocalDate.of(2199, 1, 7), service.plusWorkingDays(farFutureFriday, 1));
+            assertFalse(service.isWorkingDay(farFutureFriday.plusDays(1)));
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import uk.gov.hmcts.reform.civil.service.UserService;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+class CacheConfigurationTest {
+
+    private static final int TOKENS = 1_000_000;
+    private static final int MAXIMUM_SIZE = 1000;
+    private static final int SAMPLE_EVERY = 250_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private final IdamClient idamClient = mock(IdamClient.class, withSettings().stubOnly().defaultAnswer(
+        invocation -> UserInfo.builder().uid(invocation.getArgument(0)).build()
+    ));
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(CacheAutoConfiguration.class))
+        .withUserConfiguration(CacheConfiguration.class)
+        .withBean(IdamClient.class, () -> idamClient)
+        .withBean(UserService.class)
+        .withPropertyValues(
+            "spring.cache.type=caffeine",
+            "spring.cache.cache-names=userInfoCache,accessTokenCache",
+            "civil.cache.specs.userInfoCache.maximum-size=" + MAXIMUM_SIZE,
+            "civil.cache.specs.userInfoCache.expire-after-write=10m"
+        );
+
+    @Test
+    void shouldBoundCache_whenCacheHasItsOwnSpec() {
+        contextRunner.run(context -> {
+            Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class), "userInfoCache");
+
+            assertThat(cache.policy().eviction().map(Policy.Eviction::getMaximum)).contains(1000L);
+            assertThat(cache.policy().expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter))
+                .contains(Duration.ofMinutes(10));
+            assertThat(cache.policy().isRecordingStats()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldBoundCacheWithDefaults_whenCacheHasNoSpec() {
+        contextRunner.run(context -> {
+            Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class), "accessTokenCache");
+
+            assertThat(cache.policy().eviction().map(Policy.Eviction::getMaximum)).contains(1000L);
+            assertThat(cache.policy().expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter))
+                .contains(Duration.ofHours(1));
+        });
+    }
+
+    @Test
+    void shouldEvictToMaximumSize_whenUserInfoRequestedForMoreDistinctTokensThanMaximum() {
+        contextRunner.run(context -> {
+            UserService userService = context.getBean(UserService.class);
+
+            for (int i = 1; i <= 5 * MAXIMUM_SIZE; i++) {
+                userService.getUserInfo("Bearer token-" + i);
+            }
+
+            Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class), "userInfoCache");
+            cache.cleanUp();
+            assertThat(cache.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+        });
+    }
+
+    /**
+     * Measures the heap while a million distinct tokens go through the cache. Tagged perf, so it runs with
+     * perfTest rather than test.
+     */
+    @Tag("perf")
+    @Test
+    void shouldKeepHeapFlat_whenUserInfoRequestedForMillionDistinctTokens() {
+        contextRunner.run(context -> {
+            UserService userService = context.getBean(UserService.class);
+            List<Long> heapSamples = new ArrayList<>();
+
+            heapSamples.add(usedHeap());
+            for (int i = 1; i <= TOKENS; i++) {
+                userService.getUserInfo("Bearer token-" + i);
+                if (i % SAMPLE_EVERY == 0) {
+                    heapSamples.add(usedHeap());
+                }
+            }
+
+            Cache<Object, Object> cache = nativeCache(context.getBean(CacheManager.class), "userInfoCache");
+            cache.cleanUp();
+            assertThat(cache.estimatedSize()).isLessThanOrEqualTo(MAXIMUM_SIZE);
+            assertThat(heapSamples.stream().mapToLong(Long::longValue).max().getAsLong()
+                           - heapSamples.stream().mapToLong(Long::longValue).min().getAsLong())
+                .as("heap growth across samples %s", heapSamples)
+                .isLessThan(MAX_HEAP_GROWTH_BYTES);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String cacheName) {
+        return (Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache();
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.civil.referencedata;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import uk.gov.hmcts.reform.civil.referencedata.model.LocationRefData;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourtLocationIndexTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofHours(1);
+    private static final Duration MAX_STALENESS = Duration.ofHours(24);
+    private static final Instant START = Instant.parse("2023-03-01T10:00:00Z");
+
+    private final Clock clock = mock(Clock.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private CourtLocationIndex courtLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(START);
+        courtLocationIndex = new CourtLocationIndex(REFRESH_INTERVAL, MAX_STALENESS, meterRegistry,
+                                                    new ExecutorServiceAdapter(new SyncTaskExecutor()), clock);
+    }
+
+    @Test
+    void shouldLoadSnapshotAndServeIt_whenNoSnapshotLoadedYet() {
+        assertThat(courtLocationIndex.getSnapshot("user_token", this::load)).isEmpty();
+
+        assertThat(courtLocationIndex.getSnapshot("user_token", this::load))
+            .hasValueSatisfying(snapshot -> assertThat(snapshot.getLoadedAt()).isEqualTo(START));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldServeStaleSnapshotWhileLoadingNewOne_whenRefreshIntervalPassed() {
+        courtLocationIndex.getSnapshot("user_token", this::load);
+        CourtLocationSnapshot first = courtLocationIndex.getSnapshot("user_token", this::load).orElseThrow();
+        when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL));
+
+        assertThat(courtLocationIndex.getSnapshot("user_token", this::load)).containsSame(first);
+        assertThat(courtLocationIndex.getSnapshot("user_token", this::load))
+            .hasValueSatisfying(snapshot -> assertThat(snapshot.getLoadedAt())
+                .isEqualTo(START.plus(REFRESH_INTERVAL)));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotServeSnapshot_whenOlderThanMaxStaleness() {
+        courtLocationIndex.getSnapshot("user_token", this::load);
+        when(clock.instant()).thenReturn(START.plus(MAX_STALENESS));
+
+        assertThat(courtLocationIndex.getSnapshot("user_token", token -> {
+            throw new IllegalStateException("LRD unavailable");
+        })).isEmpty();
+    }
+
+    @Test
+    void shouldKeepSnapshotAndWaitBeforeRetrying_whenLoadFails() {
+        courtLocationIndex.getSnapshot("user_token", this::load);
+        CourtLocationSnapshot first = courtLocationIndex.getSnapshot("user_token", this::load).orElseThrow();
+        Function<String, CourtLocationSnapshot> failingLoader = token -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("LRD unavailable");
+        };
+        when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL));
+
+        assertThat(courtLocationIndex.getSnapshot("user_token", failingLoader)).containsSame(first);
+        assertThat(courtLocationIndex.getSnapshot("user_token", failingLoader)).containsSame(first);
+        assertThat(loads).hasValue(2);
+
+        when(clock.instant()).thenReturn(START.plus(REFRESH_INTERVAL).plus(CourtLocationIndex.RETRY_INTERVAL));
+        courtLocationIndex.getSnapshot("user_token", this::load);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldReportEntriesAndStaleness_whenSnapshotLoaded() {
+        courtLocationIndex.getSnapshot("user_token", this::load);
+        when(clock.instant()).thenReturn(START.plusSeconds(90));
+
+        assertThat(meterRegistry.get("civil.lrd.court.locations.entries").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("civil.lrd.court.locations.staleness").gauge().value()).isEqualTo(90);
+        assertThat(meterRegistry.get("civil.lrd.court.locations.load.time").gauge().value()).isNotNegative();
+    }
+
+    private CourtLocationSnapshot load(String authToken) {
+        loads.incrementAndGet();
+        return new CourtLocationSnapshot(
+            List.of(
+                LocationRefData.builder().epimmsId("111").regionId("1").courtTypeId("10").build(),
+                LocationRefData.builder().epimmsId("222").regionId("2").courtTypeId("10").build()
+            ),
+            List.of(),
+            null,
+            clock.instant()
+        );
+    }
+}
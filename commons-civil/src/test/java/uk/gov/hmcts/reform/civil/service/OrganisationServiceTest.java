@@ -8,20 +8,29 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
 import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
 import uk.gov.hmcts.reform.civil.prd.model.Organisation;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static feign.Request.HttpMethod.GET;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +62,9 @@ class OrganisationServiceTest {
     @Mock
     private PrdAdminUserConfiguration userConfig;
 
+    @Mock
+    private ObjectProvider<CacheManager> cacheManager;
+
     @InjectMocks
     private OrganisationService organisationService;
 
@@ -108,4 +120,75 @@ class OrganisationServiceTest {
             assertThat(organisation).isEmpty();
         }
     }
+
+    @Nested
+    class FindOrganisationByIdWithCache {
+
+        private OrganisationService cachingOrganisationService;
+
+        @BeforeEach
+        void setUp() {
+            given(cacheManager.getIfAvailable())
+                .willReturn(new CaffeineCacheManager(OrganisationService.ORGANISATION_CACHE));
+            cachingOrganisationService = new OrganisationService(
+                organisationApi, authTokenGenerator, userService, userConfig, cacheManager);
+        }
+
+        @Test
+        void shouldRequestOrganisationOnce_whenLookedUpRepeatedly() {
+            cachingOrganisationService.findOrganisationById(ORG_ID);
+            var organisation = cachingOrganisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEqualTo(Optional.of(expectedOrganisation));
+        }
+
+        @Test
+        void shouldRequestOrganisationAgain_whenOrganisationNotFound() {
+            given(organisationApi.findOrganisationById(any(), any(), any())).willThrow(notFoundFeignException);
+
+            cachingOrganisationService.findOrganisationById(ORG_ID);
+            var organisation = cachingOrganisationService.findOrganisationById(ORG_ID);
+
+            verify(organisationApi, times(2)).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            assertThat(organisation).isEmpty();
+        }
+
+        @Test
+        void shouldShareOneRequest_whenOrganisationLookedUpConcurrently() throws Exception {
+            CountDownLatch requestStarted = new CountDownLatch(1);
+            CountDownLatch releaseRequest = new CountDownLatch(1);
+            given(organisationApi.findOrganisationById(any(), any(), any())).willAnswer(invocation -> {
+                requestStarted.countDown();
+                releaseRequest.await(5, TimeUnit.SECONDS);
+                return expectedOrganisation;
+            });
+
+            var first = CompletableFuture.supplyAsync(() -> cachingOrganisationService.findOrganisationById(ORG_ID));
+            assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            var second = CompletableFuture.supplyAsync(() -> cachingOrganisationService.findOrganisationById(ORG_ID));
+            releaseRequest.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(expectedOrganisation));
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(Optional.of(expectedOrganisation));
+            verify(organisationApi).findOrganisationById(any(), any(), any());
+        }
+
+        @Test
+        void shouldRequestOnlyOrganisationsNotCached_whenLookedUpInBatch() {
+            Organisation otherOrganisation = Organisation.builder().organisationIdentifier("OTHER ORG ID").build();
+            given(organisationApi.findOrganisationById(any(), any(), eq("OTHER ORG ID"))).willReturn(otherOrganisation);
+            given(organisationApi.findOrganisationById(any(), any(), eq("UNKNOWN ORG ID")))
+                .willThrow(notFoundFeignException);
+            cachingOrganisationService.findOrganisationById(ORG_ID);
+
+            var organisations = cachingOrganisationService.findOrganisationsById(
+                List.of(ORG_ID, "OTHER ORG ID", "UNKNOWN ORG ID", ORG_ID));
+
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, ORG_ID);
+            verify(organisationApi).findOrganisationById(PRD_ADMIN_AUTH_TOKEN, SERVICE_AUTH_TOKEN, "OTHER ORG ID");
+            verify(userService, times(2)).getAccessToken(userConfig.getUsername(), userConfig.getPassword());
+            assertThat(organisations).isEqualTo(Map.of(ORG_ID, expectedOrganisation, "OTHER ORG ID", otherOrganisation));
+        }
+    }
 }
@@ -66,4 +66,12 @@ class UserServiceTest {
 
         assertThat(accessToken).isEqualTo(AUTHORISATION);
     }
+
+    @Test
+    void shouldReturnAccessToken_whenRefreshed() {
+        when(idamClient.getAccessToken(SUB, PASSWORD)).thenReturn(AUTHORISATION);
+        String accessToken = userService.refreshAccessToken(SUB, PASSWORD);
+
+        assertThat(accessToken).isEqualTo(AUTHORISATION);
+    }
 }
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.reform.civil.controllers.BaseIntegrationTest;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Builds the callback dispatch from the handlers of the application, so that an event claimed by two handlers or a
+ * callback that cannot be reached fails here rather than at startup.
+ */
+class CallbackHandlerRegistrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private List<CallbackHandler> handlers;
+
+    @Autowired
+    private CaseDetailsConverter caseDetailsConverter;
+
+    @Test
+    void shouldBuildFactory_whenCompilingApplicationHandlers() {
+        assertThat(handlers).isNotEmpty();
+
+        assertThatCode(() -> new CallbackHandlerFactory(caseDetailsConverter, handlers.toArray(CallbackHandler[]::new)))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldHandleEveryEventWithOneHandler_whenApplicationHandlersRegistered() {
+        Map<CaseEvent, Set<String>> handlersByEvent = handlers.stream()
+            .flatMap(handler -> handler.handledEvents().stream()
+                .map(event -> Map.entry(event, handler.getClass().getName())))
+            .collect(Collectors.groupingBy(
+                Map.Entry::getKey,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toSet())
+            ));
+
+        assertThat(handlersByEvent).isNotEmpty()
+            .allSatisfy((event, handlerNames) -> assertThat(handlerNames).as(event.name()).hasSize(1));
+    }
+
+    @Test
+    void shouldCompileCallbacksOfEveryHandler_whenApplicationStarts() {
+        assertThat(handlers).allSatisfy(handler -> assertThat(handler.compileCallbacks()).isNotNull());
+    }
+}
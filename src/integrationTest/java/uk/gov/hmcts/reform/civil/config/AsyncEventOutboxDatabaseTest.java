@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxEntry;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Takes async events from the outbox concurrently, as several pods would, against an embedded Postgres.
+ */
+class AsyncEventOutboxDatabaseTest {
+
+    private static final String EVENT_TYPE = "uk.gov.hmcts.reform.civil.event.DismissClaimEvent";
+    private static final long LEASE = 60000;
+    private static final int EVENTS = 200;
+    private static final int PODS = 8;
+
+    private static EmbeddedPostgres postgres;
+
+    private final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+    private HikariDataSource dataSource;
+    private Jdbi dbi;
+    private AsyncEventOutboxRepository outbox;
+    private ExecutorService executorService;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getPostgresDatabase())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSourceProperties.setUsername("postgres");
+
+        dataSource = databaseConfiguration.dataSource(dataSourceProperties);
+        dbi = databaseConfiguration.dbi(databaseConfiguration.dataSourceProxy(dataSource));
+        outbox = databaseConfiguration.asyncEventOutboxRepository(dbi);
+        executorService = Executors.newFixedThreadPool(PODS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        dbi.useHandle(handle -> handle.execute("DELETE FROM async_event_outbox"));
+        dataSource.close();
+    }
+
+    @Test
+    void shouldNotTakeEvent_whilePublishingPodHoldsItsLease() {
+        outbox.add(EVENT_TYPE, "{\"caseId\":1}", LEASE);
+
+        assertThat(outbox.take(10, LEASE)).isEmpty();
+        assertThat(outbox.countPending()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTakeEventAgain_whenReleasedOrRetried() {
+        long id = outbox.add(EVENT_TYPE, "{\"caseId\":1}", LEASE);
+        outbox.release(id);
+
+        List<AsyncEventOutboxEntry> taken = outbox.take(10, LEASE);
+        assertThat(taken).singleElement().satisfies(entry -> {
+            assertThat(entry.getId()).isEqualTo(id);
+            assertThat(entry.getEventType()).isEqualTo(EVENT_TYPE);
+            assertThat(entry.getPayload()).isEqualTo("{\"caseId\":1}");
+            assertThat(entry.getCreatedAt()).isNotNull();
+            assertThat(entry.getAttempts()).isZero();
+        });
+        assertThat(outbox.take(10, LEASE)).isEmpty();
+
+        outbox.retryLater(id, 0);
+
+        assertThat(outbox.take(10, LEASE)).singleElement()
+            .satisfies(entry -> assertThat(entry.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void shouldNotTakeEvent_whenDeletedOrFailed() {
+        long handled = outbox.add(EVENT_TYPE, "{\"caseId\":1}", 0);
+        long failed = outbox.add(EVENT_TYPE, "{\"caseId\":2}", 0);
+
+        outbox.delete(handled);
+        outbox.markFailed(failed);
+
+        assertThat(outbox.take(10, LEASE)).isEmpty();
+        assertThat(outbox.countPending()).isZero();
+    }
+
+    @Test
+    void shouldTakeEachEventOnce_whenPodsTakeConcurrently() throws Exception {
+        IntStream.range(0, EVENTS).forEach(i -> outbox.add(EVENT_TYPE, "{\"caseId\":" + i + "}", 0));
+
+        Callable<List<Long>> pod = () -> outbox.take(10, LEASE).stream()
+            .map(AsyncEventOutboxEntry::getId)
+            .collect(Collectors.toList());
+        List<Long> taken = new ArrayList<>();
+        for (int round = 0; round < EVENTS / 10; round++) {
+            for (Future<List<Long>> future : executorService.invokeAll(
+                IntStream.range(0, PODS).mapToObj(i -> pod).collect(Collectors.toList()))) {
+                taken.addAll(future.get());
+            }
+        }
+
+        assertThat(taken).hasSize(EVENTS).doesNotHaveDuplicates();
+    }
+}
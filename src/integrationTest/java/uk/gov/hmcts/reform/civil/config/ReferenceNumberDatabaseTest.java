@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberBlockRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.civil.repositories.SpecReferenceNumberRepository;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives concurrent reference number allocation through the pooled data source against an embedded Postgres.
+ */
+class ReferenceNumberDatabaseTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int THREADS = 16;
+    private static final int REFERENCES = 400;
+    private static final int BLOCK_SIZE = 20;
+    private static final String POOL_NAME = "civil-reference-number-pool";
+
+    private static EmbeddedPostgres postgres;
+
+    private final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource dataSource;
+    private ExecutorService executorService;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getPostgresDatabase())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSourceProperties.setUsername("postgres");
+
+        dataSource = databaseConfiguration.dataSource(dataSourceProperties);
+        dataSource.setPoolName(POOL_NAME);
+        dataSource.setMaximumPoolSize(POOL_SIZE);
+        dataSource.setLeakDetectionThreshold(2000);
+        dataSource.setMetricRegistry(meterRegistry);
+
+        executorService = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        dataSource.close();
+    }
+
+    @Test
+    void shouldAllocateUniqueReferences_whenAllocatedConcurrentlyThroughPool() throws Exception {
+        ReferenceNumberRepository referenceNumberRepository = databaseConfiguration.referenceNumberRepository(
+            blockRepository(), BLOCK_SIZE);
+        SpecReferenceNumberRepository specReferenceNumberRepository = databaseConfiguration.specReferenceNumberRepository(
+            blockRepository(), BLOCK_SIZE);
+
+        Set<String> references = allocate(referenceNumberRepository::getReferenceNumber);
+        Set<String> specReferences = allocate(specReferenceNumberRepository::getSpecReferenceNumber);
+
+        assertThat(references).hasSize(REFERENCES).allMatch(reference -> reference.matches("\\d{3}DC\\d{3}"));
+        assertThat(specReferences).hasSize(REFERENCES).allMatch(reference -> reference.matches("\\d{3}MC\\d{3}"));
+        assertThat(dataSource.getHikariPoolMXBean().getTotalConnections()).isLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void shouldNotDuplicateReferences_whenReplicasAllocateFromSameSequence() throws Exception {
+        ReferenceNumberRepository replica = databaseConfiguration.referenceNumberRepository(
+            blockRepository(), BLOCK_SIZE);
+        ReferenceNumberRepository otherReplica = databaseConfiguration.referenceNumberRepository(
+            blockRepository(), BLOCK_SIZE);
+        ReferenceNumberRepository legacyReplica = () -> dbi().withHandle(
+            handle -> handle.createQuery("SELECT next_damages_claims_reference_number()").mapTo(String.class).one());
+
+        Set<String> references = new HashSet<>();
+        references.addAll(allocate(replica::getReferenceNumber));
+        references.addAll(allocate(otherReplica::getReferenceNumber));
+        references.addAll(allocate(legacyReplica::getReferenceNumber));
+
+        assertThat(references).hasSize(3 * REFERENCES);
+    }
+
+    @Test
+    void shouldExportPoolWaitAndUsageMetrics_whenReferencesAreAllocated() throws Exception {
+        ReferenceNumberRepository referenceNumberRepository = databaseConfiguration.referenceNumberRepository(
+            blockRepository(), 1);
+
+        allocate(referenceNumberRepository::getReferenceNumber);
+
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", POOL_NAME).timer().count())
+            .isGreaterThanOrEqualTo(REFERENCES);
+        assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", POOL_NAME).timer().count())
+            .isGreaterThanOrEqualTo(REFERENCES);
+        assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", POOL_NAME).gauge().value())
+            .isEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void shouldReserveReferencesInBlocks_whenAllocatingFromMemory() throws Exception {
+        ReferenceNumberRepository referenceNumberRepository = databaseConfiguration.referenceNumberRepository(
+            blockRepository(), BLOCK_SIZE);
+
+        allocate(referenceNumberRepository::getReferenceNumber);
+
+        assertThat(meterRegistry.get("hikaricp.connections.acquire").tag("pool", POOL_NAME).timer().count())
+            .isLessThanOrEqualTo(REFERENCES / BLOCK_SIZE);
+    }
+
+    private Jdbi dbi() {
+        return databaseConfiguration.dbi(databaseConfiguration.dataSourceProxy(dataSource));
+    }
+
+    private ReferenceNumberBlockRepository blockRepository() {
+        return databaseConfiguration.referenceNumberBlockRepository(dbi());
+    }
+
+    private Set<String> allocate(Callable<String> allocation) throws Exception {
+        List<Future<String>> futures = executorService.invokeAll(
+            IntStream.range(0, REFERENCES).mapToObj(i -> allocation).collect(Collectors.toList()));
+        Set<String> references = new HashSet<>();
+        for (Future<String> future : futures) {
+            references.add(future.get());
+        }
+        return references;
+    }
+}
@@ -51,7 +51,7 @@ public class EventAllowedAspect {
         CaseDetails caseDetails = callbackParams.getRequest().getCaseDetails();
         CaseData caseData = callbackParams.getCaseData();
 
-        if (flowStateAllowedEventService.isAllowed(caseDetails, caseEvent)) {
+        if (flowStateAllowedEventService.isAllowed(caseData, caseEvent)) {
             return joinPoint.proceed();
         } else {
             StringBuilder stateHistoryBuilder = new StringBuilder();
@@ -26,13 +26,11 @@ public class EventEmitterAspect {
     public Object emitBusinessProcessEvent(ProceedingJoinPoint joinPoint, CallbackParams callbackParams)
         throws Throwable {
         if (callbackParams.getType() == SUBMITTED) {
-            CaseData caseData = callbackParams.getCaseData();
-            var businessProcess = caseData.getBusinessProcess();
-            var camundaEvent = businessProcess.getCamundaEvent();
-            var caseId = caseData.getCcdCaseReference();
+            var businessProcess = callbackParams.getBusinessProcess();
             if (businessProcess != null && businessProcess.getStatus() == READY) {
+                CaseData caseData = callbackParams.getCaseData();
                 log.info(format("Emitting %s camunda event for case through submitted callback: %d",
-                                camundaEvent, caseId));
+                                businessProcess.getCamundaEvent(), caseData.getCcdCaseReference()));
                 eventEmitterService.emitBusinessProcessCamundaEvent(caseData, false);
             }
         }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowState;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
@@ -39,16 +40,16 @@ public class NoOngoingBusinessProcessAspect {
         CallbackParams callbackParams
     ) throws Throwable {
         CaseEvent caseEvent = CaseEvent.valueOf(callbackParams.getRequest().getEventId());
-        CaseData caseData = callbackParams.getCaseData();
 
         if (callbackParams.getType() == SUBMITTED
             || caseEvent.isCamundaEvent()
-            || caseData.hasNoOngoingBusinessProcess()
+            || BusinessProcess.isNotOngoing(callbackParams.getBusinessProcess())
             || generalAppsOrSDOOrReferToJudge(callbackParams)
             || caseEvent.equals(CaseEvent.migrateCase)
         ) {
             return joinPoint.proceed();
         }
+        CaseData caseData = callbackParams.getCaseData();
         StringBuilder stateHistoryBuilder = new StringBuilder();
         FlowState flowState = flowStateAllowedEventService.getFlowState(caseData);
         stateFlowEngine.evaluate(caseData).getStateHistory().forEach(s -> {
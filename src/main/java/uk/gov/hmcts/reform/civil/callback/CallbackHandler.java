@@ -10,13 +10,13 @@ import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import java.util.List;
 import java.util.Map;
 
-import static java.util.Optional.ofNullable;
-
 public abstract class CallbackHandler {
 
     private static final String DEFAULT = "default";
     private static final Logger LOG = LoggerFactory.getLogger(CallbackHandler.class);
 
+    private volatile CallbackTable callbackTable;
+
     protected abstract Map<String, Callback> callbacks();
 
     public abstract List<CaseEvent> handledEvents();
@@ -34,9 +34,9 @@ public abstract class CallbackHandler {
     }
 
     protected String callbackKey(CallbackVersion version, CallbackType type, String pageId) {
-        String formattedVersion = ofNullable(version).map(v -> v.toString() + "-").orElse("");
-        String formattedPageId = ofNullable(pageId).map(id -> "-" + id).orElse("");
-        return String.format("%s%s%s", formattedVersion, type.getValue(), formattedPageId);
+        String formattedVersion = version == null ? "" : version + "-";
+        String formattedPageId = pageId == null ? "" : "-" + pageId;
+        return formattedVersion + type.getValue() + formattedPageId;
     }
 
     public String camundaActivityId(CallbackParams callbackParams) {
@@ -57,26 +57,44 @@ public abstract class CallbackHandler {
             handledEvent -> handlers.put(handledEvent.name(), this));
     }
 
-    public CallbackResponse handle(CallbackParams callbackParams) {
-        String callbackKey;
-
-        callbackKey = callbackKey(callbackParams.getVersion(), callbackParams.getType(), callbackParams.getPageId());
-
-        if (ofNullable(callbacks().get(callbackKey)).isEmpty()) {
-            LOG.info(String.format("No implementation found for %s, falling back to default", callbackKey));
-            callbackKey = callbackKey(callbackParams.getType(), callbackParams.getPageId());
+    /**
+     * Compiles the callbacks of this handler into the table used to dispatch requests to them. Called once at
+     * startup by {@link CallbackHandlerFactory}, or on the first request for handlers used on their own.
+     */
+    CallbackTable compileCallbacks() {
+        CallbackTable table = callbackTable;
+        if (table == null) {
+            table = CallbackTable.compile(getClass().getName(), callbacks());
+            callbackTable = table;
         }
+        return table;
+    }
 
-        return ofNullable(callbacks().get(callbackKey))
-            .map(callback -> callback.execute(callbackParams))
-            .orElseThrow(() -> new CallbackException(
+    public CallbackResponse handle(CallbackParams callbackParams) {
+        CallbackTable table = compileCallbacks();
+        CallbackVersion version = callbackParams.getVersion();
+        CallbackType type = callbackParams.getType();
+        String pageId = callbackParams.getPageId();
+
+        Callback callback = table.get(version, type, pageId);
+        if (callback == null && version != null) {
+            LOG.debug(
+                "No implementation found for version {}, type {} and page id {}, falling back to default",
+                version, type, pageId
+            );
+            callback = table.get(null, type, pageId);
+        }
+        if (callback == null) {
+            throw new CallbackException(
                 String.format(
                     "Callback for event %s, version %s, type %s and page id %s not implemented",
                     callbackParams.getRequest().getEventId(),
-                    callbackParams.getVersion(),
-                    callbackParams.getType(),
-                    callbackParams.getPageId()
-                )));
+                    version,
+                    type,
+                    pageId
+                ));
+        }
+        return callback.execute(callbackParams);
     }
 
     /**
@@ -9,11 +9,11 @@ import uk.gov.hmcts.reform.civil.aspect.EventAllowed;
 import uk.gov.hmcts.reform.civil.aspect.EventEmitter;
 import uk.gov.hmcts.reform.civil.aspect.NoOngoingBusinessProcess;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
-import uk.gov.hmcts.reform.civil.model.CaseData;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -22,13 +22,37 @@ import static java.util.Optional.ofNullable;
 @Slf4j
 public class CallbackHandlerFactory {
 
-    private final HashMap<String, CallbackHandler> eventHandlers = new HashMap<>();
+    private final Map<String, CallbackHandler> eventHandlers;
     private final CaseDetailsConverter caseDetailsConverter;
 
     @Autowired
     public CallbackHandlerFactory(CaseDetailsConverter caseDetailsConverter, CallbackHandler... beans) {
         this.caseDetailsConverter = caseDetailsConverter;
-        Arrays.asList(beans).forEach(bean -> bean.register(eventHandlers));
+        this.eventHandlers = compileHandlers(beans);
+    }
+
+    /**
+     * Compiles the callbacks of every handler up front and maps each event to its handler, so that a handler
+     * whose callbacks cannot be reached or an event claimed by two handlers stops the application starting
+     * rather than failing the first request.
+     */
+    private static Map<String, CallbackHandler> compileHandlers(CallbackHandler... beans) {
+        Map<String, CallbackHandler> handlers = new HashMap<>();
+        Arrays.stream(beans).forEach(bean -> {
+            bean.compileCallbacks();
+            Map<String, CallbackHandler> registered = new HashMap<>();
+            bean.register(registered);
+            registered.forEach((eventId, handler) -> {
+                CallbackHandler existing = handlers.putIfAbsent(eventId, handler);
+                if (existing != null && existing != handler) {
+                    throw new IllegalStateException(String.format(
+                        "Event %s is handled by both %s and %s",
+                        eventId, existing.getClass().getName(), handler.getClass().getName()
+                    ));
+                }
+            });
+        });
+        return Map.copyOf(handlers);
     }
 
     @EventAllowed
@@ -43,8 +67,7 @@ public class CallbackHandlerFactory {
 
     private CallbackResponse processEvent(CallbackHandler handler, CallbackParams callbackParams, String eventId) {
         return Optional.ofNullable(callbackParams.getRequest().getCaseDetailsBefore())
-            .map(caseDetailsConverter::toCaseData)
-            .map(CaseData::getBusinessProcess)
+            .map(caseDetailsConverter::toBusinessProcess)
             .map(businessProcess -> handler.isEventAlreadyProcessed(callbackParams, businessProcess))
             .filter(isProcessed -> isProcessed)
             .map(isProcessed -> eventAlreadyProcessedResponse(eventId))
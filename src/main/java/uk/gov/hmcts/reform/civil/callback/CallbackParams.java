@@ -1,8 +1,11 @@
 package uk.gov.hmcts.reform.civil.callback;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 
 import java.util.Map;
@@ -17,6 +20,30 @@ public class CallbackParams {
     private CallbackVersion version;
     private String pageId;
     private CaseData caseData;
+    @Getter(AccessLevel.NONE)
+    private CaseDetailsConverter caseDetailsConverter;
+
+    /**
+     * Returns the case data given when building the parameters or, when a converter was given instead, the case
+     * details of the request converted to case data the first time they are needed.
+     */
+    public CaseData getCaseData() {
+        if (caseData == null && caseDetailsConverter != null && request != null) {
+            caseData = caseDetailsConverter.toCaseData(request.getCaseDetails());
+        }
+        return caseData;
+    }
+
+    /**
+     * Returns the business process of the case, reading only that property of the request's case details unless
+     * they have already been converted to case data.
+     */
+    public BusinessProcess getBusinessProcess() {
+        if (caseData == null && caseDetailsConverter != null && request != null) {
+            return caseDetailsConverter.toBusinessProcess(request.getCaseDetails());
+        }
+        return caseData == null ? null : caseData.getBusinessProcess();
+    }
 
     public enum Params {
         BEARER_TOKEN
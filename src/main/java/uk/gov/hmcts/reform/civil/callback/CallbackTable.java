@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Callbacks of a handler compiled from their string keys into a table indexed by callback type, page id and
+ * version, so that finding the callback for a request is a couple of map lookups and an array index rather than
+ * formatting a key and rebuilding the handler's callbacks.
+ */
+final class CallbackTable {
+
+    private static final CallbackType[] TYPES_BY_VALUE_LENGTH = Arrays.stream(CallbackType.values())
+        .sorted(Comparator.comparingInt((CallbackType type) -> type.getValue().length()).reversed())
+        .toArray(CallbackType[]::new);
+
+    private final Map<CallbackType, Pages> callbacksByType;
+
+    private CallbackTable(Map<CallbackType, Pages> callbacksByType) {
+        this.callbacksByType = callbacksByType;
+    }
+
+    /**
+     * Compiles the callbacks of a handler, failing if a key cannot be reached by any request.
+     *
+     * @param handlerName name of the handler the callbacks belong to, used in error messages
+     * @param callbacks   callbacks keyed by {@link CallbackHandler#callbackKey(CallbackVersion, CallbackType, String)}
+     * @return compiled callbacks
+     */
+    static CallbackTable compile(String handlerName, Map<String, Callback> callbacks) {
+        Map<CallbackType, Pages> callbacksByType = new EnumMap<>(CallbackType.class);
+        callbacks.forEach((key, callback) -> {
+            CallbackVersion version = versionOf(key);
+            String typeAndPage = version == null ? key : key.substring(version.name().length() + 1);
+            CallbackType type = typeOf(typeAndPage);
+            if (type == null) {
+                throw new IllegalStateException(String.format(
+                    "Callback key %s of %s does not match any callback type", key, handlerName));
+            }
+            String pageId = typeAndPage.length() == type.getValue().length()
+                ? null
+                : typeAndPage.substring(type.getValue().length() + 1);
+
+            Callback[] byVersion = callbacksByType.computeIfAbsent(type, t -> new Pages()).versionsOf(pageId);
+            int index = versionIndex(version);
+            if (byVersion[index] != null) {
+                throw new IllegalStateException(String.format(
+                    "Callback key %s of %s is registered more than once", key, handlerName));
+            }
+            byVersion[index] = callback;
+        });
+        return new CallbackTable(callbacksByType);
+    }
+
+    /**
+     * Returns the callback registered for exactly the version, type and page id, or null if there is none.
+     */
+    Callback get(CallbackVersion version, CallbackType type, String pageId) {
+        Pages pages = callbacksByType.get(type);
+        if (pages == null) {
+            return null;
+        }
+        Callback[] byVersion = pageId == null ? pages.withoutPageId : pages.byPageId.get(pageId);
+        return byVersion == null ? null : byVersion[versionIndex(version)];
+    }
+
+    private static CallbackVersion versionOf(String key) {
+        for (CallbackVersion version : CallbackVersion.values()) {
+            if (key.startsWith(version.name() + "-")) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    private static CallbackType typeOf(String typeAndPage) {
+        for (CallbackType type : TYPES_BY_VALUE_LENGTH) {
+            String value = type.getValue();
+            if (typeAndPage.equals(value)
+                || typeAndPage.startsWith(value) && typeAndPage.charAt(value.length()) == '-') {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static int versionIndex(CallbackVersion version) {
+        return version == null ? 0 : version.ordinal() + 1;
+    }
+
+    private static final class Pages {
+
+        private Callback[] withoutPageId;
+        private final Map<String, Callback[]> byPageId = new HashMap<>();
+
+        private Callback[] versionsOf(String pageId) {
+            if (pageId == null) {
+                if (withoutPageId == null) {
+                    withoutPageId = new Callback[CallbackVersion.values().length + 1];
+                }
+                return withoutPageId;
+            }
+            return byPageId.computeIfAbsent(pageId, id -> new Callback[CallbackVersion.values().length + 1]);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+import uk.gov.hmcts.reform.civil.service.eventbus.AsyncEventBus;
+import uk.gov.hmcts.reform.civil.service.eventbus.AsyncEventMulticaster;
+
+@Configuration
+@ConditionalOnProperty("async-events.enabled")
+public class AsyncEventBusConfiguration {
+
+    /**
+     * Replaces the multicaster of the application context, so it is created before any other bean and must not
+     * depend on them directly.
+     */
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public static AsyncEventMulticaster applicationEventMulticaster(ObjectProvider<AsyncEventBus> eventBus) {
+        return new AsyncEventMulticaster(eventBus);
+    }
+
+    @Bean
+    public AsyncEventBus asyncEventBus(AsyncEventConfiguration configuration,
+                                       AsyncEventMulticaster multicaster,
+                                       MeterRegistry meterRegistry,
+                                       ObjectMapper mapper,
+                                       ObjectProvider<AsyncEventOutboxRepository> outbox) {
+        return new AsyncEventBus(configuration, multicaster::deliver, meterRegistry, mapper, outbox.getIfAvailable());
+    }
+}
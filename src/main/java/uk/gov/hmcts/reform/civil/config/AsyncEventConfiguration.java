@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "async-events")
+public class AsyncEventConfiguration {
+
+    /**
+     * Number of events of each type waiting to be handled before publishers handle them themselves, or leave them
+     * in the outbox.
+     */
+    private int queueCapacity = 1000;
+    /**
+     * Number of events of each type handled at a time.
+     */
+    private int concurrency = 4;
+    /**
+     * Number of events handled at a time for the event types given, keyed by simple class name.
+     */
+    private Map<String, Integer> concurrencyByType = new HashMap<>();
+    private Retry retry = new Retry();
+    private Outbox outbox = new Outbox();
+
+    public int getConcurrency(Class<?> eventType) {
+        return concurrencyByType.getOrDefault(eventType.getSimpleName(), concurrency);
+    }
+
+    @Data
+    public static class Retry {
+
+        private int maxAttempts = 3;
+        private long initialBackoff = 1000;
+        private long maxBackoff = 10000;
+    }
+
+    @Data
+    public static class Outbox {
+
+        /**
+         * Whether events are kept in the reference database until they have been handled.
+         */
+        private boolean enabled;
+        /**
+         * How often the outbox is checked for events to handle, in milliseconds.
+         */
+        private long pollInterval = 5000;
+        /**
+         * How long an event taken from the outbox is left to one pod to handle, in milliseconds.
+         */
+        private long lease = 300000;
+        /**
+         * How long to wait before handling an event again after all its retries failed, in milliseconds.
+         */
+        private long retryDelay = 60000;
+        /**
+         * Number of times an event is taken from the outbox before it is marked as failed.
+         */
+        private int maxAttempts = 10;
+        private int batchSize = 100;
+    }
+}
@@ -1,15 +1,20 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberAllocator;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberBlockRepository;
 import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberRepository;
 import uk.gov.hmcts.reform.civil.repositories.SpecReferenceNumberRepository;
 
@@ -22,8 +27,22 @@ public class DatabaseConfiguration {
     @Primary
     @ConfigurationProperties(prefix = "spring.datasource")
     @Bean
-    public DataSource dataSource() {
-        return new DriverManagerDataSource();
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Primary
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    @Bean
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(dataSourceProperties.getUrl());
+        dataSource.setUsername(dataSourceProperties.getUsername());
+        dataSource.setPassword(dataSourceProperties.getPassword());
+        if (dataSourceProperties.getDriverClassName() != null) {
+            dataSource.setDriverClassName(dataSourceProperties.getDriverClassName());
+        }
+        return dataSource;
     }
 
     @Bean
@@ -44,13 +63,34 @@ public class DatabaseConfiguration {
     }
 
     @Bean
-    public ReferenceNumberRepository referenceNumberRepository(Jdbi dbi) {
-        return dbi.onDemand(ReferenceNumberRepository.class);
+    public ReferenceNumberBlockRepository referenceNumberBlockRepository(Jdbi dbi) {
+        return dbi.onDemand(ReferenceNumberBlockRepository.class);
+    }
+
+    @Bean
+    public ReferenceNumberRepository referenceNumberRepository(
+        ReferenceNumberBlockRepository referenceNumberBlockRepository,
+        @Value("${reference.database.blockSize:20}") int blockSize
+    ) {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(
+            "DC", blockSize, referenceNumberBlockRepository::reserveReferenceNumbers);
+        return allocator::allocate;
+    }
+
+    @Bean
+    public SpecReferenceNumberRepository specReferenceNumberRepository(
+        ReferenceNumberBlockRepository referenceNumberBlockRepository,
+        @Value("${reference.database.blockSize:20}") int blockSize
+    ) {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(
+            "MC", blockSize, referenceNumberBlockRepository::reserveSpecReferenceNumbers);
+        return allocator::allocate;
     }
 
     @Bean
-    public SpecReferenceNumberRepository specReferenceNumberRepository(Jdbi dbi) {
-        return dbi.onDemand(SpecReferenceNumberRepository.class);
+    @ConditionalOnProperty("async-events.outbox.enabled")
+    public AsyncEventOutboxRepository asyncEventOutboxRepository(Jdbi dbi) {
+        return dbi.onDemand(AsyncEventOutboxRepository.class);
     }
 
 }
@@ -10,26 +10,47 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkers;
 
 @Configuration
 public class ExternalTaskListenerConfiguration {
 
+    private static final int DEFAULT_MAX_TASKS = 10;
+
     private final String baseUrl;
     private final AuthTokenGenerator authTokenGenerator;
+    private final ExternalTaskWorkerConfiguration workerConfiguration;
 
     @Autowired
     public ExternalTaskListenerConfiguration(@Value("${feign.client.config.remoteRuntimeService.url}") String baseUrl,
-                                             AuthTokenGenerator authTokenGenerator) {
+                                             AuthTokenGenerator authTokenGenerator,
+                                             ExternalTaskWorkerConfiguration workerConfiguration) {
         this.baseUrl = baseUrl;
         this.authTokenGenerator = authTokenGenerator;
+        this.workerConfiguration = workerConfiguration;
     }
 
     @Bean
     public ExternalTaskClient client() {
+        return buildClient(DEFAULT_MAX_TASKS);
+    }
+
+    @Bean
+    public ExternalTaskWorkers externalTaskWorkers(ExternalTaskClient client) {
+        return new ExternalTaskWorkers(client, this::buildClient, workerConfiguration.getWorkers());
+    }
+
+    private ExternalTaskClient buildClient(int maxTasks) {
+        ExternalTaskWorkerConfiguration.Backoff backoff = workerConfiguration.getBackoff();
         return ExternalTaskClient.create()
             .addInterceptor(new ServiceAuthProvider())
             .asyncResponseTimeout(29000)
-            .backoffStrategy(new ExponentialBackoffStrategy(0, 0, 0))
+            .maxTasks(maxTasks)
+            .backoffStrategy(new ExponentialBackoffStrategy(
+                backoff.getInitTime(),
+                backoff.getFactor(),
+                backoff.getMaxTime()
+            ))
             .baseUrl(baseUrl)
             .build();
     }
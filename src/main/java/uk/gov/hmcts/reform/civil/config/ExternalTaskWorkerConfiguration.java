@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "external-task")
+public class ExternalTaskWorkerConfiguration {
+
+    /**
+     * How long to wait before fetching again after a fetch returned no tasks or failed.
+     */
+    private Backoff backoff = new Backoff();
+    /**
+     * Topics handled by workers of their own, keyed by topic name.
+     */
+    private Map<String, Worker> workers = new HashMap<>();
+
+    @Data
+    public static class Backoff {
+
+        private long initTime = 500;
+        private float factor = 2;
+        private long maxTime = 5000;
+    }
+
+    @Data
+    public static class Worker {
+
+        /**
+         * Number of tasks fetched and locked at a time, and of threads handling them.
+         */
+        private int maxTasks = 1;
+        /**
+         * How long fetched tasks are locked for, in milliseconds.
+         */
+        private long lockDuration = 60000;
+    }
+}
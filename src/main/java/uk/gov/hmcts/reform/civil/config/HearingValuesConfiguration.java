@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.civil.config;
+
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+public class HearingValuesConfiguration {
+
+    private final Duration categoriesTimeout;
+    private final Duration organisationsTimeout;
+
+    public HearingValuesConfiguration(
+        @Value("${hearing-values.timeout.categories-millis:5000}") long categoriesTimeoutMillis,
+        @Value("${hearing-values.timeout.organisations-millis:5000}") long organisationsTimeoutMillis) {
+        this.categoriesTimeout = Duration.ofMillis(categoriesTimeoutMillis);
+        this.organisationsTimeout = Duration.ofMillis(organisationsTimeoutMillis);
+    }
+}
@@ -1,7 +1,9 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,4 +29,14 @@ public class JacksonConfiguration {
             builder.serializers(new LocalDateTimeSerializer(DATE_TIME_FORMATTER));
         };
     }
+
+    /**
+     * Replaces the reflective getter, setter and builder calls Jackson makes for every property with generated
+     * lambdas, which matters when converting case data with several hundred properties on every callback. The
+     * properties, names and values serialised are unchanged.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
 }
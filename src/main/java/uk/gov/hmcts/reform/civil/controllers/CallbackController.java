@@ -62,7 +62,7 @@ public class CallbackController {
             .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, authorisation))
             .version(version.orElse(null))
             .pageId(pageId.orElse(null))
-            .caseData(caseDetailsConverter.toCaseData(callback.getCaseDetails()))
+            .caseDetailsConverter(caseDetailsConverter)
             .build();
 
         return callbackHandlerFactory.dispatch(callbackParams);
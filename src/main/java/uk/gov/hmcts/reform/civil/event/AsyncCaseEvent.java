@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.civil.event;
+
+/**
+ * An event about a case whose listeners are called after it is published rather than while it is, so that the
+ * publisher does not wait for their calls to CCD. When the async event bus is disabled, or outside of the
+ * application, its listeners are called while it is published like those of any other event.
+ */
+public interface AsyncCaseEvent {
+
+    Long getCaseId();
+}
@@ -3,7 +3,7 @@ package uk.gov.hmcts.reform.civil.event;
 import lombok.Value;
 
 @Value
-public class DecisionOutcomeEvent {
+public class DecisionOutcomeEvent implements AsyncCaseEvent {
 
     Long caseId;
 }
@@ -3,7 +3,7 @@ package uk.gov.hmcts.reform.civil.event;
 import lombok.Value;
 
 @Value
-public class EvidenceUploadNotificationEvent {
+public class EvidenceUploadNotificationEvent implements AsyncCaseEvent {
 
     Long caseId;
 }
@@ -23,6 +23,7 @@ import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.PROCESS_CLAIM_ISSUE;
 import static uk.gov.hmcts.reform.civil.enums.YesOrNo.NO;
 import static uk.gov.hmcts.reform.civil.enums.YesOrNo.YES;
+import static uk.gov.hmcts.reform.civil.utils.CaseDataDeltaUtils.mergeChangedData;
 
 @Service
 @RequiredArgsConstructor
@@ -58,7 +59,7 @@ public class ClaimIssueCallbackHandler extends CallbackHandler {
         clearOrganisationPolicyId(caseData, caseDataUpdated);
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.build().toMap(objectMapper))
+            .data(mergeChangedData(callbackParams, caseDataUpdated.build(), objectMapper))
             .build();
     }
 
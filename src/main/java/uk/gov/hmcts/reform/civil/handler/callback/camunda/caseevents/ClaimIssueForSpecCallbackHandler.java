@@ -19,6 +19,7 @@ import java.util.Map;
 
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.PROCESS_CLAIM_ISSUE_SPEC;
+import static uk.gov.hmcts.reform.civil.utils.CaseDataDeltaUtils.mergeChangedData;
 
 @Service
 @RequiredArgsConstructor
@@ -48,7 +49,7 @@ public class ClaimIssueForSpecCallbackHandler extends CallbackHandler {
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(mergeChangedData(callbackParams, caseDataUpdated, objectMapper))
             .build();
     }
 
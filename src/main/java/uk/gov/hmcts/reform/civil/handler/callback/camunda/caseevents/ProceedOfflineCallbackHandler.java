@@ -18,6 +18,7 @@ import java.util.Map;
 
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.PROCEEDS_IN_HERITAGE_SYSTEM;
+import static uk.gov.hmcts.reform.civil.utils.CaseDataDeltaUtils.mergeChangedData;
 
 @Service
 @RequiredArgsConstructor
@@ -44,7 +45,7 @@ public class ProceedOfflineCallbackHandler extends CallbackHandler {
             .build();
 
         return AboutToStartOrSubmitCallbackResponse.builder()
-            .data(caseDataUpdated.toMap(objectMapper))
+            .data(mergeChangedData(callbackParams, caseDataUpdated, objectMapper))
             .build();
     }
 
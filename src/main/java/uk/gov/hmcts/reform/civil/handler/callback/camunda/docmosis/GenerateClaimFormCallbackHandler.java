@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
 import uk.gov.hmcts.reform.civil.service.Time;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
 import uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim.LitigantInPersonFormGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim.SealedClaimFormGenerator;
 import uk.gov.hmcts.reform.civil.service.stitching.CivilDocumentStitchingService;
@@ -42,6 +43,7 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
     private static final String BUNDLE_NAME = "Sealed Claim Form with LiP Claim Form";
 
     private final CivilDocumentStitchingService civilDocumentStitchingService;
+    private final DocumentPipeline documentPipeline;
     private final LitigantInPersonFormGenerator litigantInPersonFormGenerator;
     private final SealedClaimFormGenerator sealedClaimFormGenerator;
     private final ObjectMapper objectMapper;
@@ -71,23 +73,22 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
     private CallbackResponse generateClaimForm(CallbackParams callbackParams) {
         CaseData caseData = callbackParams.getCaseData();
         LocalDate issueDate = time.now().toLocalDate();
+        String authorisation = callbackParams.getParams().get(BEARER_TOKEN).toString();
 
         CaseData.CaseDataBuilder<?, ?> caseDataBuilder = caseData.toBuilder().issueDate(issueDate);
-
-        CaseDocument sealedClaim = sealedClaimFormGenerator.generate(
-            caseDataBuilder.build(),
-            callbackParams.getParams().get(BEARER_TOKEN).toString()
-        );
-        assignCategoryId.assignCategoryIdToCaseDocument(sealedClaim, "detailsOfClaim");
+        CaseData issuedCaseData = caseDataBuilder.build();
 
         if (featureToggleService.isNoticeOfChangeEnabled() && stitchEnabled
             && (YesOrNo.NO.equals(caseData.getRespondent1Represented())
             || YesOrNo.NO.equals(caseData.getRespondent2Represented()))) {
 
-            CaseDocument lipForm = litigantInPersonFormGenerator.generate(
-                caseDataBuilder.build(),
-                callbackParams.getParams().get(BEARER_TOKEN).toString()
-            );
+            List<CaseDocument> forms = documentPipeline.joinAll(List.of(
+                documentPipeline.submit(() -> sealedClaimFormGenerator.generate(issuedCaseData, authorisation)),
+                documentPipeline.submit(() -> litigantInPersonFormGenerator.generate(issuedCaseData, authorisation))
+            ));
+            CaseDocument sealedClaim = forms.get(0);
+            CaseDocument lipForm = forms.get(1);
+            assignCategoryId.assignCategoryIdToCaseDocument(sealedClaim, "detailsOfClaim");
 
             List<DocumentMetaData> documents = Arrays.asList(
                 new DocumentMetaData(
@@ -102,18 +103,20 @@ public class GenerateClaimFormCallbackHandler extends CallbackHandler {
                 )
             );
 
-            CaseDocument sealedClaimFormWithLiPForm =
-                civilDocumentStitchingService.bundle(
+            CaseDocument sealedClaimFormWithLiPForm = documentPipeline.stitch(
+                () -> civilDocumentStitchingService.bundle(
                     documents,
-                    callbackParams.getParams().get(CallbackParams.Params.BEARER_TOKEN).toString(),
+                    authorisation,
                     sealedClaim.getDocumentName(),
                     BUNDLE_NAME,
                     caseData
-                );
+                ));
 
             caseDataBuilder.systemGeneratedCaseDocuments(wrapElements(sealedClaimFormWithLiPForm));
 
         } else {
+            CaseDocument sealedClaim = sealedClaimFormGenerator.generate(issuedCaseData, authorisation);
+            assignCategoryId.assignCategoryIdToCaseDocument(sealedClaim, "detailsOfClaim");
             caseDataBuilder.systemGeneratedCaseDocuments(wrapElements(sealedClaim));
         }
 
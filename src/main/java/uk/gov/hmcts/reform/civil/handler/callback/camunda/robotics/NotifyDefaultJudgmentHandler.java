@@ -8,13 +8,13 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapperForSpec;
 
 import java.util.List;
 import java.util.Map;
 
-import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.NOTIFY_RPA_DJ_SPEC;
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.NOTIFY_RPA_DJ_UNSPEC;
@@ -65,13 +65,12 @@ public class NotifyDefaultJudgmentHandler extends NotifyRoboticsHandler {
     }
 
     @Override
-    protected void sendNotifications(CallbackParams callbackParams, CaseData caseData, boolean multiPartyScenario) {
+    protected void sendNotifications(CallbackParams callbackParams, CaseData caseData, boolean multiPartyScenario,
+                                     RoboticsCaseDataDTO roboticsCaseData) {
         if (toggleService.isPinInPostEnabled() && caseData.isRespondent1NotRepresented()) {
             roboticsNotificationService.notifyJudgementLip(caseData);
         } else {
-            roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario,
-                                                       callbackParams.getParams().get(BEARER_TOKEN).toString()
-            );
+            roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario, roboticsCaseData);
         }
     }
 
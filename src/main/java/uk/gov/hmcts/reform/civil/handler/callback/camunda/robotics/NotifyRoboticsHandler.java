@@ -14,6 +14,7 @@ import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.RoboticsDataException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
@@ -38,30 +39,34 @@ public abstract class NotifyRoboticsHandler extends CallbackHandler {
 
     protected CallbackResponse notifyRobotics(CallbackParams callbackParams) {
         if (toggleService.isRPAEmailEnabled()) {
-            RoboticsCaseData roboticsCaseData = null;
-            RoboticsCaseDataSpec roboticsCaseDataSpec = null;
-            Set<ValidationMessage> errors = null;
-
             CaseData caseData = callbackParams.getCaseData();
             String legacyCaseReference = caseData.getLegacyCaseReference();
             boolean multiPartyScenario = isMultiPartyScenario(caseData);
             try {
                 log.info(String.format("Start notify robotics for %s", legacyCaseReference));
+                RoboticsCaseDataDTO roboticsCaseData;
                 if (SPEC_CLAIM.equals(caseData.getCaseAccessCategory())) {
-                    roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
-                    errors = jsonSchemaValidationService.validate(roboticsCaseDataSpec.toJsonString());
+                    RoboticsCaseDataSpec roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
+                    roboticsCaseData = RoboticsCaseDataDTO.builder()
+                        .jsonRawData(roboticsCaseDataSpec.toJsonBytes())
+                        .events(roboticsCaseDataSpec.getEvents())
+                        .build();
                 } else {
                     log.info(String.format("Unspec robotics Data Mapping for %s", legacyCaseReference));
-                    roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(
+                    RoboticsCaseData roboticsCaseDataUnspec = roboticsDataMapper.toRoboticsCaseData(
                         caseData,
                         callbackParams.getParams().get(BEARER_TOKEN).toString()
                     );
-                    errors = jsonSchemaValidationService.validate(roboticsCaseData.toJsonString());
+                    roboticsCaseData = RoboticsCaseDataDTO.builder()
+                        .jsonRawData(roboticsCaseDataUnspec.toJsonBytes())
+                        .events(roboticsCaseDataUnspec.getEvents())
+                        .build();
                 }
+                Set<ValidationMessage> errors = jsonSchemaValidationService.validate(roboticsCaseData.getJsonRawData());
 
                 if (errors == null || errors.isEmpty()) {
                     log.info(String.format("Valid RPA Json payload for %s", legacyCaseReference));
-                    sendNotifications(callbackParams, caseData, multiPartyScenario);
+                    sendNotifications(callbackParams, caseData, multiPartyScenario, roboticsCaseData);
                 } else {
                     throw new JsonSchemaValidationException(
                         format("Invalid RPA Json payload for %s", legacyCaseReference), errors);
@@ -73,9 +78,13 @@ public abstract class NotifyRoboticsHandler extends CallbackHandler {
         return AboutToStartOrSubmitCallbackResponse.builder().build();
     }
 
-    protected void sendNotifications(CallbackParams callbackParams, CaseData caseData, boolean multiPartyScenario) {
-        roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario,
-                                                   callbackParams.getParams().get(BEARER_TOKEN).toString()
-        );
+    /**
+     * Sends the payload built and validated for the case.
+     *
+     * @param roboticsCaseData the serialised payload, attached to the notification as it is
+     */
+    protected void sendNotifications(CallbackParams callbackParams, CaseData caseData, boolean multiPartyScenario,
+                                     RoboticsCaseDataDTO roboticsCaseData) {
+        roboticsNotificationService.notifyRobotics(caseData, multiPartyScenario, roboticsCaseData);
     }
 }
@@ -1,19 +1,20 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
 import org.camunda.bpm.engine.RuntimeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.civil.handler.tasks.variables.HearingNoticeMessageVars;
 import uk.gov.hmcts.reform.civil.handler.tasks.variables.HearingNoticeSchedulerVars;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.service.UserService;
-import uk.gov.hmcts.reform.civil.service.data.UserAuthContent;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.utils.HmcDataUtils;
 import uk.gov.hmcts.reform.hmc.model.hearing.HearingGetResponse;
 import uk.gov.hmcts.reform.hmc.model.hearing.ListAssistCaseStatus;
@@ -25,12 +26,24 @@ import uk.gov.hmcts.reform.hmc.service.HearingsService;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
 
 import static java.util.Optional.ofNullable;
 
+/**
+ * Dispatches a hearing notice for every unnotified hearing whose listing has changed since its parties were last
+ * notified. Hearings are processed concurrently, at most hearing-notice.scheduler.concurrency at a time, with one
+ * system user token per run. The ids of hearings already dispatched are kept in the scheduler process and dropped
+ * once HMC no longer lists them as unnotified, so a hearing is never dispatched twice while HMC still lists it and
+ * the process variable holds no more ids than HMC lists.
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
 
@@ -41,10 +54,27 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
     private final RuntimeService runtimeService;
     private final FeatureToggleService featureToggleService;
     private final ObjectMapper mapper;
+    private final ExecutorService hearingExecutor;
+
+    public AutomatedHearingNoticeHandler(UserService userService,
+                                         SystemUpdateUserConfiguration userConfig,
+                                         HearingsService hearingsService,
+                                         RuntimeService runtimeService,
+                                         FeatureToggleService featureToggleService,
+                                         ObjectMapper mapper,
+                                         @Value("${hearing-notice.scheduler.concurrency:4}") int concurrency) {
+        this.userService = userService;
+        this.userConfig = userConfig;
+        this.hearingsService = hearingsService;
+        this.runtimeService = runtimeService;
+        this.featureToggleService = featureToggleService;
+        this.mapper = mapper;
+        this.hearingExecutor = Executors.newFixedThreadPool(concurrency, hearingThreadFactory());
+    }
 
     @Override
     @SuppressWarnings("unchecked")
-    public void handleTask(ExternalTask externalTask) {
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
         if (!featureToggleService.isAutomatedHearingNoticeEnabled()) {
             runtimeService.setVariables(
                 externalTask.getProcessInstanceId(),
@@ -52,63 +82,73 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
                     .totalNumberOfUnnotifiedHearings(0)
                     .build().toMap(mapper)
             );
-            return;
+            return ExternalTaskData.builder().build();
         }
 
         var schedulerVars = mapper.convertValue(externalTask.getAllVariables(), HearingNoticeSchedulerVars.class);
         var dispatchedHearingIds = getDispatchedHearingIds(schedulerVars);
-        var unnotifiedHearings = getUnnotifiedHearings(schedulerVars.getServiceId());
+        var userToken = getSystemUpdateUserToken();
+        var unnotifiedHearings = getUnnotifiedHearings(userToken, schedulerVars.getServiceId());
 
         log.info("Found [{}] unnotified hearings", unnotifiedHearings.getTotalFound());
+        dispatchedHearingIds.retainAll(new HashSet<>(unnotifiedHearings.getHearingIds()));
 
-        unnotifiedHearings.getHearingIds()
-            .stream()
-            .filter(hearingId -> !hearingNoticeDispatched(hearingId, dispatchedHearingIds))
-            .forEach(hearingId -> {
-                try {
-                    var hearing = hearingsService.getHearingResponse(getSystemUpdateUser().getUserToken(), hearingId);
-                    var hearingStatus = hearing.getHearingResponse().getListAssistCaseStatus();
-                    log.info("Processing hearing id: [{}] status: [{}]", hearingId, hearingStatus);
-
-                    if (hearingStatus.equals(ListAssistCaseStatus.LISTED)) {
-                        var partiesNotified = getLatestPartiesNotifiedResponse(hearingId);
-                        if (HmcDataUtils.hearingDataChanged(partiesNotified, hearing)) {
-                            log.info("Dispatching hearing notice task for hearing [{}].",
-                                hearingId);
-                            triggerHearingNoticeEvent(HearingNoticeMessageVars.builder()
-                                                          .hearingId(hearingId)
-                                                          .caseId(hearing.getCaseDetails().getCaseRef())
-                                                          .triggeredViaScheduler(true)
-                                                          .build());
-                            dispatchedHearingIds.add(hearingId);
-
-                        } else {
-                            notifyHmc(hearingId, hearing, partiesNotified.getServiceData());
-                        }
-                    } else {
-                        notifyHmc(hearingId, hearing, PartiesNotifiedServiceData.builder().build());
-                    }
-                } catch (Exception e) {
-                    log.error("Processing hearingId [{}] failed due to error: {}", hearingId, e.getMessage());
-                }
-            });
+        CompletableFuture.allOf(
+            unnotifiedHearings.getHearingIds()
+                .stream()
+                .filter(hearingId -> !hearingNoticeDispatched(hearingId, dispatchedHearingIds))
+                .map(hearingId -> CompletableFuture.runAsync(
+                    () -> processHearing(userToken, hearingId, dispatchedHearingIds), hearingExecutor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
 
         runtimeService.setVariables(
             externalTask.getProcessInstanceId(),
             HearingNoticeSchedulerVars.builder()
-                .dispatchedHearingIds(dispatchedHearingIds)
+                .dispatchedHearingIds(new ArrayList<>(dispatchedHearingIds))
                 .totalNumberOfUnnotifiedHearings(unnotifiedHearings.getTotalFound().intValue())
                 .build().toMap(mapper)
         );
+        return ExternalTaskData.builder().build();
+    }
+
+    private void processHearing(String userToken, String hearingId, Set<String> dispatchedHearingIds) {
+        try {
+            var hearing = hearingsService.getHearingResponse(userToken, hearingId);
+            var hearingStatus = hearing.getHearingResponse().getListAssistCaseStatus();
+            log.info("Processing hearing id: [{}] status: [{}]", hearingId, hearingStatus);
+
+            if (hearingStatus.equals(ListAssistCaseStatus.LISTED)) {
+                var partiesNotified = getLatestPartiesNotifiedResponse(userToken, hearingId);
+                if (HmcDataUtils.hearingDataChanged(partiesNotified, hearing)) {
+                    log.info("Dispatching hearing notice task for hearing [{}].",
+                        hearingId);
+                    triggerHearingNoticeEvent(HearingNoticeMessageVars.builder()
+                                                  .hearingId(hearingId)
+                                                  .caseId(hearing.getCaseDetails().getCaseRef())
+                                                  .triggeredViaScheduler(true)
+                                                  .build());
+                    dispatchedHearingIds.add(hearingId);
+
+                } else {
+                    notifyHmc(userToken, hearingId, hearing, partiesNotified.getServiceData());
+                }
+            } else {
+                notifyHmc(userToken, hearingId, hearing, PartiesNotifiedServiceData.builder().build());
+            }
+        } catch (Exception e) {
+            log.error("Processing hearingId [{}] failed due to error: {}", hearingId, e.getMessage());
+        }
     }
 
     @Override
-    public void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+    public void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                             ExternalTaskData data) {
         String topicName = externalTask.getTopicName();
         String processInstanceId = externalTask.getProcessInstanceId();
 
         try {
-            ofNullable(getVariableMap()).ifPresentOrElse(
+            ofNullable(getVariableMap(data)).ifPresentOrElse(
                 variableMap -> externalTaskService.complete(externalTask, variableMap),
                 () -> externalTaskService.complete(externalTask)
             );
@@ -124,18 +164,23 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
         }
     }
 
-    private UnNotifiedHearingResponse getUnnotifiedHearings(String serviceId) {
+    private UnNotifiedHearingResponse getUnnotifiedHearings(String userToken, String serviceId) {
         return hearingsService.getUnNotifiedHearingResponses(
-            getSystemUpdateUser().getUserToken(),
+            userToken,
             serviceId,
             LocalDateTime.now().minusDays(7),
             null
         );
     }
 
-    private List<String> getDispatchedHearingIds(HearingNoticeSchedulerVars schedulerVars) {
-        return schedulerVars.getDispatchedHearingIds() != null
-            ? schedulerVars.getDispatchedHearingIds() : new ArrayList<>();
+    /**
+     * Returns the ids of the hearings dispatched by earlier runs, as a set the hearings processed concurrently can
+     * add to.
+     */
+    private Set<String> getDispatchedHearingIds(HearingNoticeSchedulerVars schedulerVars) {
+        Set<String> dispatchedHearingIds = ConcurrentHashMap.newKeySet();
+        ofNullable(schedulerVars.getDispatchedHearingIds()).ifPresent(dispatchedHearingIds::addAll);
+        return dispatchedHearingIds;
     }
 
     private void triggerHearingNoticeEvent(HearingNoticeMessageVars messageVars) {
@@ -145,18 +190,17 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
             .correlateStartMessage();
     }
 
-    private UserAuthContent getSystemUpdateUser() {
-        String userToken = userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        String userId = userService.getUserInfo(userToken).getUid();
-        return UserAuthContent.builder().userToken(userToken).userId(userId).build();
+    private String getSystemUpdateUserToken() {
+        return userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
     }
 
-    private void notifyHmc(String hearingId, HearingGetResponse hearing, PartiesNotifiedServiceData serviceData) {
+    private void notifyHmc(String userToken, String hearingId, HearingGetResponse hearing,
+                           PartiesNotifiedServiceData serviceData) {
         var partiesNotifiedPayload = PartiesNotified.builder()
             .serviceData(serviceData.toBuilder().hearingNoticeGenerated(false).build())
             .build();
         hearingsService.updatePartiesNotifiedResponse(
-            getSystemUpdateUser().getUserToken(),
+            userToken,
             hearingId,
             hearing.getRequestDetails().getVersionNumber().intValue(),
             hearing.getHearingResponse().getReceivedDateTime(),
@@ -164,13 +208,12 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
         );
     }
 
-    private PartiesNotifiedResponse getLatestPartiesNotifiedResponse(String hearingId) {
-        var partiesNotified = hearingsService.getPartiesNotifiedResponses(
-            getSystemUpdateUser().getUserToken(), hearingId);
+    private PartiesNotifiedResponse getLatestPartiesNotifiedResponse(String userToken, String hearingId) {
+        var partiesNotified = hearingsService.getPartiesNotifiedResponses(userToken, hearingId);
         return HmcDataUtils.getLatestHearingNoticeDetails(partiesNotified);
     }
 
-    private boolean hearingNoticeDispatched(String hearingId, List<String> dispatchedHearingIds) {
+    private boolean hearingNoticeDispatched(String hearingId, Set<String> dispatchedHearingIds) {
         if (dispatchedHearingIds.contains(hearingId)) {
             log.info("A process has already been dispatched for hearing [{}]. Skipping...", hearingId);
             return true;
@@ -182,4 +225,15 @@ public class AutomatedHearingNoticeHandler implements BaseExternalTaskHandler {
     public int getMaxAttempts() {
         return 1;
     }
+
+    @PreDestroy
+    public void shutdown() {
+        hearingExecutor.shutdown();
+    }
+
+    private static CustomizableThreadFactory hearingThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hearing-notice-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 }
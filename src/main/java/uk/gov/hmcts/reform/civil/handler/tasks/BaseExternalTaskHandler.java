@@ -1,6 +1,10 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
 import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import feign.FeignException;
 import org.camunda.bpm.client.task.ExternalTask;
@@ -10,19 +14,25 @@ import org.camunda.bpm.engine.delegate.BpmnError;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.exceptions.CompleteTaskException;
 import uk.gov.hmcts.reform.civil.exceptions.NotRetryableException;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 
 import static java.util.Optional.ofNullable;
 import static uk.gov.hmcts.reform.civil.helpers.ExponentialRetryTimeoutHelper.calculateExponentialRetryTimeout;
 
 /**
  * Interface for standard implementation of task handler that is invoked for each fetched and locked task.
+ * A handler is shared by every task of its topic, which may be executed concurrently, so anything a task needs
+ * on completion is returned from {@link #handleTask(ExternalTask)} as its {@link ExternalTaskData} rather than
+ * kept in the handler.
  */
 public interface BaseExternalTaskHandler extends ExternalTaskHandler {
 
     String FLOW_STATE = "flowState";
     String FLOW_FLAGS = "flowFlags";
+    long LOCK_EXPIRY_MARGIN_MILLIS = 5000;
 
     Logger log = LoggerFactory.getLogger(BaseExternalTaskHandler.class);
 
@@ -40,8 +50,8 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
         try {
             log.info("External task '{}' started with processInstanceId '{}'",
                      topicName, processInstanceId);
-            handleTask(externalTask);
-            completeTask(externalTask, externalTaskService);
+            ExternalTaskData data = handleTask(externalTask, externalTaskService);
+            completeTask(externalTask, externalTaskService, data);
         } catch (BpmnError e) {
             log.error("Bpmn error for external task '{}' with processInstanceId '{}'",
                       topicName, processInstanceId, e
@@ -58,12 +68,13 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
         }
     }
 
-    default void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService) throws CompleteTaskException {
+    default void completeTask(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                              ExternalTaskData data) throws CompleteTaskException {
         String topicName = externalTask.getTopicName();
         String processInstanceId = externalTask.getProcessInstanceId();
 
         try {
-            ofNullable(getVariableMap()).ifPresentOrElse(
+            ofNullable(getVariableMap(data)).ifPresentOrElse(
                 variableMap -> externalTaskService.complete(externalTask, variableMap),
                 () -> externalTaskService.complete(externalTask)
             );
@@ -148,16 +159,58 @@ public interface BaseExternalTaskHandler extends ExternalTaskHandler {
      * Defines a Map of variables to be added to an external task on completion.
      * By default this is null, override to add values.
      *
+     * @param data what handling the external task produced.
      * @return the variables to add to the external task.
      */
-    default VariableMap getVariableMap() {
+    default VariableMap getVariableMap(ExternalTaskData data) {
         return null;
     }
 
+    /**
+     * Applies the action to each case in turn, stopping early when the lock on the external task is about to
+     * expire. The remaining cases are then left for the next run instead of being picked up by another worker
+     * while this one is still processing them.
+     *
+     * @param externalTask the external task being handled.
+     * @param cases        the cases to process, fetched as they are consumed.
+     * @param action       the processing for a single case.
+     * @return the number of cases processed.
+     */
+    default long forEachCaseUntilLockExpires(ExternalTask externalTask, Stream<CaseDetails> cases,
+                                             Consumer<CaseDetails> action) {
+        Iterator<CaseDetails> iterator = cases.iterator();
+        long processed = 0;
+        while (iterator.hasNext()) {
+            Date lockExpirationTime = externalTask.getLockExpirationTime();
+            if (lockExpirationTime != null
+                && System.currentTimeMillis() + LOCK_EXPIRY_MARGIN_MILLIS >= lockExpirationTime.getTime()) {
+                log.warn("Job '{}' stopped after {} case(s) as its lock is about to expire",
+                         externalTask.getTopicName(), processed);
+                break;
+            }
+            action.accept(iterator.next());
+            processed++;
+        }
+        return processed;
+    }
+
+    /**
+     * Executed for each fetched and locked task, with the service to interact with it while it is being handled,
+     * e.g. to extend its lock. By default this is {@link #handleTask(ExternalTask)}.
+     *
+     * @param externalTask        the external task to be handled.
+     * @param externalTaskService to interact with fetched and locked tasks.
+     * @return what handling the external task produced, for completing it.
+     */
+    default ExternalTaskData handleTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+        return handleTask(externalTask);
+    }
+
     /**
      * Executed for each fetched and locked task.
      *
      * @param externalTask the external task to be handled.
+     * @return what handling the external task produced, for completing it.
      */
-    void handleTask(ExternalTask externalTask);
+    ExternalTaskData handleTask(ExternalTask externalTask);
 }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -12,10 +13,12 @@ import uk.gov.hmcts.reform.civil.model.Bundle;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.IdValue;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.search.BundleCreationTriggerService;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,24 +29,27 @@ public class BundleCreationTriggerHandler implements BaseExternalTaskHandler {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final CaseDetailsConverter caseDetailsConverter;
     private final CoreCaseDataService coreCaseDataService;
+    private final CaseBatchProcessor caseBatchProcessor;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = bundleCreationTriggerService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        return handleTask(externalTask, null);
+    }
 
-        cases.forEach(caseDetails -> {
-            try {
+    @Override
+    public ExternalTaskData handleTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+        try (Stream<CaseDetails> cases = bundleCreationTriggerService.streamCases()) {
+            long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases, caseDetails -> {
                 boolean isBundleCreated = getIsBundleCreatedForHearingDate(caseDetails.getId());
                 if (!isBundleCreated) {
                     applicationEventPublisher.publishEvent(new BundleCreationTriggerEvent(caseDetails.getId()));
                 } else {
                     log.info("Bundle is already created for {}", caseDetails.getId());
                 }
-            } catch (Exception e) {
-                log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
-            }
-        });
+            });
+            log.info("Job '{}' processed {} case(s)", externalTask.getTopicName(), processed);
+        }
+        return ExternalTaskData.builder().build();
     }
 
     boolean getIsBundleCreatedForHearingDate(Long caseId) {
@@ -0,0 +1,180 @@
+package uk.gov.hmcts.reform.civil.handler.tasks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.annotation.PreDestroy;
+
+import static uk.gov.hmcts.reform.civil.handler.tasks.BaseExternalTaskHandler.LOCK_EXPIRY_MARGIN_MILLIS;
+
+/**
+ * Processes the cases found by a scheduled task handler on a worker pool shared by all handlers, at most
+ * parallelism cases at a time per task. A case that fails is logged and does not stop the others. While cases
+ * are being processed the lock on the external task is extended before it expires, so the task is not picked
+ * up again by another worker part way through.
+ */
+@Slf4j
+@Component
+public class CaseBatchProcessor {
+
+    private static final long LOCK_CHECK_INTERVAL_MILLIS = 1000;
+
+    private final int parallelism;
+    private final long lockExtensionMillis;
+    private final ExecutorService executorService;
+
+    public CaseBatchProcessor(@Value("${external-task.batch.parallelism:8}") int parallelism,
+                              @Value("${external-task.batch.lock-extension:60000}") long lockExtensionMillis) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Batch parallelism must be at least 1");
+        }
+        if (lockExtensionMillis <= LOCK_EXPIRY_MARGIN_MILLIS) {
+            throw new IllegalArgumentException("Lock extension must be longer than " + LOCK_EXPIRY_MARGIN_MILLIS + "ms");
+        }
+        this.parallelism = parallelism;
+        this.lockExtensionMillis = lockExtensionMillis;
+        this.executorService = Executors.newFixedThreadPool(parallelism, workerThreadFactory());
+    }
+
+    /**
+     * Applies the action to each case and waits for all of them to finish. Cases are taken from the stream only
+     * when a worker is free, so a lazily fetched stream is never read far ahead of the processing.
+     *
+     * @param externalTask        the external task being handled.
+     * @param externalTaskService to extend the lock of the task, or null when it is handled outside a subscription.
+     * @param cases               the cases to process.
+     * @param action              the processing for a single case.
+     * @return the number of cases processed, including the ones that failed.
+     */
+    public long process(ExternalTask externalTask, ExternalTaskService externalTaskService,
+                        Stream<CaseDetails> cases, Consumer<CaseDetails> action) {
+        TaskLock lock = new TaskLock(externalTask, externalTaskService);
+        Semaphore workers = new Semaphore(parallelism);
+        Iterator<CaseDetails> iterator = cases.iterator();
+        long processed = 0;
+        try {
+            while (iterator.hasNext()) {
+                if (!acquireWorker(workers, lock)) {
+                    log.warn("Job '{}' stopped after {} case(s) as its lock could not be extended",
+                             externalTask.getTopicName(), processed);
+                    break;
+                }
+                CaseDetails caseDetails = iterator.next();
+                executorService.execute(() -> {
+                    try {
+                        action.accept(caseDetails);
+                    } catch (Exception e) {
+                        //Continue for other cases if there is some error in some cases, as we don't want
+                        // to stop processing other valid cases because error happened in some.
+                        //We log the error to leave a trace that something needs to be looked into for failed cases
+                        log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
+                    } finally {
+                        workers.release();
+                    }
+                });
+                processed++;
+            }
+        } finally {
+            awaitWorkers(workers, lock);
+        }
+        return processed;
+    }
+
+    private boolean acquireWorker(Semaphore workers, TaskLock lock) {
+        try {
+            while (!workers.tryAcquire(LOCK_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!lock.extendIfExpiring()) {
+                    return false;
+                }
+            }
+            if (!lock.extendIfExpiring()) {
+                workers.release();
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitWorkers(Semaphore workers, TaskLock lock) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (workers.tryAcquire(parallelism, LOCK_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                lock.extendIfExpiring();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static CustomizableThreadFactory workerThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("case-batch-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    private class TaskLock {
+
+        private final ExternalTask externalTask;
+        private final ExternalTaskService externalTaskService;
+        private boolean lost;
+        private long expiresAt;
+
+        private TaskLock(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+            this.externalTask = externalTask;
+            this.externalTaskService = externalTaskService;
+            Date lockExpirationTime = externalTask.getLockExpirationTime();
+            this.expiresAt = lockExpirationTime == null ? Long.MAX_VALUE : lockExpirationTime.getTime();
+        }
+
+        /**
+         * Extends the lock when it is about to expire.
+         *
+         * @return false if the lock is about to expire and could not be extended.
+         */
+        private boolean extendIfExpiring() {
+            long now = System.currentTimeMillis();
+            if (lost || now + LOCK_EXPIRY_MARGIN_MILLIS < expiresAt) {
+                return !lost;
+            }
+            if (externalTaskService == null) {
+                lost = true;
+                return false;
+            }
+            try {
+                externalTaskService.extendLock(externalTask, lockExtensionMillis);
+                expiresAt = now + lockExtensionMillis;
+            } catch (Exception e) {
+                log.error("Extending the lock of external task '{}' failed", externalTask.getTopicName(), e);
+                lost = true;
+            }
+            return !lost;
+        }
+    }
+}
@@ -3,13 +3,15 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.event.DecisionOutcomeEvent;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.search.DecisionOutcomeSearchService;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -18,19 +20,22 @@ public class DecisionOutcomeHandler implements BaseExternalTaskHandler {
 
     private final DecisionOutcomeSearchService caseSearchService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final CaseBatchProcessor caseBatchProcessor;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        return handleTask(externalTask, null);
+    }
 
-        cases.forEach(caseDetails -> {
-            try {
+    @Override
+    public ExternalTaskData handleTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+        try (Stream<CaseDetails> cases = caseSearchService.streamCases()) {
+            long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases, caseDetails -> {
                 log.info("Current case status '{}'", caseDetails.getState());
                 applicationEventPublisher.publishEvent(new DecisionOutcomeEvent(caseDetails.getId()));
-            } catch (Exception e) {
-                log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
-            }
-        });
+            });
+            log.info("Job '{}' processed {} case(s)", externalTask.getTopicName(), processed);
+        }
+        return ExternalTaskData.builder().build();
     }
 }
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -13,9 +14,10 @@ import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.PaymentDetails;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.search.HearingFeeDueSearchService;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,14 +28,17 @@ public class HearingFeeDueHandler implements BaseExternalTaskHandler {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final CoreCaseDataService coreCaseDataService;
     private final CaseDetailsConverter caseDetailsConverter;
+    private final CaseBatchProcessor caseBatchProcessor;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        return handleTask(externalTask, null);
+    }
 
-        cases.forEach(caseDetails -> {
-            try {
+    @Override
+    public ExternalTaskData handleTask(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+        try (Stream<CaseDetails> cases = caseSearchService.streamCases()) {
+            long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases, caseDetails -> {
                 CaseDetails detailsWithData = coreCaseDataService.getCase(caseDetails.getId());
                 CaseData caseData = caseDetailsConverter.toCaseData(detailsWithData);
                 PaymentDetails hearingFeePaymentDetails = caseData.getHearingFeePaymentDetails();
@@ -47,12 +52,9 @@ public class HearingFeeDueHandler implements BaseExternalTaskHandler {
                     log.info("Current case status '{}'", caseDetails.getState());
                     applicationEventPublisher.publishEvent(new HearingFeeUnpaidEvent(caseDetails.getId()));
                 }
-            } catch (Exception e) {
-                //Continue for other cases if there is some error in some cases, as we don't want
-                // to stop processing other valid cases because error happened in some.
-                //We log the error to leave a trace that something needs to be looked into for failed cases
-                log.error("Updating case with id: '{}' failed", caseDetails.getId(), e);
-            }
-        });
+            });
+            log.info("Job '{}' processed {} case(s)", externalTask.getTopicName(), processed);
+        }
+        return ExternalTaskData.builder().build();
     }
 }
@@ -18,6 +18,7 @@ import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.data.ExternalTaskInput;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 
@@ -33,10 +34,8 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
     private final ObjectMapper objectMapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
         try {
             Map<String, Object> allVariables = externalTask.getAllVariables();
             ExternalTaskInput externalTaskInput = objectMapper.convertValue(allVariables, ExternalTaskInput.class);
@@ -48,16 +47,20 @@ public class PaymentTaskHandler implements BaseExternalTaskHandler {
             );
             BusinessProcess businessProcess = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails())
                 .getBusinessProcess().updateActivityId(externalTask.getActivityId());
-            data = coreCaseDataService.submitUpdate(caseId, caseDataContent(startEventResponse, businessProcess));
+            CaseData data = coreCaseDataService.submitUpdate(
+                caseId,
+                caseDataContent(startEventResponse, businessProcess)
+            );
+            return ExternalTaskData.builder().caseData(data).build();
         } catch (ValueMapperException | IllegalArgumentException e) {
             throw new InvalidCaseDataException("Mapper conversion failed due to incompatible types", e);
         }
     }
 
     @Override
-    public VariableMap getVariableMap() {
+    public VariableMap getVariableMap(ExternalTaskData data) {
         VariableMap variables = Variables.createVariables();
-        var stateFlow = stateFlowEngine.evaluate(data);
+        var stateFlow = stateFlowEngine.evaluate(data.getCaseData());
         variables.putValue(FLOW_STATE, stateFlow.getState().getName());
         variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
         return variables;
@@ -7,10 +7,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.EventEmitterService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.search.CaseReadyBusinessProcessSearchService;
 
-import java.util.List;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
@@ -25,17 +27,18 @@ public class PollingEventEmitterHandler implements BaseExternalTaskHandler {
     private final EventEmitterService eventEmitterService;
 
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        List<CaseDetails> cases = caseSearchService.getCases();
-        log.info("Job '{}' found {} case(s)", externalTask.getTopicName(), cases.size());
-        cases.stream()
-            .map(caseDetailsConverter::toCaseData)
-            .forEach(mappedCase -> {
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        try (Stream<CaseDetails> cases = caseSearchService.streamCases()) {
+            long processed = forEachCaseUntilLockExpires(externalTask, cases, caseDetails -> {
+                CaseData mappedCase = caseDetailsConverter.toCaseData(caseDetails);
                 log.info(format("Emitting %s camunda event for case through poller: %d",
                                 mappedCase.getBusinessProcess().getCamundaEvent(),
                                 mappedCase.getCcdCaseReference()));
                 eventEmitterService.emitBusinessProcessCamundaEvent(mappedCase, true);
             });
+            log.info("Job '{}' processed {} case(s)", externalTask.getTopicName(), processed);
+        }
+        return ExternalTaskData.builder().build();
     }
 
     @Override
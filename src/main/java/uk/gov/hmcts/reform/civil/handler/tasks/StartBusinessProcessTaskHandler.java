@@ -15,6 +15,7 @@ import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.data.ExternalTaskInput;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 
@@ -30,19 +31,17 @@ public class StartBusinessProcessTaskHandler implements BaseExternalTaskHandler
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private VariableMap variables;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        CaseData caseData = startBusinessProcess(externalTask);
-        variables = Variables.createVariables();
-        var stateFlow = stateFlowEngine.evaluate(caseData);
-        variables.putValue(FLOW_STATE, stateFlow.getState().getName());
-        variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        return ExternalTaskData.builder().caseData(startBusinessProcess(externalTask)).build();
     }
 
     @Override
-    public VariableMap getVariableMap() {
+    public VariableMap getVariableMap(ExternalTaskData data) {
+        VariableMap variables = Variables.createVariables();
+        var stateFlow = stateFlowEngine.evaluate(data.getCaseData());
+        variables.putValue(FLOW_STATE, stateFlow.getState().getName());
+        variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
         return variables;
     }
 
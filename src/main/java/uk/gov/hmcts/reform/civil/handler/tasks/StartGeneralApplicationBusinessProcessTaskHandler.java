@@ -23,6 +23,7 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplication;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.data.ExternalTaskInput;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 
@@ -38,19 +39,17 @@ public class StartGeneralApplicationBusinessProcessTaskHandler implements BaseEx
     private final ObjectMapper mapper;
     private final StateFlowEngine stateFlowEngine;
 
-    private VariableMap variables;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
-        CaseData caseData = startGeneralApplicationBusinessProcess(externalTask);
-        variables = Variables.createVariables();
-        var stateFlow = stateFlowEngine.evaluate(caseData);
-        variables.putValue(FLOW_STATE, stateFlow.getState().getName());
-        variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
+        return ExternalTaskData.builder().caseData(startGeneralApplicationBusinessProcess(externalTask)).build();
     }
 
     @Override
-    public VariableMap getVariableMap() {
+    public VariableMap getVariableMap(ExternalTaskData data) {
+        VariableMap variables = Variables.createVariables();
+        var stateFlow = stateFlowEngine.evaluate(data.getCaseData());
+        variables.putValue(FLOW_STATE, stateFlow.getState().getName());
+        variables.putValue(FLOW_FLAGS, stateFlow.getFlags());
         return variables;
     }
 
@@ -16,6 +16,7 @@ import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.genapplication.GADetailsRespondentSol;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplicationsDetails;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.civil.service.data.ExternalTaskInput;
 import uk.gov.hmcts.reform.civil.utils.CaseDataContentConverter;
 
@@ -43,12 +44,8 @@ public class UpdateFromGACaseEventTaskHandler implements BaseExternalTaskHandler
     private final CaseDetailsConverter caseDetailsConverter;
     private final ObjectMapper mapper;
 
-    private CaseData generalAppCaseData;
-    private CaseData civilCaseData;
-    private CaseData data;
-
     @Override
-    public void handleTask(ExternalTask externalTask) {
+    public ExternalTaskData handleTask(ExternalTask externalTask) {
         try {
             ExternalTaskInput variables = mapper.convertValue(externalTask.getAllVariables(), ExternalTaskInput.class);
 
@@ -60,22 +57,23 @@ public class UpdateFromGACaseEventTaskHandler implements BaseExternalTaskHandler
                     .orElseThrow(() -> new InvalidCaseDataException(
                         "General application parent case link not found"));
 
-            generalAppCaseData = caseDetailsConverter.toGACaseData(coreCaseDataService
-                                                                       .getCase(parseLong(generalAppCaseId)));
+            CaseData generalAppCaseData = caseDetailsConverter.toGACaseData(
+                coreCaseDataService.getCase(parseLong(generalAppCaseId)));
 
             StartEventResponse startEventResponse = coreCaseDataService.startUpdate(
                 civilCaseId,
                 variables.getCaseEvent()
             );
-            civilCaseData = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails());
+            CaseData civilCaseData = caseDetailsConverter.toCaseData(startEventResponse.getCaseDetails());
 
-            data = coreCaseDataService.submitUpdate(
+            CaseData data = coreCaseDataService.submitUpdate(
                 civilCaseId,
                 CaseDataContentConverter.caseDataContentFromStartEventResponse(
                     startEventResponse,
                     getUpdatedCaseData(civilCaseData, generalAppCaseData)
                 )
             );
+            return ExternalTaskData.builder().caseData(data).build();
         } catch (NumberFormatException ne) {
             throw new InvalidCaseDataException(
                 "Conversion to long datatype failed for general application for a case ", ne
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplication;
 
@@ -35,6 +36,14 @@ public class CaseDetailsConverter {
         return objectMapper.convertValue(caseDataMap, CaseData.class);
     }
 
+    /**
+     * Reads the business process of the case without converting the rest of the case data.
+     */
+    public BusinessProcess toBusinessProcess(CaseDetails caseDetails) {
+        Object businessProcess = caseDetails.getData() == null ? null : caseDetails.getData().get("businessProcess");
+        return businessProcess == null ? null : objectMapper.convertValue(businessProcess, BusinessProcess.class);
+    }
+
     public CaseData toGACaseData(CaseDetails caseDetails) {
         Map<String, Object> data = new HashMap<>(caseDetails.getData());
         data.put("ccdCaseReference", caseDetails.getId());
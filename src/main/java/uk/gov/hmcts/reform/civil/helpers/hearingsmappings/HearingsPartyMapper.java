@@ -21,6 +21,8 @@ import uk.gov.hmcts.reform.civil.service.OrganisationService;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.util.Lists.emptyList;
@@ -60,20 +62,45 @@ public class HearingsPartyMapper {
     }
 
     public static List<PartyDetailsModel> buildPartyObjectForHearingPayload(CaseData caseData, OrganisationService organisationService) {
+        return buildPartyObjectForHearingPayload(
+            caseData,
+            organisationService.findOrganisationsById(getSolicitorOrganisationIds(caseData))
+        );
+    }
 
+    /**
+     * Builds the parties with the names of their solicitor organisations taken from the given organisations,
+     * keyed by organisation id, see {@link #getSolicitorOrganisationIds(CaseData)}.
+     */
+    public static List<PartyDetailsModel> buildPartyObjectForHearingPayload(CaseData caseData,
+                                                                            Map<String, Organisation> organisations) {
         List<PartyDetailsModel> parties = new ArrayList<>();
         // applicant 1 and related parties
-        addApplicant1Objects(caseData, organisationService, parties);
+        addApplicant1Objects(caseData, organisations, parties);
         // applicant 2 and related parties
         addApplicant2Objects(caseData, parties);
         // respondent 1 and related parties
-        addRespondent1Objects(caseData, organisationService, parties);
+        addRespondent1Objects(caseData, organisations, parties);
         // respondent 2 and related parties
-        addRespondent2Objects(caseData, organisationService, parties);
+        addRespondent2Objects(caseData, organisations, parties);
         return parties;
     }
 
-    private static void addRespondent2Objects(CaseData caseData, OrganisationService organisationService, List<PartyDetailsModel> parties) {
+    public static List<String> getSolicitorOrganisationIds(CaseData caseData) {
+        List<String> organisationIds = new ArrayList<>();
+        organisationIds.add(caseData.getApplicant1OrganisationPolicy().getOrganisation().getOrganisationID());
+        if (caseData.getRespondent1OrganisationPolicy().getOrganisation() != null) {
+            organisationIds.add(caseData.getRespondent1OrganisationPolicy().getOrganisation().getOrganisationID());
+        }
+        if (YES.equals(caseData.getAddRespondent2())
+            && ONE_V_TWO_TWO_LEGAL_REP.equals(getMultiPartyScenario(caseData))
+            && caseData.getRespondent2OrganisationPolicy().getOrganisation() != null) {
+            organisationIds.add(caseData.getRespondent2OrganisationPolicy().getOrganisation().getOrganisationID());
+        }
+        return organisationIds;
+    }
+
+    private static void addRespondent2Objects(CaseData caseData, Map<String, Organisation> organisations, List<PartyDetailsModel> parties) {
         // respondent 2
         if (YES.equals(caseData.getAddRespondent2())) {
             parties.add(getDetailsForPartyObject(caseData.getRespondent2(), DEFENDANT_ROLE.getPartyRoleValue()));
@@ -82,7 +109,7 @@ public class HearingsPartyMapper {
                 && caseData.getRespondent2OrganisationPolicy().getOrganisation() != null) {
                 parties.add(getDetailsForSolicitorOrganisation(
                     caseData.getRespondent2OrganisationPolicy(),
-                    organisationService
+                    organisations
                 ));
             }
             // 1v2 Same sol and defs file different response
@@ -113,14 +140,14 @@ public class HearingsPartyMapper {
         }
     }
 
-    private static void addRespondent1Objects(CaseData caseData, OrganisationService organisationService, List<PartyDetailsModel> parties) {
+    private static void addRespondent1Objects(CaseData caseData, Map<String, Organisation> organisations, List<PartyDetailsModel> parties) {
         // respondent 1
         parties.add(getDetailsForPartyObject(caseData.getRespondent1(), DEFENDANT_ROLE.getPartyRoleValue()));
         // respondent 1 solicitor
         if (caseData.getRespondent1OrganisationPolicy().getOrganisation() != null) {
             parties.add(getDetailsForSolicitorOrganisation(
                 caseData.getRespondent1OrganisationPolicy(),
-                organisationService
+                organisations
             ));
         }
         // respondent 1 expert
@@ -168,13 +195,13 @@ public class HearingsPartyMapper {
         }
     }
 
-    private static void addApplicant1Objects(CaseData caseData, OrganisationService organisationService, List<PartyDetailsModel> parties) {
+    private static void addApplicant1Objects(CaseData caseData, Map<String, Organisation> organisations, List<PartyDetailsModel> parties) {
         // applicant 1
         parties.add(getDetailsForPartyObject(caseData.getApplicant1(), CLAIMANT_ROLE.getPartyRoleValue()));
         // applicant 1 solicitor
         parties.add(getDetailsForSolicitorOrganisation(
             caseData.getApplicant1OrganisationPolicy(),
-            organisationService
+            organisations
         ));
 
         if (caseData.getApplicant1DQ() != null) {
@@ -258,9 +285,9 @@ public class HearingsPartyMapper {
     }
 
     private static PartyDetailsModel getDetailsForSolicitorOrganisation(OrganisationPolicy organisationPolicy,
-                                                                        OrganisationService organisationService) {
+                                                                        Map<String, Organisation> organisations) {
         String organisationID = organisationPolicy.getOrganisation().getOrganisationID();
-        String orgName = organisationService.findOrganisationById(organisationID)
+        String orgName = Optional.ofNullable(organisations.get(organisationID))
             .map(Organisation::getName)
             .orElse("");
         return buildOrganisationPartyObject(
@@ -61,20 +61,24 @@ public class ServiceHearingsCaseLevelMapper {
     }
 
     public static List<CaseCategoryModel> getCaseCategories(CaseData caseData, CaseCategoriesService caseCategoriesService, String authToken) {
-        ArrayList<CaseCategoryModel> caseCategories = new ArrayList<>();
         CaseCategoryModel caseType = caseCategoriesService.getCaseCategoriesFor(
             CategoryType.CASE_TYPE,
             caseData,
             authToken
         );
-        if (caseType != null) {
-            caseCategories.add(caseType);
-        }
         CaseCategoryModel caseSubType = caseCategoriesService.getCaseCategoriesFor(
             CategoryType.CASE_SUBTYPE,
             caseData,
             authToken
         );
+        return getCaseCategories(caseType, caseSubType);
+    }
+
+    public static List<CaseCategoryModel> getCaseCategories(CaseCategoryModel caseType, CaseCategoryModel caseSubType) {
+        ArrayList<CaseCategoryModel> caseCategories = new ArrayList<>();
+        if (caseType != null) {
+            caseCategories.add(caseType);
+        }
         if (caseSubType != null) {
             caseCategories.add(caseSubType);
         }
@@ -22,6 +22,12 @@ public class BusinessProcess {
         return BusinessProcess.builder().status(READY).camundaEvent(caseEvent.name()).build();
     }
 
+    public static boolean isNotOngoing(BusinessProcess businessProcess) {
+        return businessProcess == null
+            || businessProcess.getStatus() == null
+            || businessProcess.getStatus() == BusinessProcessStatus.FINISHED;
+    }
+
     @JsonIgnore
     public boolean hasSameProcessInstanceId(String processInstanceId) {
         return this.getProcessInstanceId().equals(processInstanceId);
@@ -96,7 +96,6 @@ import java.util.stream.Stream;
 import static java.util.Objects.nonNull;
 import static uk.gov.hmcts.reform.civil.enums.AllocatedTrack.FAST_CLAIM;
 import static uk.gov.hmcts.reform.civil.enums.AllocatedTrack.SMALL_CLAIM;
-import static uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus.FINISHED;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.TWO_V_ONE;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.isOneVOne;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.isOneVTwoTwoLegalRep;
@@ -367,9 +366,7 @@ public class CaseData extends CaseDataParent implements MappableObject {
     private final Applicant2DQ applicant2DQ;
 
     public boolean hasNoOngoingBusinessProcess() {
-        return businessProcess == null
-            || businessProcess.getStatus() == null
-            || businessProcess.getStatus() == FINISHED;
+        return BusinessProcess.isNotOngoing(businessProcess);
     }
 
     private final LitigationFriend genericLitigationFriend;
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.civil.model.robotics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Writer shared by every robotics payload, so that serialisers are built once rather than for each payload.
+ */
+final class RoboticsJsonWriter {
+
+    static final ObjectWriter WRITER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .writer();
+
+    private RoboticsJsonWriter() {
+        // utility class
+    }
+}
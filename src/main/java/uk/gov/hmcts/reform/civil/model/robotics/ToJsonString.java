@@ -1,14 +1,17 @@
 package uk.gov.hmcts.reform.civil.model.robotics;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 public interface ToJsonString {
 
     default String toJsonString() throws JsonProcessingException {
-        return new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .writeValueAsString(this);
+        return RoboticsJsonWriter.WRITER.writeValueAsString(this);
+    }
+
+    /**
+     * Serialises this payload as UTF-8 JSON, ready to be validated and attached as it is.
+     */
+    default byte[] toJsonBytes() throws JsonProcessingException {
+        return RoboticsJsonWriter.WRITER.writeValueAsBytes(this);
     }
 }
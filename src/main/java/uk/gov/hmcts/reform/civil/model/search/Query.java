@@ -12,15 +12,49 @@ public class Query {
     private final QueryBuilder queryBuilder;
     private final List<String> dataToReturn;
     private final int startIndex;
+    private final Integer size;
+    private final boolean sortedByReference;
+    private final Long searchAfterReference;
 
     public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex) {
+        this(queryBuilder, dataToReturn, startIndex, null);
+    }
+
+    public Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex, Integer size) {
+        this(queryBuilder, dataToReturn, startIndex, size, false, null);
+    }
+
+    private Query(QueryBuilder queryBuilder, List<String> dataToReturn, int startIndex, Integer size,
+                  boolean sortedByReference, Long searchAfterReference) {
         Objects.requireNonNull(queryBuilder, "QueryBuilder cannot be null in search");
         if (startIndex < 0) {
             throw new IllegalArgumentException("Start index cannot be less than 0");
         }
+        if (size != null && size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than 1");
+        }
         this.queryBuilder = queryBuilder;
         this.dataToReturn = dataToReturn;
         this.startIndex = startIndex;
+        this.size = size;
+        this.sortedByReference = sortedByReference;
+        this.searchAfterReference = searchAfterReference;
+    }
+
+    /**
+     * Returns this query asking for pages of the given size.
+     */
+    public Query withSize(int size) {
+        return new Query(queryBuilder, dataToReturn, startIndex, size, sortedByReference, searchAfterReference);
+    }
+
+    /**
+     * Returns this query sorted by case reference, matching only the cases after the given reference, or from the
+     * first case when it is null. Paging on the last reference of each page, rather than on an offset, neither
+     * skips nor repeats cases when cases stop matching the query between pages.
+     */
+    public Query afterReference(Long reference) {
+        return new Query(queryBuilder, dataToReturn, 0, size, true, reference);
     }
 
     @Override
@@ -29,6 +63,9 @@ public class Query {
             + "\"query\": " + queryBuilder.toString() + ", "
             + "\"_source\": " + toJSONString(dataToReturn) + ", "
             + "\"from\": " + startIndex
+            + (size == null ? "" : ", \"size\": " + size)
+            + (sortedByReference ? ", \"sort\": [{\"reference\": \"asc\"}]" : "")
+            + (searchAfterReference == null ? "" : ", \"search_after\": [" + searchAfterReference + "]")
             + "}";
     }
 }
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class AsyncEventOutboxEntry {
+
+    private long id;
+    private String eventType;
+    private String payload;
+    private Instant createdAt;
+    private int attempts;
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.config.RegisterBeanMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.GetGeneratedKeys;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+
+import java.util.List;
+
+/**
+ * Events published in process and not yet handled. An event added or taken is leased to the pod that added or
+ * took it until it is deleted, retried later or released, or its lease runs out and any pod may take it.
+ */
+public interface AsyncEventOutboxRepository {
+
+    @SqlUpdate("INSERT INTO async_event_outbox (event_type, payload, available_at) "
+        + "VALUES (:eventType, :payload, now() + :leaseMillis * INTERVAL '1 millisecond')")
+    @GetGeneratedKeys("id")
+    long add(@Bind("eventType") String eventType, @Bind("payload") String payload,
+             @Bind("leaseMillis") long leaseMillis);
+
+    @SqlQuery("UPDATE async_event_outbox SET available_at = now() + :leaseMillis * INTERVAL '1 millisecond' "
+        + "WHERE id IN (SELECT id FROM async_event_outbox WHERE failed_at IS NULL AND available_at <= now() "
+        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+        + "RETURNING id, event_type, payload, created_at, attempts")
+    @RegisterBeanMapper(AsyncEventOutboxEntry.class)
+    List<AsyncEventOutboxEntry> take(@Bind("limit") int limit, @Bind("leaseMillis") long leaseMillis);
+
+    @SqlUpdate("DELETE FROM async_event_outbox WHERE id = :id")
+    void delete(@Bind("id") long id);
+
+    @SqlUpdate("UPDATE async_event_outbox SET available_at = now() WHERE id = :id")
+    void release(@Bind("id") long id);
+
+    @SqlUpdate("UPDATE async_event_outbox SET attempts = attempts + 1, "
+        + "available_at = now() + :delayMillis * INTERVAL '1 millisecond' WHERE id = :id")
+    void retryLater(@Bind("id") long id, @Bind("delayMillis") long delayMillis);
+
+    @SqlUpdate("UPDATE async_event_outbox SET attempts = attempts + 1, failed_at = now() WHERE id = :id")
+    void markFailed(@Bind("id") long id);
+
+    @SqlQuery("SELECT count(*) FROM async_event_outbox WHERE failed_at IS NULL")
+    long countPending();
+}
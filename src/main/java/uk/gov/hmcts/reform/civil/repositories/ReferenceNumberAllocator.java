@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Hands out reference numbers from blocks of sequence values reserved in a single database call.
+ * Numbers are formatted the same way as the database functions, e.g. 000DC001 for the DC range.
+ * Values are only ever reserved once, so numbers stay unique across replicas; values left in a block
+ * when the service stops are skipped, never reused.
+ */
+public class ReferenceNumberAllocator {
+
+    private static final int PREFIX_LENGTH = 3;
+
+    private final String infix;
+    private final int blockSize;
+    private final IntFunction<List<Long>> reserveBlock;
+    private volatile Block block = new Block(new long[0]);
+
+    public ReferenceNumberAllocator(String infix, int blockSize, IntFunction<List<Long>> reserveBlock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Reference number block size must be at least 1");
+        }
+        this.infix = infix;
+        this.blockSize = blockSize;
+        this.reserveBlock = reserveBlock;
+    }
+
+    public String allocate() {
+        while (true) {
+            Block current = block;
+            int index = current.next.getAndIncrement();
+            if (index < current.values.length) {
+                return format(current.values[index]);
+            }
+            reserve(current);
+        }
+    }
+
+    private synchronized void reserve(Block exhausted) {
+        if (block == exhausted) {
+            long[] values = reserveBlock.apply(blockSize).stream().mapToLong(Long::longValue).toArray();
+            if (values.length == 0) {
+                throw new IllegalStateException("No reference numbers could be reserved");
+            }
+            block = new Block(values);
+        }
+    }
+
+    private String format(long value) {
+        String digits = String.format("%06d", value);
+        return digits.substring(0, PREFIX_LENGTH) + infix + digits.substring(PREFIX_LENGTH);
+    }
+
+    private static class Block {
+
+        private final long[] values;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private Block(long[] values) {
+            this.values = values;
+        }
+    }
+}
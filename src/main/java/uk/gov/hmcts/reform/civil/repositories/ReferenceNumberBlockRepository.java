@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+
+import java.util.List;
+
+public interface ReferenceNumberBlockRepository {
+
+    @SqlQuery("SELECT reserve_damages_claims_reference_numbers(:blockSize)")
+    List<Long> reserveReferenceNumbers(@Bind("blockSize") int blockSize);
+
+    @SqlQuery("SELECT reserve_reference_numbers(:blockSize)")
+    List<Long> reserveSpecReferenceNumbers(@Bind("blockSize") int blockSize);
+
+}
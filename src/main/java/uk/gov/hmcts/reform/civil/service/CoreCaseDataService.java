@@ -9,7 +9,6 @@ import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.ccd.client.model.StartEventResponse;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
-import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.search.Query;
@@ -28,10 +27,9 @@ import static uk.gov.hmcts.reform.civil.utils.CaseDataContentConverter.caseDataC
 public class CoreCaseDataService {
 
     private final CoreCaseDataApi coreCaseDataApi;
-    private final SystemUpdateUserConfiguration userConfig;
     private final AuthTokenGenerator authTokenGenerator;
     private final CaseDetailsConverter caseDetailsConverter;
-    private final UserService userService;
+    private final SystemUpdateUserTokenManager systemUpdateUserTokenManager;
 
     public void triggerEvent(Long caseId, CaseEvent eventName) {
         triggerEvent(caseId, eventName, Map.of());
@@ -119,12 +117,18 @@ public class CoreCaseDataService {
     }
 
     public SearchResult searchCases(Query query) {
-        String userToken = userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        String userToken = systemUpdateUserTokenManager.getAccessToken();
         return coreCaseDataApi.searchCases(userToken, authTokenGenerator.generate(), CASE_TYPE, query.toString());
     }
 
+    public SearchResult searchGeneralApplicationCases(Query query) {
+        String userToken = systemUpdateUserTokenManager.getAccessToken();
+        return coreCaseDataApi.searchCases(userToken, authTokenGenerator.generate(), GENERALAPPLICATION_CASE_TYPE,
+                                           query.toString());
+    }
+
     public CaseDetails getCase(Long caseId) {
-        String userToken = userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+        String userToken = systemUpdateUserTokenManager.getAccessToken();
         return coreCaseDataApi.getCase(userToken, authTokenGenerator.generate(), caseId.toString());
     }
 
@@ -133,9 +137,7 @@ public class CoreCaseDataService {
     }
 
     private UserAuthContent getSystemUpdateUser() {
-        String userToken = userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
-        String userId = userService.getUserInfo(userToken).getUid();
-        return UserAuthContent.builder().userToken(userToken).userId(userId).build();
+        return systemUpdateUserTokenManager.getSystemUpdateUser();
     }
 
     public CaseDetails setSupplementaryData(Long caseId, Map<String, Map<String,
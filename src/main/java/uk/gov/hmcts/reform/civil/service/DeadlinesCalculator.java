@@ -75,10 +75,7 @@ public class DeadlinesCalculator {
     }
 
     public LocalDate calculateFirstWorkingDay(LocalDate date) {
-        while (!workingDayIndicator.isWorkingDay(date)) {
-            date = date.plusDays(1);
-        }
-        return date;
+        return workingDayIndicator.isWorkingDay(date) ? date : workingDayIndicator.getNextWorkingDay(date);
     }
 
     private boolean is4pmOrAfter(LocalDateTime dateOfService) {
@@ -93,11 +90,7 @@ public class DeadlinesCalculator {
     }
 
     public LocalDate plusWorkingDays(LocalDate date, int workingDaysForward) {
-        LocalDate currentDate = date;
-        for (int i = 0; i < workingDaysForward; i++) {
-            currentDate = workingDayIndicator.getNextWorkingDay(currentDate.plusDays(1));
-        }
-        return currentDate;
+        return workingDayIndicator.plusWorkingDays(date, workingDaysForward);
     }
 
     public LocalDate getOrderSetAsideOrVariedApplicationDeadline(LocalDateTime fromDateTime) {
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.callback.CaseEvent;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
@@ -14,25 +16,59 @@ import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.genapplication.GADetailsRespondentSol;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplication;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplicationsDetails;
+import uk.gov.hmcts.reform.civil.model.search.Query;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import static java.lang.Long.parseLong;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static uk.gov.hmcts.reform.civil.utils.ElementUtils.wrapElements;
 
+/**
+ * Keeps the general applications of a claim in step with the claim. Linked applications are searched for in one
+ * query of the general application case type, and events are triggered on them concurrently, at most
+ * genApp.events.concurrency at a time. The search index lags behind CCD, so it is only trusted for applications it
+ * already shows closed or taken offline; every other application is read from CCD.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class GenAppStateHelperService {
 
+    /**
+     * Fields of a general application case needed to tell whether it has been closed or taken offline.
+     */
+    private static final List<String> STATUS_FIELDS = List.of(
+        "reference",
+        "state",
+        "data.applicationClosedDate",
+        "data.applicationTakenOfflineDate"
+    );
+    private static final int MAX_REFERENCES_PER_SEARCH = 100;
+
     private final CoreCaseDataService coreCaseDataService;
     private final CaseDetailsConverter caseDetailsConverter;
 
     private final ObjectMapper objectMapper;
+    private final GeneralApplicationEventExecutor eventExecutor;
+
+    public GenAppStateHelperService(CoreCaseDataService coreCaseDataService,
+                                    CaseDetailsConverter caseDetailsConverter,
+                                    ObjectMapper objectMapper,
+                                    GeneralApplicationEventExecutor eventExecutor) {
+        this.coreCaseDataService = coreCaseDataService;
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.objectMapper = objectMapper;
+        this.eventExecutor = eventExecutor;
+    }
 
     @Getter
     @RequiredArgsConstructor
@@ -60,12 +96,27 @@ public class GenAppStateHelperService {
         coreCaseDataService.triggerGeneralApplicationEvent(caseId, event);
     }
 
+    /**
+     * Triggers the event on every general application of the claim. The event is triggered on every application
+     * even when it fails on some of them, and the first failure is then rethrown.
+     *
+     * @param caseData the claim
+     * @param event    the event to trigger on each general application
+     * @return true once the event has been triggered on every application
+     */
     public boolean triggerEvent(CaseData caseData, CaseEvent event) {
-        caseData.getGeneralApplications()
-                .forEach(application ->
-                        triggerEvent(
-                                parseLong(application.getValue().getCaseLink().getCaseReference()),
-                                event));
+        List<CompletableFuture<Void>> triggers = caseData.getGeneralApplications().stream()
+                .map(application -> parseLong(application.getValue().getCaseLink().getCaseReference()))
+                .map(caseId -> eventExecutor.submit(() -> triggerEvent(caseId, event)))
+                .collect(Collectors.toList());
+        try {
+            CompletableFuture.allOf(triggers.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
         return true;
     }
 
@@ -94,7 +145,7 @@ public class GenAppStateHelperService {
         List<Element<GeneralApplicationsDetails>> gaDetails = caseData.getClaimantGaAppDetails();
         List<Element<GeneralApplicationsDetails>> gaDetailsMasterCollection = caseData.getGaDetailsMasterCollection();
 
-        Map<Long, GeneralApplication> generalApplicationMap = getLatestStatusOfGeneralApplication(caseData);
+        Map<Long, GeneralApplication> generalApplicationMap = getLatestStatusOfGeneralApplication(caseData, gaFlow);
         /*
         * Master GA collection for Judge, case worker, legal adviser etc..
         * */
@@ -177,29 +228,55 @@ public class GenAppStateHelperService {
                                                           RequiredState gaFlow) {
         return generalApplicationMap != null
                 && generalApplicationMap.containsKey(caseId)
-                && (
-                        (gaFlow.equals(RequiredState.APPLICATION_CLOSED)
-                                && RequiredState.APPLICATION_CLOSED.getRequiredState()
-                                .equals(generalApplicationMap.get(caseId).getGeneralApplicationState())
-                                && generalApplicationMap.get(caseId).getApplicationClosedDate() != null)
-                     || (gaFlow.equals(RequiredState.APPLICATION_PROCEEDS_OFFLINE)
-                                && RequiredState.APPLICATION_PROCEEDS_OFFLINE.getRequiredState()
-                                .equals(generalApplicationMap.get(caseId).getGeneralApplicationState())
-                                && generalApplicationMap.get(caseId).getApplicationTakenOfflineDate() != null)
-                   );
+                && isInRequiredState(generalApplicationMap.get(caseId), gaFlow);
+    }
+
+    private boolean isInRequiredState(GeneralApplication generalApplication, RequiredState gaFlow) {
+        return (gaFlow.equals(RequiredState.APPLICATION_CLOSED)
+                        && RequiredState.APPLICATION_CLOSED.getRequiredState()
+                        .equals(generalApplication.getGeneralApplicationState())
+                        && generalApplication.getApplicationClosedDate() != null)
+                || (gaFlow.equals(RequiredState.APPLICATION_PROCEEDS_OFFLINE)
+                        && RequiredState.APPLICATION_PROCEEDS_OFFLINE.getRequiredState()
+                        .equals(generalApplication.getGeneralApplicationState())
+                        && generalApplication.getApplicationTakenOfflineDate() != null);
     }
 
-    private Map<Long, GeneralApplication> getLatestStatusOfGeneralApplication(CaseData caseData) {
+    private Map<Long, GeneralApplication> getLatestStatusOfGeneralApplication(CaseData caseData,
+                                                                              RequiredState gaFlow) {
         Map<Long, GeneralApplication> latestStatus = new HashMap<>();
         if (caseData.getGeneralApplications() != null && !caseData.getGeneralApplications().isEmpty()) {
-            for (Element<GeneralApplication> element : caseData.getGeneralApplications()) {
-                Long caseReference = parseLong(element.getValue().getCaseLink().getCaseReference());
-                GeneralApplication application = caseDetailsConverter.toGeneralApplication(coreCaseDataService
-                        .getCase(caseReference));
-                latestStatus.put(caseReference, application);
+            Set<Long> caseReferences = caseData.getGeneralApplications().stream()
+                    .map(element -> parseLong(element.getValue().getCaseLink().getCaseReference()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            List<Long> references = new ArrayList<>(caseReferences);
+            for (int from = 0; from < references.size(); from += MAX_REFERENCES_PER_SEARCH) {
+                List<Long> batch = references.subList(
+                        from, Math.min(from + MAX_REFERENCES_PER_SEARCH, references.size()));
+                searchGeneralApplications(batch).stream()
+                        .filter(caseDetails -> caseReferences.contains(caseDetails.getId()))
+                        .forEach(caseDetails -> {
+                            GeneralApplication generalApplication = caseDetailsConverter
+                                    .toGeneralApplication(caseDetails);
+                            if (isInRequiredState(generalApplication, gaFlow)) {
+                                latestStatus.put(caseDetails.getId(), generalApplication);
+                            }
+                        });
             }
+            /*
+            * Applications not yet indexed, or not yet indexed in the required state, are read directly
+            * */
+            caseReferences.stream()
+                    .filter(caseReference -> !latestStatus.containsKey(caseReference))
+                    .forEach(caseReference -> latestStatus.put(caseReference, caseDetailsConverter
+                            .toGeneralApplication(coreCaseDataService.getCase(caseReference))));
         }
         return latestStatus;
     }
 
+    private List<CaseDetails> searchGeneralApplications(List<Long> caseReferences) {
+        Query query = new Query(termsQuery("reference", caseReferences), STATUS_FIELDS, 0, caseReferences.size());
+        SearchResult searchResult = coreCaseDataService.searchGeneralApplicationCases(query);
+        return searchResult == null || searchResult.getCases() == null ? List.of() : searchResult.getCases();
+    }
 }
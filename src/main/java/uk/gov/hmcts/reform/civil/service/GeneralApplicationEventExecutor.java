@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+
+/**
+ * Triggers events on general applications on a pool of genApp.events.concurrency threads, shared by every claim
+ * whose applications are being updated.
+ */
+@Component
+public class GeneralApplicationEventExecutor {
+
+    private final ExecutorService executorService;
+
+    public GeneralApplicationEventExecutor(@Value("${genApp.events.concurrency:4}") int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("General application event threads must be at least 1");
+        }
+        this.executorService = Executors.newFixedThreadPool(threads, eventThreadFactory());
+    }
+
+    /**
+     * Starts triggering an event.
+     *
+     * @param trigger triggers the event on one general application.
+     * @return completed once the event has been triggered, or exceptionally if it fails.
+     */
+    public CompletableFuture<Void> submit(Runnable trigger) {
+        return CompletableFuture.runAsync(trigger, executorService);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static CustomizableThreadFactory eventThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("general-application-event-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
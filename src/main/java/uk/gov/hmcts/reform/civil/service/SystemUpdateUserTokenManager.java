@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.nimbusds.jwt.JWTParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.civil.service.data.UserAuthContent;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the token and id of the system update user, refreshing the token shortly before it expires according
+ * to its JWT expiry claim. The user id is looked up once per token. Only one caller refreshes at a time: while
+ * the current token is still valid the other callers carry on using it, once it has expired they wait for the
+ * refresh. A token without a readable expiry is never held, so it is resolved again on the next call.
+ */
+@Slf4j
+@Service
+public class SystemUpdateUserTokenManager {
+
+    static final Duration REFRESH_BEFORE_EXPIRY = Duration.ofMinutes(5);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final UserService userService;
+    private final SystemUpdateUserConfiguration userConfig;
+    private final Counter refreshes;
+    private final Counter refreshFailures;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile SystemUpdateUser current;
+
+    public SystemUpdateUserTokenManager(UserService userService,
+                                        SystemUpdateUserConfiguration userConfig,
+                                        MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.userConfig = userConfig;
+        this.refreshes = meterRegistry.counter("civil.system.update.user.token.refreshes");
+        this.refreshFailures = meterRegistry.counter("civil.system.update.user.token.refresh.failures");
+    }
+
+    public String getAccessToken() {
+        return getCurrentUser().userToken;
+    }
+
+    public UserAuthContent getSystemUpdateUser() {
+        SystemUpdateUser user = getCurrentUser();
+        String userId = user.userId;
+        if (userId == null) {
+            userId = userService.getUserInfo(user.userToken).getUid();
+            user.userId = userId;
+        }
+        return UserAuthContent.builder().userToken(user.userToken).userId(userId).build();
+    }
+
+    private SystemUpdateUser getCurrentUser() {
+        SystemUpdateUser user = current;
+        Instant now = Instant.now();
+        if (user != null && now.isBefore(user.refreshAt)) {
+            return user;
+        }
+        if (user != null && now.isBefore(user.expiresAt)) {
+            if (!refreshLock.tryLock()) {
+                return user;
+            }
+            try {
+                return refreshIfDue();
+            } catch (RuntimeException e) {
+                log.warn("Refreshing the system update user token failed, using the current token until it expires", e);
+                return user;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        refreshLock.lock();
+        try {
+            return refreshIfDue();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private SystemUpdateUser refreshIfDue() {
+        SystemUpdateUser user = current;
+        if (user != null && Instant.now().isBefore(user.refreshAt)) {
+            return user;
+        }
+        try {
+            String userToken = userService.getAccessToken(userConfig.getUserName(), userConfig.getPassword());
+            Instant expiresAt = getExpiry(userToken);
+            if (expiresAt != null && !Instant.now().plus(REFRESH_BEFORE_EXPIRY).isBefore(expiresAt)) {
+                userToken = userService.refreshAccessToken(userConfig.getUserName(), userConfig.getPassword());
+                expiresAt = getExpiry(userToken);
+            }
+            user = new SystemUpdateUser(userToken, expiresAt);
+            current = expiresAt == null || !expiresAt.isAfter(Instant.now()) ? null : user;
+            refreshes.increment();
+            return user;
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            throw e;
+        }
+    }
+
+    private static Instant getExpiry(String userToken) {
+        if (userToken == null) {
+            return null;
+        }
+        String jwt = userToken.startsWith(BEARER_PREFIX) ? userToken.substring(BEARER_PREFIX.length()) : userToken;
+        try {
+            Date expirationTime = JWTParser.parse(jwt).getJWTClaimsSet().getExpirationTime();
+            return expirationTime == null ? null : expirationTime.toInstant();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static class SystemUpdateUser {
+
+        private final String userToken;
+        private final Instant refreshAt;
+        private final Instant expiresAt;
+        private volatile String userId;
+
+        private SystemUpdateUser(String userToken, Instant expiresAt) {
+            this.userToken = userToken;
+            this.expiresAt = expiresAt;
+            if (expiresAt == null) {
+                this.refreshAt = null;
+            } else {
+                Duration halfRemaining = Duration.between(Instant.now(), expiresAt).dividedBy(2);
+                this.refreshAt = expiresAt.minus(
+                    halfRemaining.compareTo(REFRESH_BEFORE_EXPIRY) < 0 ? halfRemaining : REFRESH_BEFORE_EXPIRY);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.civil.service.data;
+
+import lombok.Builder;
+import lombok.Data;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+
+/**
+ * What handling an external task produced, kept for completing that same task. Handlers are shared by every task
+ * of their topic, so this is passed from handling to completion instead of being held by the handler.
+ */
+@Data
+@Builder
+public class ExternalTaskData {
+
+    CaseData caseData;
+}
@@ -7,6 +7,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -15,6 +16,9 @@ import uk.gov.hmcts.reform.civil.model.common.MappableObject;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Map;
 
 @Service
@@ -48,9 +52,10 @@ public class DocumentGeneratorService {
         byte[] response;
 
         try {
-            response = restTemplate.exchange(configuration.getUrl() + API_RENDER,
-                                             HttpMethod.POST, request, byte[].class
-            ).getBody();
+            response = restTemplate.execute(configuration.getUrl() + API_RENDER, HttpMethod.POST,
+                                            restTemplate.httpEntityCallback(request, byte[].class),
+                                            DocumentGeneratorService::readDocument
+            );
         } catch (HttpClientErrorException ex) {
             log.error("Docmosis document generation failed for " + ex.getMessage());
             throw ex;
@@ -58,4 +63,20 @@ public class DocumentGeneratorService {
 
         return new DocmosisDocument(template.getDocumentTitle(), response);
     }
+
+    /**
+     * Reads the rendered document straight into an array of its declared length, rather than buffering it and
+     * copying the buffer, so that only one copy of a large document is held while it is read.
+     */
+    private static byte[] readDocument(ClientHttpResponse response) throws IOException {
+        long contentLength = response.getHeaders().getContentLength();
+        try (InputStream body = response.getBody()) {
+            if (contentLength < 0 || contentLength > Integer.MAX_VALUE) {
+                return body.readAllBytes();
+            }
+            byte[] document = new byte[(int) contentLength];
+            int read = body.readNBytes(document, 0, document.length);
+            return read == document.length ? document : Arrays.copyOf(document, read);
+        }
+    }
 }
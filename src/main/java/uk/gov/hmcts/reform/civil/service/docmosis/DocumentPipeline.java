@@ -0,0 +1,240 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
+import uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType;
+import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
+import uk.gov.hmcts.reform.civil.model.common.MappableObject;
+import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Renders and uploads the documents of an event concurrently, so that an event producing several documents waits
+ * for the slowest of them rather than for all of them in turn. Each render is retried on its own when Docmosis
+ * is unavailable or fails with a server error; uploads are already retried by the document management service.
+ * Render, upload and stitch times are recorded per stage.
+ *
+ * <p>Documents generated through {@link #generate} are kept in the renderedDocumentCache, keyed by a hash of the
+ * template, the template data and the file name and type, so that a retried task producing an identical document
+ * reuses the one already uploaded instead of rendering and uploading it again. The render and upload run outside
+ * the cache, so they never hold a lock of the cache; a concurrent request for the same document waits for the one
+ * in flight. Without a Caffeine renderedDocumentCache every document is rendered and uploaded.</p>
+ */
+@Slf4j
+@Service
+public class DocumentPipeline {
+
+    static final String STAGE_TIMER = "civil.document.pipeline.stage";
+    static final String RENDERED_DOCUMENT_CACHE = "renderedDocumentCache";
+    private static final RetryTemplate RENDER_RETRY = RetryTemplate.builder()
+        .maxAttempts(3)
+        .fixedBackoff(200)
+        .retryOn(List.of(HttpServerErrorException.class, ResourceAccessException.class))
+        .build();
+
+    private final DocumentGeneratorService documentGeneratorService;
+    private final DocumentManagementService documentManagementService;
+    private final DocumentPipelineExecutor pipelineExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper mapper;
+    private final ObjectWriter templateDataWriter;
+    private final Cache<Object, Object> renderedDocuments;
+    private final ConcurrentMap<String, CompletableFuture<CaseDocument>> inFlightDocuments = new ConcurrentHashMap<>();
+
+    public DocumentPipeline(DocumentGeneratorService documentGeneratorService,
+                            DocumentManagementService documentManagementService,
+                            DocumentPipelineExecutor pipelineExecutor,
+                            MeterRegistry meterRegistry,
+                            ObjectMapper mapper,
+                            ObjectProvider<CacheManager> cacheManager) {
+        this.documentGeneratorService = documentGeneratorService;
+        this.documentManagementService = documentManagementService;
+        this.pipelineExecutor = pipelineExecutor;
+        this.meterRegistry = meterRegistry;
+        this.mapper = mapper;
+        this.templateDataWriter = mapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.renderedDocuments = renderedDocumentCache(cacheManager.getIfAvailable());
+    }
+
+    /**
+     * Starts a document job on the pipeline executor.
+     *
+     * @param job produces one document, typically by rendering and uploading it
+     * @return the document once the job completes
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> job) {
+        return pipelineExecutor.submit(job);
+    }
+
+    /**
+     * Starts generating a document on the pipeline executor.
+     *
+     * @see #generate
+     */
+    public CompletableFuture<CaseDocument> renderAndUpload(String authorisation,
+                                                           MappableObject templateData,
+                                                           DocmosisTemplates template,
+                                                           String fileName,
+                                                           DocumentType documentType) {
+        return submit(() -> generate(authorisation, templateData, template, fileName, documentType));
+    }
+
+    /**
+     * Renders a document and uploads it, unless an identical document was uploaded recently.
+     *
+     * @param authorisation user token to upload the document with
+     * @param templateData  data to render the template with
+     * @param template      template to render
+     * @param fileName      name to upload the document with
+     * @param documentType  type to upload the document with
+     * @return the uploaded document
+     */
+    public CaseDocument generate(String authorisation,
+                                 MappableObject templateData,
+                                 DocmosisTemplates template,
+                                 String fileName,
+                                 DocumentType documentType) {
+        if (renderedDocuments == null) {
+            return renderThenUpload(authorisation, templateData, template, fileName, documentType);
+        }
+        String key = documentKey(templateData, template, fileName, documentType);
+        CaseDocument cached = (CaseDocument) renderedDocuments.getIfPresent(key);
+        if (cached != null) {
+            log.info("Reusing {} uploaded for identical template data", fileName);
+            return copyOf(cached);
+        }
+        CompletableFuture<CaseDocument> generating = new CompletableFuture<>();
+        CompletableFuture<CaseDocument> inFlight = inFlightDocuments.putIfAbsent(key, generating);
+        if (inFlight != null) {
+            log.info("Waiting for {} already being generated for identical template data", fileName);
+            return copyOf(join(inFlight));
+        }
+        try {
+            CaseDocument document = (CaseDocument) renderedDocuments.getIfPresent(key);
+            if (document == null) {
+                document = renderThenUpload(authorisation, templateData, template, fileName, documentType);
+                renderedDocuments.put(key, document);
+            }
+            generating.complete(document);
+            return copyOf(document);
+        } catch (RuntimeException e) {
+            generating.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightDocuments.remove(key, generating);
+        }
+    }
+
+    /**
+     * Waits for all the given jobs, so that whatever combines their documents starts only once every part exists.
+     *
+     * @param jobs document jobs
+     * @return the documents in the order of the jobs
+     */
+    public <T> List<T> joinAll(List<CompletableFuture<T>> jobs) {
+        join(CompletableFuture.allOf(jobs.toArray(CompletableFuture[]::new)));
+        return jobs.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    private static <T> T join(CompletableFuture<T> job) {
+        try {
+            return job.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public DocmosisDocument render(MappableObject templateData, DocmosisTemplates template) {
+        return timed("render", () -> RENDER_RETRY.execute(context -> {
+            if (context.getRetryCount() > 0) {
+                log.warn("Retrying render of {}, attempt {}", template.getTemplate(), context.getRetryCount() + 1);
+            }
+            return documentGeneratorService.generateDocmosisDocument(templateData, template);
+        }));
+    }
+
+    private CaseDocument renderThenUpload(String authorisation, MappableObject templateData,
+                                         DocmosisTemplates template, String fileName, DocumentType documentType) {
+        DocmosisDocument docmosisDocument = render(templateData, template);
+        return upload(authorisation, new PDF(fileName, docmosisDocument.getBytes(), documentType));
+    }
+
+    public CaseDocument upload(String authorisation, PDF pdf) {
+        return timed("upload", () -> documentManagementService.uploadDocument(authorisation, pdf));
+    }
+
+    public <T> T stitch(Supplier<T> stitching) {
+        return timed("stitch", stitching);
+    }
+
+    private <T> T timed(String stage, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return supplier.get();
+        } finally {
+            sample.stop(Timer.builder(STAGE_TIMER)
+                            .description("Time taken by each stage of document generation")
+                            .tag("stage", stage)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry));
+        }
+    }
+
+    private String documentKey(MappableObject templateData, DocmosisTemplates template,
+                               String fileName, DocumentType documentType) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.join("|", template.getTemplate(), fileName, documentType.name(), "")
+                              .getBytes(StandardCharsets.UTF_8));
+            digest.update(templateDataWriter.writeValueAsBytes(templateData.toMap(mapper)));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not hash template data for " + fileName, e);
+        }
+    }
+
+    /**
+     * Callers assign categories to the documents they are given, so each is given its own copy of a cached one.
+     */
+    private static CaseDocument copyOf(CaseDocument document) {
+        return document.toBuilder()
+            .documentLink(document.getDocumentLink() == null ? null : document.getDocumentLink().toBuilder().build())
+            .build();
+    }
+
+    private static Cache<Object, Object> renderedDocumentCache(CacheManager cacheManager) {
+        org.springframework.cache.Cache cache = cacheManager == null
+            ? null
+            : cacheManager.getCache(RENDERED_DOCUMENT_CACHE);
+        return cache instanceof CaffeineCache ? ((CaffeineCache) cache).getNativeCache() : null;
+    }
+}
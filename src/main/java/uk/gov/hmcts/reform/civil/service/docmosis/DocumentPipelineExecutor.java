@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+/**
+ * Runs the document jobs of the {@link DocumentPipeline} on a pool of document-pipeline.threads threads, shared
+ * by every event generating documents.
+ */
+@Component
+public class DocumentPipelineExecutor {
+
+    private final ExecutorService executorService;
+
+    public DocumentPipelineExecutor(@Value("${document-pipeline.threads:8}") int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Document pipeline threads must be at least 1");
+        }
+        this.executorService = Executors.newFixedThreadPool(threads, pipelineThreadFactory());
+    }
+
+    /**
+     * Starts a document job.
+     *
+     * @param job produces one document.
+     * @return the document, completed exceptionally if the job fails.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> job) {
+        return CompletableFuture.supplyAsync(job, executorService);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static CustomizableThreadFactory pipelineThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("document-pipeline-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
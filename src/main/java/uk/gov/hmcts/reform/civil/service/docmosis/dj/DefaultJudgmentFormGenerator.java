@@ -7,18 +7,15 @@ import uk.gov.hmcts.reform.ccd.model.Organisation;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.model.Address;
 import uk.gov.hmcts.reform.civil.model.CaseData;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.dj.DefaultJudgmentForm;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType;
-import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
 import uk.gov.hmcts.reform.civil.service.FeesService;
 import uk.gov.hmcts.reform.civil.service.OrganisationService;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
-import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGenerator;
-import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.civil.utils.InterestCalculator;
 import uk.gov.hmcts.reform.civil.utils.MonetaryConversions;
 import uk.gov.hmcts.reform.civil.prd.model.ContactInformation;
@@ -29,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static uk.gov.hmcts.reform.civil.callback.CaseEvent.GENERATE_DJ_FORM_SPEC;
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N121;
@@ -39,40 +37,24 @@ import static uk.gov.hmcts.reform.civil.utils.DefaultJudgmentUtils.calculateFixe
 @RequiredArgsConstructor
 public class DefaultJudgmentFormGenerator implements TemplateDataGenerator<DefaultJudgmentForm> {
 
-    private final DocumentManagementService documentManagementService;
-    private final DocumentGeneratorService documentGeneratorService;
+    private final DocumentPipeline documentPipeline;
     private final OrganisationService organisationService;
     private final FeesService feesService;
     private final InterestCalculator interestCalculator;
 
     public List<CaseDocument> generate(CaseData caseData, String authorisation, String event) {
-        List<CaseDocument> caseDocuments = new ArrayList<>();
-        DocmosisDocument docmosisDocument2;
         List<DefaultJudgmentForm> templateData = getDefaultJudgmentForms(caseData, event);
         DocmosisTemplates docmosisTemplate = getDocmosisTemplate(event);
-        DocmosisDocument docmosisDocument1 =
-            documentGeneratorService.generateDocmosisDocument(templateData.get(0), docmosisTemplate);
-        caseDocuments.add(documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(
-                getFileName(caseData, docmosisTemplate),
-                docmosisDocument1.getBytes(),
-                DocumentType.DEFAULT_JUDGMENT
-            )
-        ));
-        if (templateData.size() > 1) {
-            docmosisDocument2 =
-                documentGeneratorService.generateDocmosisDocument(templateData.get(1), docmosisTemplate);
-            caseDocuments.add(documentManagementService.uploadDocument(
+        String fileName = getFileName(caseData, docmosisTemplate);
+        return documentPipeline.joinAll(templateData.stream()
+            .map(form -> documentPipeline.renderAndUpload(
                 authorisation,
-                new PDF(
-                    getFileName(caseData, docmosisTemplate),
-                    docmosisDocument2.getBytes(),
-                    DocumentType.DEFAULT_JUDGMENT
-                )
-            ));
-        }
-        return caseDocuments;
+                form,
+                docmosisTemplate,
+                fileName,
+                DocumentType.DEFAULT_JUDGMENT
+            ))
+            .collect(Collectors.toList()));
     }
 
     @Override
@@ -4,10 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.constants.SpecJourneyConstantLRSpec;
-import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType;
-import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
 import uk.gov.hmcts.reform.civil.enums.AllocatedTrack;
 import uk.gov.hmcts.reform.civil.enums.CaseState;
 import uk.gov.hmcts.reform.civil.enums.ExpertReportsSent;
@@ -18,7 +16,6 @@ import uk.gov.hmcts.reform.civil.enums.dq.Language;
 import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.LitigationFriend;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
 import uk.gov.hmcts.reform.civil.model.docmosis.common.Party;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.DirectionsQuestionnaireForm;
 import uk.gov.hmcts.reform.civil.model.docmosis.dq.Expert;
@@ -38,7 +35,7 @@ import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataService;
 import uk.gov.hmcts.reform.civil.referencedata.model.LocationRefData;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
-import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGeneratorWithAuth;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
@@ -81,8 +78,7 @@ import static uk.gov.hmcts.reform.civil.utils.ElementUtils.unwrapElements;
 @RequiredArgsConstructor
 public class DirectionsQuestionnaireGenerator implements TemplateDataGeneratorWithAuth<DirectionsQuestionnaireForm> {
 
-    private final DocumentManagementService documentManagementService;
-    private final DocumentGeneratorService documentGeneratorService;
+    private final DocumentPipeline documentPipeline;
     private final StateFlowEngine stateFlowEngine;
     private final RepresentativeService representativeService;
     private final FeatureToggleService featureToggleService;
@@ -90,7 +86,6 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGeneratorWi
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
         DocmosisTemplates templateId;
-        DocmosisDocument docmosisDocument;
         DirectionsQuestionnaireForm templateData;
         if (SPEC_CLAIM.equals(caseData.getCaseAccessCategory())) {
             if (isClaimantResponse(caseData)) {
@@ -103,13 +98,9 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGeneratorWi
         }
 
         templateData = getTemplateData(caseData, authorisation);
-        docmosisDocument = documentGeneratorService.generateDocmosisDocument(templateData, templateId);
 
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData, templateId), docmosisDocument.getBytes(),
-                    DocumentType.DIRECTIONS_QUESTIONNAIRE
-            )
+        return documentPipeline.generate(authorisation, templateData, templateId,
+                                         getFileName(caseData, templateId), DocumentType.DIRECTIONS_QUESTIONNAIRE
         );
     }
 
@@ -152,13 +143,8 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGeneratorWi
             throw new IllegalArgumentException("Respondent argument is expected to be one of ONE or TWO");
         }
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(
-            templateData, templateId);
-        return documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData, templateId), docmosisDocument.getBytes(),
-                    DocumentType.DIRECTIONS_QUESTIONNAIRE
-            )
+        return documentPipeline.generate(authorisation, templateData, templateId,
+                                         getFileName(caseData, templateId), DocumentType.DIRECTIONS_QUESTIONNAIRE
         );
     }
 
@@ -196,13 +182,8 @@ public class DirectionsQuestionnaireGenerator implements TemplateDataGeneratorWi
             templateData = getRespondent2TemplateData(caseData, "TWO", authorisation);
         }
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(
-            templateData, templateId);
-        CaseDocument document = documentManagementService.uploadDocument(
-            authorisation,
-            new PDF(getFileName(caseData, templateId), docmosisDocument.getBytes(),
-                    DocumentType.DIRECTIONS_QUESTIONNAIRE
-            )
+        CaseDocument document = documentPipeline.generate(authorisation, templateData, templateId,
+                                                          fileName, DocumentType.DIRECTIONS_QUESTIONNAIRE
         );
         // set the create date time equal to the response date time, so we can check it afterwards
         return Optional.of(document.toBuilder().createdDatetime(responseDate).build());
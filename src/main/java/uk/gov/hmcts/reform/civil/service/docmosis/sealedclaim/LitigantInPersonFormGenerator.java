@@ -8,9 +8,8 @@ import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.LitigantInPersonForm
 import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
-import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGenerator;
-import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
 
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.LIP_CLAIM_FORM;
 
@@ -18,16 +17,15 @@ import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.LIP_C
 @RequiredArgsConstructor
 public class LitigantInPersonFormGenerator implements TemplateDataGenerator<LitigantInPersonForm> {
 
-    private final DocumentManagementService documentManagementService;
-    private final DocumentGeneratorService documentGeneratorService;
+    private final DocumentPipeline documentPipeline;
 
     public CaseDocument generate(CaseData caseData, String authorisation) {
 
         LitigantInPersonForm formData = getTemplateData(caseData);
         DocmosisDocument docmosisDocument =
-            documentGeneratorService.generateDocmosisDocument(formData, LIP_CLAIM_FORM);
+            documentPipeline.render(formData, LIP_CLAIM_FORM);
 
-        return documentManagementService.uploadDocument(
+        return documentPipeline.upload(
             authorisation,
             new PDF(String.format(LIP_CLAIM_FORM.getDocumentTitle(), caseData.getLegacyCaseReference()),
                     docmosisDocument.getBytes(),
@@ -2,7 +2,6 @@ package uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
 import uk.gov.hmcts.reform.civil.enums.MultiPartyScenario;
 import uk.gov.hmcts.reform.civil.model.CaseData;
@@ -14,7 +13,7 @@ import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType;
 import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
-import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.service.docmosis.TemplateDataGeneratorWithAuth;
 import uk.gov.hmcts.reform.civil.utils.DocmosisTemplateDataUtils;
@@ -36,8 +35,7 @@ import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1_MU
 @RequiredArgsConstructor
 public class SealedClaimFormGenerator implements TemplateDataGeneratorWithAuth<SealedClaimForm> {
 
-    private final DocumentManagementService documentManagementService;
-    private final DocumentGeneratorService documentGeneratorService;
+    private final DocumentPipeline documentPipeline;
     private final RepresentativeService representativeService;
     private final LocationRefDataUtil locationRefDataUtil;
 
@@ -46,12 +44,12 @@ public class SealedClaimFormGenerator implements TemplateDataGeneratorWithAuth<S
 
         DocmosisTemplates docmosisTemplate = getDocmosisTemplate(caseData);
 
-        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(
+        DocmosisDocument docmosisDocument = documentPipeline.render(
             templateData,
             docmosisTemplate
         );
 
-        return documentManagementService.uploadDocument(
+        return documentPipeline.upload(
             authorisation,
             new PDF(getFileName(docmosisTemplate, caseData), docmosisDocument.getBytes(), DocumentType.SEALED_CLAIM)
         );
@@ -0,0 +1,295 @@
+package uk.gov.hmcts.reform.civil.service.eventbus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ConstructorDetector;
+import feign.FeignException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import uk.gov.hmcts.reform.civil.config.AsyncEventConfiguration;
+import uk.gov.hmcts.reform.civil.event.AsyncCaseEvent;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxEntry;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Handles {@link AsyncCaseEvent}s after they are published, so that publishers return without waiting for the
+ * listeners of the event. Each event type has its own bounded queue, handled by as many threads as its configured
+ * concurrency, and a failing listener is retried with exponential backoff. A listener rejected with a client error,
+ * such as CCD failing the validation of the event, is not retried as it would fail again.
+ *
+ * <p>With an outbox, each event is added to it when published and deleted once handled. Events that could not be
+ * queued, whose listeners kept failing, or that were being handled by a pod that stopped, are taken from the outbox
+ * again by the next poll of any pod. Events are then handled at least once. Without an outbox, an event that
+ * cannot be queued is handled by its publisher, and events still queued when the pod stops are lost.</p>
+ *
+ * <p>The depth of each queue, the time events wait before being handled and the number of events in the outbox
+ * are recorded.</p>
+ */
+@Slf4j
+public class AsyncEventBus implements DisposableBean {
+
+    static final String QUEUE_DEPTH = "civil.async.events.queue.depth";
+    static final String LAG = "civil.async.events.lag";
+    static final String OUTBOX_PENDING = "civil.async.events.outbox.pending";
+    private static final List<Class<? extends Throwable>> NOT_RETRYABLE = List.of(
+        FeignException.FeignClientException.class,
+        HttpClientErrorException.class
+    );
+
+    private final AsyncEventConfiguration configuration;
+    private final Consumer<AsyncCaseEvent> listeners;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper mapper;
+    private final AsyncEventOutboxRepository outbox;
+    private final RetryTemplate retry;
+    private final Map<Class<?>, ThreadPoolExecutor> queues = new ConcurrentHashMap<>();
+    private final AtomicLong outboxPending = new AtomicLong();
+    private final ScheduledExecutorService outboxPoller;
+
+    public AsyncEventBus(AsyncEventConfiguration configuration,
+                         Consumer<AsyncCaseEvent> listeners,
+                         MeterRegistry meterRegistry,
+                         ObjectMapper mapper,
+                         AsyncEventOutboxRepository outbox) {
+        this.configuration = configuration;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistry;
+        this.mapper = mapper.copy().setConstructorDetector(ConstructorDetector.USE_PROPERTIES_BASED);
+        this.outbox = outbox;
+        this.retry = RetryTemplate.builder()
+            .maxAttempts(configuration.getRetry().getMaxAttempts())
+            .exponentialBackoff(configuration.getRetry().getInitialBackoff(), 2,
+                                configuration.getRetry().getMaxBackoff())
+            .notRetryOn(NOT_RETRYABLE)
+            .build();
+        if (outbox == null) {
+            outboxPoller = null;
+        } else {
+            Gauge.builder(OUTBOX_PENDING, outboxPending, AtomicLong::get)
+                .description("Events in the outbox that have not been handled")
+                .register(meterRegistry);
+            long pollInterval = configuration.getOutbox().getPollInterval();
+            outboxPoller = Executors.newSingleThreadScheduledExecutor(threadFactory("async-event-outbox-"));
+            outboxPoller.scheduleWithFixedDelay(this::pollOutbox, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Queues the event to be handled, keeping it in the outbox until it is.
+     *
+     * @param event the published event.
+     */
+    public void publish(AsyncCaseEvent event) {
+        Long outboxId = addToOutbox(event);
+        Delivery delivery = new Delivery(event, Instant.now(), outboxId, 0);
+        if (!enqueue(delivery)) {
+            if (outboxId == null) {
+                log.warn("Queue for {} is full, handling event for case {} on publishing thread",
+                         event.getClass().getSimpleName(), event.getCaseId());
+                deliver(delivery);
+            } else {
+                releaseToOutbox(outboxId);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (outboxPoller != null) {
+            outboxPoller.shutdownNow();
+        }
+        queues.values().forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor queue : queues.values()) {
+            if (!queue.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Stopped with {} async event(s) still queued", queue.getQueue().size());
+            }
+        }
+    }
+
+    void pollOutbox() {
+        try {
+            outboxPending.set(outbox.countPending());
+            List<AsyncEventOutboxEntry> entries = outbox.take(
+                configuration.getOutbox().getBatchSize(),
+                configuration.getOutbox().getLease()
+            );
+            for (AsyncEventOutboxEntry entry : entries) {
+                AsyncCaseEvent event = fromOutbox(entry);
+                if (event != null
+                    && !enqueue(new Delivery(event, entry.getCreatedAt(), entry.getId(), entry.getAttempts()))) {
+                    releaseToOutbox(entry.getId());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Polling async event outbox failed", e);
+        }
+    }
+
+    private boolean enqueue(Delivery delivery) {
+        try {
+            queueFor(delivery.getEvent().getClass()).execute(() -> deliver(delivery));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void deliver(Delivery delivery) {
+        AsyncCaseEvent event = delivery.getEvent();
+        Timer.builder(LAG)
+            .description("Time events wait between being published and being handled")
+            .tag("type", event.getClass().getSimpleName())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(Duration.between(delivery.getPublishedAt(), Instant.now()));
+        try {
+            retry.execute(context -> {
+                if (context.getRetryCount() > 0) {
+                    log.warn("Retrying {} for case {}, attempt {}", event.getClass().getSimpleName(),
+                             event.getCaseId(), context.getRetryCount() + 1);
+                }
+                listeners.accept(event);
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Handling {} failed for case {}", event.getClass().getSimpleName(), event.getCaseId(), e);
+            if (delivery.getOutboxId() != null) {
+                if (isRetryable(e)) {
+                    retryLater(delivery);
+                } else {
+                    markFailed(delivery.getOutboxId());
+                }
+            }
+            return;
+        }
+        if (delivery.getOutboxId() != null) {
+            try {
+                outbox.delete(delivery.getOutboxId());
+            } catch (Exception e) {
+                log.error("Could not delete outbox entry {}, it is handled again once its lease expires",
+                          delivery.getOutboxId(), e);
+            }
+        }
+    }
+
+    private void retryLater(Delivery delivery) {
+        try {
+            if (delivery.getAttempts() + 1 >= configuration.getOutbox().getMaxAttempts()) {
+                log.error("Giving up on {} for case {} after {} attempt(s)",
+                          delivery.getEvent().getClass().getSimpleName(), delivery.getEvent().getCaseId(),
+                          delivery.getAttempts() + 1);
+                outbox.markFailed(delivery.getOutboxId());
+            } else {
+                outbox.retryLater(delivery.getOutboxId(), configuration.getOutbox().getRetryDelay());
+            }
+        } catch (Exception e) {
+            log.error("Could not update outbox entry {}, it is handled again once its lease expires",
+                      delivery.getOutboxId(), e);
+        }
+    }
+
+    private void markFailed(long outboxId) {
+        try {
+            outbox.markFailed(outboxId);
+        } catch (Exception e) {
+            log.error("Could not mark outbox entry {} as failed, it is handled again once its lease expires",
+                      outboxId, e);
+        }
+    }
+
+    private static boolean isRetryable(Exception e) {
+        return NOT_RETRYABLE.stream().noneMatch(type -> type.isInstance(e));
+    }
+
+    private void releaseToOutbox(long outboxId) {
+        try {
+            outbox.release(outboxId);
+        } catch (Exception e) {
+            log.error("Could not release outbox entry {}, it is handled once its lease expires", outboxId, e);
+        }
+    }
+
+    private Long addToOutbox(AsyncCaseEvent event) {
+        if (outbox == null) {
+            return null;
+        }
+        try {
+            return outbox.add(event.getClass().getName(), mapper.writeValueAsString(event),
+                              configuration.getOutbox().getLease());
+        } catch (Exception e) {
+            log.error("Could not add {} for case {} to outbox, it is only queued in memory",
+                      event.getClass().getSimpleName(), event.getCaseId(), e);
+            return null;
+        }
+    }
+
+    private AsyncCaseEvent fromOutbox(AsyncEventOutboxEntry entry) {
+        try {
+            Class<?> eventType = Class.forName(entry.getEventType());
+            if (!AsyncCaseEvent.class.isAssignableFrom(eventType)) {
+                throw new IllegalArgumentException(entry.getEventType() + " is not an async case event");
+            }
+            return (AsyncCaseEvent) mapper.readValue(entry.getPayload(), eventType);
+        } catch (ClassNotFoundException | JsonProcessingException | IllegalArgumentException e) {
+            log.error("Could not read outbox entry {} of type {}", entry.getId(), entry.getEventType(), e);
+            outbox.markFailed(entry.getId());
+            return null;
+        }
+    }
+
+    private ThreadPoolExecutor queueFor(Class<?> eventType) {
+        return queues.computeIfAbsent(eventType, type -> {
+            int concurrency = configuration.getConcurrency(type);
+            ThreadPoolExecutor queue = new ThreadPoolExecutor(
+                concurrency,
+                concurrency,
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(configuration.getQueueCapacity()),
+                threadFactory("async-event-" + type.getSimpleName() + "-")
+            );
+            queue.allowCoreThreadTimeOut(true);
+            Gauge.builder(QUEUE_DEPTH, queue, executor -> executor.getQueue().size())
+                .description("Events waiting to be handled")
+                .tag("type", type.getSimpleName())
+                .register(meterRegistry);
+            return queue;
+        });
+    }
+
+    private static CustomizableThreadFactory threadFactory(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    @Value
+    private static class Delivery {
+
+        AsyncCaseEvent event;
+        Instant publishedAt;
+        Long outboxId;
+        int attempts;
+    }
+}
@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.civil.service.eventbus;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.core.ResolvableType;
+import uk.gov.hmcts.reform.civil.event.AsyncCaseEvent;
+
+/**
+ * Hands {@link AsyncCaseEvent}s published in the application to the {@link AsyncEventBus}, which later calls
+ * their listeners through {@link #deliver}. Any other event, and any event published before the bus exists, is
+ * multicast to its listeners while it is published.
+ */
+public class AsyncEventMulticaster extends SimpleApplicationEventMulticaster {
+
+    private final ObjectProvider<AsyncEventBus> eventBus;
+
+    public AsyncEventMulticaster(ObjectProvider<AsyncEventBus> eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        if (event instanceof PayloadApplicationEvent
+            && ((PayloadApplicationEvent<?>) event).getPayload() instanceof AsyncCaseEvent) {
+            AsyncEventBus bus = eventBus.getIfAvailable();
+            if (bus != null) {
+                bus.publish((AsyncCaseEvent) ((PayloadApplicationEvent<?>) event).getPayload());
+                return;
+            }
+        }
+        super.multicastEvent(event, eventType);
+    }
+
+    /**
+     * Calls the listeners of an event taken from the bus.
+     *
+     * @param event the event to handle.
+     */
+    public void deliver(AsyncCaseEvent event) {
+        super.multicastEvent(new PayloadApplicationEvent<>(this, event), null);
+    }
+}
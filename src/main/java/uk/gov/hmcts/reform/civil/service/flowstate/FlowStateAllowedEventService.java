@@ -1181,18 +1181,20 @@ public class FlowStateAllowedEventService {
     }
 
     public boolean isAllowed(CaseDetails caseDetails, CaseEvent caseEvent) {
-        CaseData caseData = caseDetailsConverter.toCaseData(caseDetails);
+        return isAllowed(caseDetailsConverter.toCaseData(caseDetails), caseEvent);
+    }
 
+    public boolean isAllowed(CaseData caseData, CaseEvent caseEvent) {
         if (caseEvent.equals(migrateCase)) {
             return true;
         }
 
         if (SPEC_CLAIM.equals(caseData.getCaseAccessCategory())
             || CREATE_CLAIM_SPEC.equals(caseEvent) || CREATE_LIP_CLAIM.equals(caseEvent)) {
-            StateFlow stateFlow = stateFlowEngine.evaluateSpec(caseDetails);
+            StateFlow stateFlow = stateFlowEngine.evaluateSpec(caseData);
             return isAllowedOnStateForSpec(stateFlow.getState().getName(), caseEvent);
         } else {
-            StateFlow stateFlow = stateFlowEngine.evaluate(caseDetails);
+            StateFlow stateFlow = stateFlowEngine.evaluate(caseData);
             return isAllowedOnState(stateFlow.getState().getName(), caseEvent);
         }
     }
@@ -1,13 +1,17 @@
 package uk.gov.hmcts.reform.civil.service.flowstate;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.stateflow.CompiledStateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
 import uk.gov.hmcts.reform.civil.stateflow.StateFlowBuilder;
+import uk.gov.hmcts.reform.civil.stateflow.grammar.Build;
 import uk.gov.hmcts.reform.civil.stateflow.model.State;
 
 import java.util.Map;
@@ -159,13 +163,36 @@ import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.TAKEN_O
 import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.TAKEN_OFFLINE_UNREPRESENTED_UNREGISTERED_DEFENDANT;
 
 @Component
-@RequiredArgsConstructor
 public class StateFlowEngine {
 
     private final CaseDetailsConverter caseDetailsConverter;
     private final FeatureToggleService featureToggleService;
+    private final CompiledStateFlow unspecStateFlow;
+    private final CompiledStateFlow specStateFlow;
+    private final StateFlowEvaluationCache evaluationCache;
 
+    public StateFlowEngine(CaseDetailsConverter caseDetailsConverter,
+                           FeatureToggleService featureToggleService,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.caseDetailsConverter = caseDetailsConverter;
+        this.featureToggleService = featureToggleService;
+        this.evaluationCache = new StateFlowEvaluationCache(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        this.unspecStateFlow = flow(DRAFT).compile();
+        this.specStateFlow = flow(SPEC_DRAFT).compile();
+    }
+
+    /**
+     * Builds the flow as a StateFlow backed by Spring State Machine.
+     * Evaluation normally goes through the flows compiled at start up, see {@link #evaluate(CaseData)}.
+     *
+     * @param initialState state the flow starts from
+     * @return StateFlow backed by a new state machine
+     */
     public StateFlow build(FlowState.Main initialState) {
+        return flow(initialState).build();
+    }
+
+    private Build flow(FlowState.Main initialState) {
         return StateFlowBuilder.<FlowState.Main>flow(FLOW_NAME)
             .initial(initialState)
             .transitionTo(CLAIM_SUBMITTED)
@@ -551,27 +578,38 @@ public class StateFlowEngine {
             .state(FULL_ADMIT_PAY_IMMEDIATELY)
             .state(CLAIM_DISMISSED_HEARING_FEE_DUE_DEADLINE)
             .state(IN_MEDIATION)
-            .state(IN_HEARING_READINESS)
-            .build();
+            .state(IN_HEARING_READINESS);
     }
 
     public StateFlow evaluate(CaseDetails caseDetails) {
-        return evaluate(caseDetailsConverter.toCaseData(caseDetails));
+        return evaluationCache.evaluate(
+            "CASE_DETAILS", caseDetails.getId(), caseDetails.getData(),
+            () -> evaluate(caseDetailsConverter.toCaseData(caseDetails))
+        );
     }
 
     public StateFlow evaluate(CaseData caseData) {
         if (SPEC_CLAIM.equals(caseData.getCaseAccessCategory())) {
-            return build(SPEC_DRAFT).evaluate(caseData);
+            return evaluateSpec(caseData);
         }
-        return build(DRAFT).evaluate(caseData);
+        return evaluationCache.evaluate(
+            "UNSPEC", caseData.getCcdCaseReference(), caseData,
+            () -> unspecStateFlow.evaluate(caseData)
+        );
     }
 
     public StateFlow evaluateSpec(CaseDetails caseDetails) {
-        return evaluateSpec(caseDetailsConverter.toCaseData(caseDetails));
+        return evaluationCache.evaluate(
+            "CASE_DETAILS_SPEC", caseDetails.getId(), caseDetails.getData(),
+            () -> evaluateSpec(caseDetailsConverter.toCaseData(caseDetails))
+        );
     }
 
     public StateFlow evaluateSpec(CaseData caseData) {
-        return build(SPEC_DRAFT).evaluate(caseData);
+        return evaluationCache.evaluate(
+            "SPEC", caseData.getCcdCaseReference(), caseData,
+            () -> specStateFlow.evaluate(caseData)
+        );
     }
 
     public boolean hasTransitionedTo(CaseDetails caseDetails, FlowState.Main state) {
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Remembers the flows evaluated while handling the current request, so that the aspects, services and handlers
+ * taking part in one callback evaluate each snapshot of a case only once.
+ * Evaluations are keyed by the flow, the case reference and the snapshot of the case content itself, so only
+ * equal content, not merely content with the same hash, reuses an evaluation and a case that changes during the
+ * request is evaluated again. Outside a request, e.g. in external task handlers,
+ * every evaluation goes straight through and is counted as neither a hit nor a miss.
+ * Hits and misses are counted as civil.stateflow.evaluation.cache{result=hit|miss}.
+ */
+public class StateFlowEvaluationCache {
+
+    static final String METER_NAME = "civil.stateflow.evaluation.cache";
+    private static final String EVALUATIONS_ATTRIBUTE = StateFlowEvaluationCache.class.getName();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public StateFlowEvaluationCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter(METER_NAME, "result", "hit");
+        this.misses = meterRegistry.counter(METER_NAME, "result", "miss");
+    }
+
+    public StateFlow evaluate(String flow, Long caseReference, Object snapshot, Supplier<StateFlow> evaluation) {
+        Map<Key, StateFlow> evaluations = requestEvaluations();
+        if (evaluations == null) {
+            return evaluation.get();
+        }
+
+        Key key = new Key(flow, caseReference, snapshot);
+        StateFlow stateFlow = evaluations.get(key);
+        if (stateFlow != null) {
+            hits.increment();
+            return stateFlow;
+        }
+        misses.increment();
+        stateFlow = evaluation.get();
+        evaluations.put(key, stateFlow);
+        return stateFlow;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Key, StateFlow> requestEvaluations() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+        Map<Key, StateFlow> evaluations = (Map<Key, StateFlow>) requestAttributes.getAttribute(
+            EVALUATIONS_ATTRIBUTE,
+            SCOPE_REQUEST
+        );
+        if (evaluations == null) {
+            evaluations = new HashMap<>();
+            requestAttributes.setAttribute(EVALUATIONS_ATTRIBUTE, evaluations, SCOPE_REQUEST);
+        }
+        return evaluations;
+    }
+
+    @Value
+    private static class Key {
+
+        String flow;
+        Long caseReference;
+        Object snapshot;
+    }
+}
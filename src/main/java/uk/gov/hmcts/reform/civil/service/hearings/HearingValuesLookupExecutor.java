@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.civil.service.hearings;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+/**
+ * Runs the lookups of the hearing values on a pool of hearing-values.lookup-threads threads, enough for about a
+ * third as many concurrent hearing values requests as each makes three lookups. A lookup waiting for a free thread
+ * is not timed out; its timeout starts once it runs.
+ */
+@Component
+public class HearingValuesLookupExecutor {
+
+    private final ExecutorService executorService;
+
+    public HearingValuesLookupExecutor(@Value("${hearing-values.lookup-threads:24}") int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Hearing values lookup threads must be at least 1");
+        }
+        this.executorService = Executors.newFixedThreadPool(threads, lookupThreadFactory());
+    }
+
+    /**
+     * Starts a lookup.
+     *
+     * @param lookup  the lookup to run.
+     * @param timeout how long the lookup may run once started.
+     * @return the result of the lookup, completed with a TimeoutException if it runs for longer than the timeout.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> lookup, Duration timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executorService.execute(() -> {
+            result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                result.complete(lookup.get());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static CustomizableThreadFactory lookupThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hearing-values-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -1,17 +1,31 @@
 package uk.gov.hmcts.reform.civil.service.hearings;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.civil.config.HearingValuesConfiguration;
 import uk.gov.hmcts.reform.civil.config.ManageCaseBaseUrlConfiguration;
 import uk.gov.hmcts.reform.civil.config.PaymentsConfiguration;
 import uk.gov.hmcts.reform.civil.exceptions.CaseNotFoundException;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.enums.hearing.CategoryType;
 import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.hearingvalues.CaseCategoryModel;
 import uk.gov.hmcts.reform.civil.model.hearingvalues.ServiceHearingValuesModel;
+import uk.gov.hmcts.reform.civil.prd.model.Organisation;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.OrganisationService;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.CaseFlagsMapper.getCaseFlags;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.CaseFlagsToHearingValueMapper.hasCaseInterpreterRequiredFlag;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingDetailsMapper.getDuration;
@@ -31,6 +45,7 @@ import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingDetailsM
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingDetailsMapper.getPanelRequirements;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingDetailsMapper.getPrivateHearingRequiredFlag;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingsPartyMapper.buildPartyObjectForHearingPayload;
+import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.HearingsPartyMapper.getSolicitorOrganisationIds;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.ScreenFlowMapper.getScreenFlow;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.ServiceHearingsCaseLevelMapper.getAutoListFlag;
 import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.ServiceHearingsCaseLevelMapper.getCaseAdditionalSecurityFlag;
@@ -46,11 +61,21 @@ import static uk.gov.hmcts.reform.civil.helpers.hearingsmappings.VocabularyMappe
 import static uk.gov.hmcts.reform.civil.utils.HmctsServiceIDUtils.getHmctsServiceID;
 import uk.gov.hmcts.reform.civil.service.DeadlinesCalculator;
 
+/**
+ * Builds the hearing values HMC asks for when listing a hearing. Once the case has been retrieved, the case type
+ * and sub type categories and the solicitor organisations are looked up concurrently on the
+ * {@link HearingValuesLookupExecutor}, each within its own timeout from when it starts; a lookup that fails or
+ * times out is logged and the values are built without it. The time taken by each stage is recorded as
+ * civil.hearing.values.stage, tagged with the stage.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HearingValuesService {
 
+    static final String STAGE_TIMER = "civil.hearing.values.stage";
+    static final String LOOKUP_FAILURES = "civil.hearing.values.lookup.failures";
+
     private final PaymentsConfiguration paymentsConfiguration;
     private final ManageCaseBaseUrlConfiguration manageCaseBaseUrlConfiguration;
     private final CaseCategoriesService caseCategoriesService;
@@ -58,18 +83,35 @@ public class HearingValuesService {
     private final CaseDetailsConverter caseDetailsConverter;
     private final OrganisationService organisationService;
     private final DeadlinesCalculator deadlinesCalculator;
+    private final HearingValuesConfiguration hearingValuesConfiguration;
+    private final MeterRegistry meterRegistry;
+    private final HearingValuesLookupExecutor lookupExecutor;
 
     public ServiceHearingValuesModel getValues(Long caseId, String hearingId, String authToken) {
-        CaseData caseData = retrieveCaseData(caseId);
+        CaseData caseData = timed("case", () -> retrieveCaseData(caseId));
+
+        Duration categoriesTimeout = hearingValuesConfiguration.getCategoriesTimeout();
+        CompletableFuture<CaseCategoryModel> caseType = lookUp("caseType", categoriesTimeout, () ->
+            caseCategoriesService.getCaseCategoriesFor(CategoryType.CASE_TYPE, caseData, authToken));
+        CompletableFuture<CaseCategoryModel> caseSubType = lookUp("caseSubType", categoriesTimeout, () ->
+            caseCategoriesService.getCaseCategoriesFor(CategoryType.CASE_SUBTYPE, caseData, authToken));
+        CompletableFuture<Map<String, Organisation>> organisations = lookUp(
+            "organisations",
+            hearingValuesConfiguration.getOrganisationsTimeout(),
+            () -> organisationService.findOrganisationsById(getSolicitorOrganisationIds(caseData))
+        );
 
         String baseUrl = manageCaseBaseUrlConfiguration.getManageCaseBaseUrl();
 
-        return ServiceHearingValuesModel.builder()
+        return timed("build", () -> ServiceHearingValuesModel.builder()
             .hmctsServiceID(getHmctsServiceID(caseData, paymentsConfiguration))
             .hmctsInternalCaseName(getHmctsInternalCaseName(caseData))
             .publicCaseName(getPublicCaseName(caseData)) //todo civ-7030
             .caseAdditionalSecurityFlag(getCaseAdditionalSecurityFlag(caseData))
-            .caseCategories(getCaseCategories(caseData, caseCategoriesService, authToken))
+            .caseCategories(getCaseCategories(
+                joinOrDefault(caseType, "caseType", caseId, null),
+                joinOrDefault(caseSubType, "caseSubType", caseId, null)
+            ))
             .caseDeepLink(getCaseDeepLink(caseId, baseUrl))
             .caseRestrictedFlag(getCaseRestrictedFlag())
             .externalCaseReference(getExternalCaseReference())
@@ -92,12 +134,15 @@ public class HearingValuesService {
             .leadJudgeContractType(getLeadJudgeContractType())
             .judiciary(getJudiciary())
             .hearingIsLinkedFlag(getHearingIsLinkedFlag())
-            .parties(buildPartyObjectForHearingPayload(caseData, organisationService)) //todo civ-7690
+            .parties(buildPartyObjectForHearingPayload(
+                caseData,
+                joinOrDefault(organisations, "organisations", caseId, Collections.emptyMap())
+            )) //todo civ-7690
             .screenFlow(getScreenFlow())
             .vocabulary(getVocabulary())
             .hearingChannels(getHearingChannels(caseData)) //todo civ-6261
             .caseFlags(getCaseFlags(caseData)) // todo civ-7690 for party id
-            .build();
+            .build());
     }
 
     private CaseData retrieveCaseData(long caseId) {
@@ -108,4 +153,27 @@ public class HearingValuesService {
             throw new CaseNotFoundException();
         }
     }
+
+    private <T> CompletableFuture<T> lookUp(String stage, Duration timeout, Supplier<T> lookup) {
+        return lookupExecutor.submit(() -> timed(stage, lookup), timeout);
+    }
+
+    private <T> T joinOrDefault(CompletableFuture<T> lookup, String stage, Long caseId, T fallback) {
+        try {
+            return lookup.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Hearing values {} lookup failed for case {}, continuing without it", stage, caseId, e);
+            meterRegistry.counter(LOOKUP_FAILURES, "stage", stage).increment();
+            return fallback;
+        }
+    }
+
+    private <T> T timed(String stage, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return supplier.get();
+        } finally {
+            sample.stop(meterRegistry.timer(STAGE_TIMER, "stage", stage));
+        }
+    }
 }
@@ -1,8 +1,8 @@
 package uk.gov.hmcts.reform.civil.service.robotics;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
@@ -11,18 +11,30 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.utils.ResourceReader;
 
+import java.io.IOException;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 
+/**
+ * Validates payloads against JSON schemas. Each schema is read and compiled once, the default schema as soon as
+ * the service is created, and reused for every payload validated against it.
+ */
 @Slf4j
 @Service
 public class JsonSchemaValidationService {
 
-    private String jsonSchemaFile;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+
+    private final String jsonSchemaFile;
+    private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
 
     public JsonSchemaValidationService() {
         this.jsonSchemaFile = "schema/rpa-json-schema.json";
+        getJsonSchema(jsonSchemaFile);
     }
 
     public JsonSchemaValidationService(String jsonSchemaFile) {
@@ -48,19 +60,42 @@ public class JsonSchemaValidationService {
     }
 
     public Set<ValidationMessage> validate(String body, String jsonSchemaFileName) {
-        String jsonSchemaContents = readJsonSchema(jsonSchemaFileName);
-        var jsonSchema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(jsonSchemaContents);
-        return jsonSchema.validate(getJsonNodeFromStringContent(body));
+        return getJsonSchema(jsonSchemaFileName).validate(getJsonNodeFromStringContent(body));
+    }
+
+    /**
+     * Validates a serialised payload against the default schema without decoding it to a string first.
+     *
+     * @param payload UTF-8 encoded JSON
+     * @return the validation errors, empty when the payload is valid
+     */
+    public Set<ValidationMessage> validate(byte[] payload) {
+        return getJsonSchema(jsonSchemaFile).validate(getJsonNodeFromBytes(payload));
     }
 
     private JsonNode getJsonNodeFromStringContent(String content) {
         try {
-            return new ObjectMapper().readTree(content);
-        } catch (JsonProcessingException e) {
+            return MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new JsonSchemaValidationException(e.getMessage(), e);
+        }
+    }
+
+    private JsonNode getJsonNodeFromBytes(byte[] content) {
+        try {
+            return MAPPER.readTree(content);
+        } catch (IOException e) {
             throw new JsonSchemaValidationException(e.getMessage(), e);
         }
     }
 
+    private JsonSchema getJsonSchema(String jsonSchemaFileName) {
+        return schemas.computeIfAbsent(
+            jsonSchemaFileName,
+            fileName -> SCHEMA_FACTORY.getSchema(readJsonSchema(fileName))
+        );
+    }
+
     private String readJsonSchema(String input) {
         try {
             return ResourceReader.readString(input);
@@ -46,11 +46,26 @@ public class RoboticsNotificationService {
     private final RoboticsDataMapperForSpec roboticsDataMapperForSpec;
 
     public void notifyRobotics(@NotNull CaseData caseData, boolean isMultiParty, String authToken) {
+        requireNonNull(caseData);
+        try {
+            notifyRobotics(caseData, isMultiParty, getRoboticsCaseDataDTO(caseData, authToken));
+        } catch (JsonProcessingException e) {
+            throw new RoboticsDataException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends the robotics payload already built and serialised for the case, attaching its JSON as it is.
+     *
+     * @param caseData         the case the payload was built from
+     * @param isMultiParty     whether the case is a multiparty claim
+     * @param roboticsCaseData the serialised payload and its event history
+     */
+    public void notifyRobotics(@NotNull CaseData caseData, boolean isMultiParty, RoboticsCaseDataDTO roboticsCaseData) {
         requireNonNull(caseData);
         log.info(String.format("Start notifyRobotics and case data is not null %s", caseData.getLegacyCaseReference()));
-        Optional<EmailData> emailData = prepareEmailData(RoboticsEmailParams.builder().caseData(caseData).authToken(
-            authToken).isMultiParty(isMultiParty).build());
-        emailData.ifPresent(data -> sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), data));
+        EmailData emailData = prepareEmailData(caseData, isMultiParty, roboticsCaseData);
+        sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), emailData);
     }
 
     public void notifyJudgementLip(@NotNull CaseData caseData) {
@@ -61,37 +76,24 @@ public class RoboticsNotificationService {
         emailData.ifPresent(data -> sendGridClient.sendEmail(roboticsEmailConfiguration.getSender(), data));
     }
 
-    private Optional<EmailData> prepareEmailData(RoboticsEmailParams params) {
-
-        log.info(String.format("Start prepareEmailData %s", params.getCaseData().getLegacyCaseReference()));
-        byte[] roboticsJsonData;
-        try {
-            RoboticsCaseDataDTO roboticsCaseDataDTO = getRoboticsCaseDataDTO(
-                params.getCaseData(),
-                params.getAuthToken()
-            );
-            String fileName = getFileName(params.getCaseData());
-            String triggerEvent;
-            roboticsJsonData = roboticsCaseDataDTO.getJsonRawData();
+    private EmailData prepareEmailData(CaseData caseData, boolean isMultiParty,
+                                       RoboticsCaseDataDTO roboticsCaseDataDTO) {
+        log.info(String.format("Start prepareEmailData %s", caseData.getLegacyCaseReference()));
+        String fileName = getFileName(caseData);
+        String triggerEvent;
 
-            if (SPEC_CLAIM.equals(params.getCaseData().getCaseAccessCategory())) {
-                triggerEvent = findLatestEventTriggerReasonSpec(roboticsCaseDataDTO.getEvents());
-            } else {
-                triggerEvent = findLatestEventTriggerReason(roboticsCaseDataDTO.getEvents());
-                log.info(String.format("triggerEvent %s", triggerEvent));
-            }
-            return Optional.of(EmailData.builder()
-                                   .message(getMessage(params.getCaseData(), params.isMultiParty()))
-                                   .subject(getSubject(params.getCaseData(), triggerEvent, params.isMultiParty()))
-                                   .to(getRoboticsEmailRecipient(
-                                       params.isMultiParty(),
-                                       SPEC_CLAIM.equals(params.getCaseData().getCaseAccessCategory())
-                                   ))
-                                   .attachments(of(json(roboticsJsonData, fileName)))
-                                   .build());
-        } catch (JsonProcessingException e) {
-            throw new RoboticsDataException(e.getMessage(), e);
+        if (SPEC_CLAIM.equals(caseData.getCaseAccessCategory())) {
+            triggerEvent = findLatestEventTriggerReasonSpec(roboticsCaseDataDTO.getEvents());
+        } else {
+            triggerEvent = findLatestEventTriggerReason(roboticsCaseDataDTO.getEvents());
+            log.info(String.format("triggerEvent %s", triggerEvent));
         }
+        return EmailData.builder()
+            .message(getMessage(caseData, isMultiParty))
+            .subject(getSubject(caseData, triggerEvent, isMultiParty))
+            .to(getRoboticsEmailRecipient(isMultiParty, SPEC_CLAIM.equals(caseData.getCaseAccessCategory())))
+            .attachments(of(json(roboticsCaseDataDTO.getJsonRawData(), fileName)))
+            .build();
     }
 
     private static String getFileName(CaseData caseData) {
@@ -104,7 +106,7 @@ public class RoboticsNotificationService {
             roboticsCaseDataDTO = getRoboticsCaseDataDTOForSpec(caseData);
         } else {
             RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData, authToken);
-            roboticsCaseDataDTO = RoboticsCaseDataDTO.builder().jsonRawData(roboticsCaseData.toJsonString().getBytes())
+            roboticsCaseDataDTO = RoboticsCaseDataDTO.builder().jsonRawData(roboticsCaseData.toJsonBytes())
                 .events(roboticsCaseData.getEvents())
                 .build();
         }
@@ -114,7 +116,7 @@ public class RoboticsNotificationService {
     private RoboticsCaseDataDTO getRoboticsCaseDataDTOForSpec(CaseData caseData) throws JsonProcessingException {
         RoboticsCaseDataDTO roboticsCaseDataDTO;
         RoboticsCaseDataSpec roboticsCaseDataSpec = roboticsDataMapperForSpec.toRoboticsCaseData(caseData);
-        roboticsCaseDataDTO = RoboticsCaseDataDTO.builder().jsonRawData(roboticsCaseDataSpec.toJsonString().getBytes())
+        roboticsCaseDataDTO = RoboticsCaseDataDTO.builder().jsonRawData(roboticsCaseDataSpec.toJsonBytes())
             .events(roboticsCaseDataSpec.getEvents())
             .build();
         return roboticsCaseDataDTO;
@@ -18,11 +18,12 @@ public class BundleCreationTriggerService extends ElasticSearchService {
 
     private static final int BUNDLE_CREATION_TIME_RANGE = 3;
 
-    public BundleCreationTriggerService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public BundleCreationTriggerService(CoreCaseDataService coreCaseDataService,
+                                        CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -32,7 +33,7 @@ public class BundleCreationTriggerService extends ElasticSearchService {
                 .should(boolQuery()
                             .must(rangeQuery("data.hearingDate").lte(LocalDate.now().plusWeeks(BUNDLE_CREATION_TIME_RANGE)))
                             .must(beState(CaseState.PREPARE_FOR_HEARING_CONDUCT_HEARING))
-                ), List.of("reference"), startIndex
+                ), List.of("reference"), 0
         );
     }
 
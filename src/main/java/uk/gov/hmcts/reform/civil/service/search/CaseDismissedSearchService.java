@@ -18,11 +18,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.CASE_ISSUED;
 @Service
 public class CaseDismissedSearchService extends ElasticSearchService {
 
-    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public CaseDismissedSearchService(CoreCaseDataService coreCaseDataService,
+                                      CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -36,7 +37,7 @@ public class CaseDismissedSearchService extends ElasticSearchService {
                             .must(rangeQuery("data.claimDismissedDeadline").lt("now"))
                             .must(beState(AWAITING_RESPONDENT_ACKNOWLEDGEMENT))),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
@@ -12,15 +12,18 @@ import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 @Service
 public class CaseReadyBusinessProcessSearchService extends ElasticSearchService {
 
-    public CaseReadyBusinessProcessSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    private static final int PAGE_SIZE = 100;
+
+    public CaseReadyBusinessProcessSearchService(CoreCaseDataService coreCaseDataService,
+                                                 CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor, PAGE_SIZE);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery().must(matchQuery("data.businessProcess.status", "READY")),
             List.of(),
-            startIndex
+            0
         );
     }
 }
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+
+/**
+ * Fetches the next page of case searches on a pool of case-search.page-fetch-threads threads, shared by all the
+ * search services. Each stream of cases fetches at most one page ahead, so the pool bounds how many streams can
+ * prefetch at the same time.
+ */
+@Component
+public class CaseSearchPageExecutor {
+
+    private final ExecutorService executorService;
+
+    public CaseSearchPageExecutor(@Value("${case-search.page-fetch-threads:8}") int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Case search page fetch threads must be at least 1");
+        }
+        this.executorService = Executors.newFixedThreadPool(threads, pageFetchThreadFactory());
+    }
+
+    /**
+     * Starts fetching a page.
+     *
+     * @param search the search for the page.
+     * @return the page, completed exceptionally if the search fails.
+     */
+    public <T> CompletableFuture<T> fetch(Supplier<T> search) {
+        return CompletableFuture.supplyAsync(search, executorService);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    private static CustomizableThreadFactory pageFetchThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("case-search-page-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
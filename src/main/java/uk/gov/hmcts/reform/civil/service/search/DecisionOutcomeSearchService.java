@@ -16,11 +16,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.PREPARE_FOR_HEARING_COND
 @Service
 public class DecisionOutcomeSearchService extends ElasticSearchService {
 
-    public DecisionOutcomeSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public DecisionOutcomeSearchService(CoreCaseDataService coreCaseDataService,
+                                        CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -28,7 +29,7 @@ public class DecisionOutcomeSearchService extends ElasticSearchService {
                             .must(rangeQuery("data.hearingDate").lte("now"))
                             .must(beState(PREPARE_FOR_HEARING_CONDUCT_HEARING))),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
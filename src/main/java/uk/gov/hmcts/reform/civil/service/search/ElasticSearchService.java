@@ -1,41 +1,147 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
-import lombok.RequiredArgsConstructor;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static java.math.RoundingMode.UP;
-
-@RequiredArgsConstructor
 public abstract class ElasticSearchService {
 
+    private static final int ES_DEFAULT_SEARCH_LIMIT = 10;
+
     private final CoreCaseDataService coreCaseDataService;
+    private final CaseSearchPageExecutor pageExecutor;
+    private final int pageSize;
 
-    private static final int START_INDEX = 0;
-    private static final int ES_DEFAULT_SEARCH_LIMIT = 10;
+    protected ElasticSearchService(CoreCaseDataService coreCaseDataService, CaseSearchPageExecutor pageExecutor) {
+        this(coreCaseDataService, pageExecutor, ES_DEFAULT_SEARCH_LIMIT);
+    }
 
-    public List<CaseDetails> getCases() {
-        SearchResult searchResult = coreCaseDataService.searchCases(query(START_INDEX));
-        int pages = calculatePages(searchResult);
-        List<CaseDetails> caseDetails = new ArrayList<>(searchResult.getCases());
+    /**
+     * Creates a search service fetching pages of the given size, which it sets on the {@link #query()}.
+     */
+    protected ElasticSearchService(CoreCaseDataService coreCaseDataService,
+                                   CaseSearchPageExecutor pageExecutor,
+                                   int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        this.coreCaseDataService = coreCaseDataService;
+        this.pageExecutor = pageExecutor;
+        this.pageSize = pageSize;
+    }
 
-        for (int i = 1; i < pages; i++) {
-            SearchResult result = coreCaseDataService.searchCases(query(i * ES_DEFAULT_SEARCH_LIMIT));
-            caseDetails.addAll(result.getCases());
+    /**
+     * Fetches every case matching the query, see {@link #streamCases()}.
+     */
+    public List<CaseDetails> getCases() {
+        try (Stream<CaseDetails> cases = streamCases()) {
+            return cases.collect(Collectors.toList());
         }
+    }
+
+    /**
+     * Streams the cases matching the query in case reference order. Each page is searched for after the last
+     * reference of the previous page, so cases that stop matching the query while earlier cases are processed
+     * neither shift later cases out of their page nor bring them back. The next page is fetched while the
+     * current one is consumed, so only two pages are held in memory at a time. Closing the stream cancels the
+     * page being fetched.
+     */
+    public Stream<CaseDetails> streamCases() {
+        CasePages casePages = new CasePages(search(null));
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(casePages, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        ).onClose(casePages::close);
+    }
+
+    /**
+     * Returns the query for the cases to fetch. {@link #streamCases()} sets the page size, sorts it by case reference
+     * and pages it with search_after.
+     */
+    abstract Query query();
 
-        return caseDetails;
+    private SearchResult search(Long afterReference) {
+        return coreCaseDataService.searchCases(query().withSize(pageSize).afterReference(afterReference));
     }
 
-    abstract Query query(int startIndex);
+    private class CasePages implements Iterator<CaseDetails> {
 
-    private int calculatePages(SearchResult searchResult) {
-        return new BigDecimal(searchResult.getTotal()).divide(new BigDecimal(ES_DEFAULT_SEARCH_LIMIT), UP).intValue();
+        private Iterator<CaseDetails> currentPage;
+        private CompletableFuture<SearchResult> nextPage;
+
+        private CasePages(SearchResult firstPage) {
+            this.currentPage = firstPage.getCases().iterator();
+            fetchAfter(firstPage);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!currentPage.hasNext()) {
+                if (nextPage == null) {
+                    return false;
+                }
+                SearchResult page;
+                try {
+                    page = join(nextPage);
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                }
+                currentPage = page.getCases().iterator();
+                fetchAfter(page);
+            }
+            return true;
+        }
+
+        @Override
+        public CaseDetails next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return currentPage.next();
+        }
+
+        /**
+         * Starts fetching the page after the given one, unless it was the last page, i.e. not a full page.
+         */
+        private void fetchAfter(SearchResult page) {
+            List<CaseDetails> cases = page.getCases();
+            if (cases.size() < pageSize) {
+                nextPage = null;
+                return;
+            }
+            Long lastReference = cases.get(cases.size() - 1).getId();
+            nextPage = pageExecutor.fetch(() -> search(lastReference));
+        }
+
+        private void close() {
+            if (nextPage != null) {
+                nextPage.cancel(true);
+                nextPage = null;
+            }
+        }
+    }
+
+    private static SearchResult join(CompletableFuture<SearchResult> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 }
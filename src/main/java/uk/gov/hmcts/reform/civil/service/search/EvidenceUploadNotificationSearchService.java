@@ -18,11 +18,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.PREPARE_FOR_HEARING_COND
 @Service
 public class EvidenceUploadNotificationSearchService extends ElasticSearchService {
 
-    public EvidenceUploadNotificationSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public EvidenceUploadNotificationSearchService(CoreCaseDataService coreCaseDataService,
+                                                   CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
 
         return new Query(
             boolQuery()
@@ -39,7 +40,7 @@ public class EvidenceUploadNotificationSearchService extends ElasticSearchServic
                               "now-1d"))
                           ),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
@@ -18,11 +18,14 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.HEARING_READINESS;
 @Service
 public class HearingFeeDueSearchService extends ElasticSearchService {
 
-    public HearingFeeDueSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    private static final int PAGE_SIZE = 500;
+
+    public HearingFeeDueSearchService(CoreCaseDataService coreCaseDataService,
+                                      CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor, PAGE_SIZE);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -32,7 +35,7 @@ public class HearingFeeDueSearchService extends ElasticSearchService {
                                                                                     .toString()))
                             .must(beState(HEARING_READINESS))),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
@@ -16,11 +16,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.AWAITING_APPLICANT_INTEN
 @Service
 public class TakeCaseOfflineSearchService extends ElasticSearchService {
 
-    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public TakeCaseOfflineSearchService(CoreCaseDataService coreCaseDataService,
+                                        CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -28,7 +29,7 @@ public class TakeCaseOfflineSearchService extends ElasticSearchService {
                             .must(rangeQuery("data.applicant1ResponseDeadline").lt("now"))
                             .must(beState(AWAITING_APPLICANT_INTENTION))),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
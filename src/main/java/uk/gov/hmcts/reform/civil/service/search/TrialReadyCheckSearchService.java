@@ -18,11 +18,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.PREPARE_FOR_HEARING_COND
 @Service
 public class TrialReadyCheckSearchService extends ElasticSearchService {
 
-    public TrialReadyCheckSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public TrialReadyCheckSearchService(CoreCaseDataService coreCaseDataService,
+                                        CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -34,7 +35,7 @@ public class TrialReadyCheckSearchService extends ElasticSearchService {
                             .mustNot(matchQuery("data.allocatedTrack", "SMALL_CLAIM"))
                             .mustNot(matchQuery("data.trialReadyChecked", "Yes"))),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
@@ -20,11 +20,12 @@ import static uk.gov.hmcts.reform.civil.enums.CaseState.PREPARE_FOR_HEARING_COND
 @Service
 public class TrialReadyNotificationSearchService extends ElasticSearchService {
 
-    public TrialReadyNotificationSearchService(CoreCaseDataService coreCaseDataService) {
-        super(coreCaseDataService);
+    public TrialReadyNotificationSearchService(CoreCaseDataService coreCaseDataService,
+                                               CaseSearchPageExecutor pageExecutor) {
+        super(coreCaseDataService, pageExecutor);
     }
 
-    public Query query(int startIndex) {
+    public Query query() {
         return new Query(
             boolQuery()
                 .minimumShouldMatch(1)
@@ -37,7 +38,7 @@ public class TrialReadyNotificationSearchService extends ElasticSearchService {
                             .mustNot(matchQuery("data.listingOrRelisting", ListingOrRelisting.RELISTING))
                             .mustNot(matchQuery("data.trialReadyNotified", YesOrNo.YES)),
             List.of("reference"),
-            startIndex
+            0
         );
     }
 
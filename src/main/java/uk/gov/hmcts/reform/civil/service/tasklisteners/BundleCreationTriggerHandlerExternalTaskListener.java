@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.handler.tasks.BundleCreationTriggerHandler;
@@ -13,8 +11,7 @@ public class BundleCreationTriggerHandlerExternalTaskListener {
 
     @Autowired
     private BundleCreationTriggerHandlerExternalTaskListener(BundleCreationTriggerHandler  bundleCreationTriggerHandler,
-                                                           ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC).lockDuration(600000);
-        subscriptionBuilder.handler(bundleCreationTriggerHandler).open();
+                                                           ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, bundleCreationTriggerHandler).lockDuration(600000).open();
     }
 }
@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.handler.tasks.EvidenceUploadCheckHandler;
@@ -13,8 +11,7 @@ public class EvidenceUploadNotificationExternalTaskListener {
 
     @Autowired
     private EvidenceUploadNotificationExternalTaskListener(EvidenceUploadCheckHandler evidenceUploadCheckHandler,
-                                                           ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(evidenceUploadCheckHandler).open();
+                                                           ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, evidenceUploadCheckHandler).open();
     }
 }
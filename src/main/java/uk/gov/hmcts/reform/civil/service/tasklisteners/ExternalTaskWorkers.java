@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import lombok.extern.slf4j.Slf4j;
+import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import uk.gov.hmcts.reform.civil.config.ExternalTaskWorkerConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Subscribes handlers to their topics. Most topics share a single client, which handles the tasks it fetches one
+ * at a time. Topics configured under external-task.workers are fetched by a client of their own instead, which
+ * locks up to max-tasks tasks at a time and hands each to a pool of as many threads, so that a busy topic handles
+ * many cases in parallel. A task is only handed over once a thread is free to handle it, so fetched tasks that
+ * are waiting for a thread should be allowed for in the lock duration of the topic.
+ */
+@Slf4j
+public class ExternalTaskWorkers implements DisposableBean {
+
+    private final ExternalTaskClient client;
+    private final IntFunction<ExternalTaskClient> workerClientFactory;
+    private final Map<String, ExternalTaskWorkerConfiguration.Worker> workers;
+    private final List<ExternalTaskClient> workerClients = new ArrayList<>();
+    private final List<ExecutorService> workerPools = new ArrayList<>();
+
+    public ExternalTaskWorkers(ExternalTaskClient client,
+                               IntFunction<ExternalTaskClient> workerClientFactory,
+                               Map<String, ExternalTaskWorkerConfiguration.Worker> workers) {
+        this.client = client;
+        this.workerClientFactory = workerClientFactory;
+        this.workers = workers;
+    }
+
+    /**
+     * Subscribes the handler to the topic, on the workers configured for the topic if there are any.
+     *
+     * @param topic   the topic to fetch tasks of.
+     * @param handler the handler for each fetched task.
+     * @return the subscription, to be opened once any further settings are made.
+     */
+    public synchronized TopicSubscriptionBuilder subscribe(String topic, ExternalTaskHandler handler) {
+        ExternalTaskWorkerConfiguration.Worker worker = workers.get(topic);
+        if (worker == null) {
+            return client.subscribe(topic).handler(handler);
+        }
+
+        log.info("Topic '{}' handled by {} worker(s) with lock duration {}ms",
+                 topic, worker.getMaxTasks(), worker.getLockDuration());
+        ExternalTaskClient workerClient = workerClientFactory.apply(worker.getMaxTasks());
+        workerClients.add(workerClient);
+        ExecutorService workerPool = Executors.newFixedThreadPool(worker.getMaxTasks(), workerThreadFactory(topic));
+        workerPools.add(workerPool);
+
+        return workerClient.subscribe(topic)
+            .lockDuration(worker.getLockDuration())
+            .handler(onWorkerPool(handler, workerPool, new Semaphore(worker.getMaxTasks())));
+    }
+
+    @Override
+    public synchronized void destroy() {
+        workerClients.forEach(ExternalTaskClient::stop);
+        workerPools.forEach(ExecutorService::shutdown);
+    }
+
+    private static ExternalTaskHandler onWorkerPool(ExternalTaskHandler handler,
+                                                    ExecutorService workerPool,
+                                                    Semaphore freeWorkers) {
+        return (externalTask, externalTaskService) -> {
+            freeWorkers.acquireUninterruptibly();
+            try {
+                workerPool.execute(() -> {
+                    try {
+                        handler.execute(externalTask, externalTaskService);
+                    } finally {
+                        freeWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                freeWorkers.release();
+                throw e;
+            }
+        };
+    }
+
+    private static CustomizableThreadFactory workerThreadFactory(String topic) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(topic + "-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
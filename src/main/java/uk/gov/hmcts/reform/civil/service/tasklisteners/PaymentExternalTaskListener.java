@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.handler.tasks.PaymentTaskHandler;
@@ -12,8 +10,8 @@ public class PaymentExternalTaskListener {
     private static final String TOPIC = "processPayment";
 
     @Autowired
-    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler, ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(paymentTaskHandler).open();
+    private PaymentExternalTaskListener(PaymentTaskHandler paymentTaskHandler,
+                                        ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, paymentTaskHandler).open();
     }
 }
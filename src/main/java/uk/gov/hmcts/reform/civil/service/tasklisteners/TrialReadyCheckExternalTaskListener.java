@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.handler.tasks.TrialReadyCheckHandler;
@@ -12,8 +10,8 @@ public class TrialReadyCheckExternalTaskListener {
     private static final String TOPIC = "TRIAL_READY_CHECK";
 
     @Autowired
-    private TrialReadyCheckExternalTaskListener(TrialReadyCheckHandler handler, ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(handler).open();
+    private TrialReadyCheckExternalTaskListener(TrialReadyCheckHandler handler,
+                                                ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, handler).open();
     }
 }
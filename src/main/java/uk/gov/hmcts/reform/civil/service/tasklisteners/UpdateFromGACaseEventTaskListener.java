@@ -1,7 +1,5 @@
 package uk.gov.hmcts.reform.civil.service.tasklisteners;
 
-import org.camunda.bpm.client.ExternalTaskClient;
-import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.civil.handler.tasks.UpdateFromGACaseEventTaskHandler;
@@ -13,8 +11,7 @@ public class UpdateFromGACaseEventTaskListener {
 
     @Autowired
     private UpdateFromGACaseEventTaskListener(UpdateFromGACaseEventTaskHandler updateFromGACaseEventTaskHandler,
-                                              ExternalTaskClient client) {
-        TopicSubscriptionBuilder subscriptionBuilder = client.subscribe(TOPIC);
-        subscriptionBuilder.handler(updateFromGACaseEventTaskHandler).open();
+                                              ExternalTaskWorkers externalTaskWorkers) {
+        externalTaskWorkers.subscribe(TOPIC, updateFromGACaseEventTaskHandler).open();
     }
 }
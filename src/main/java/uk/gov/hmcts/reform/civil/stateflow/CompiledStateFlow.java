@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.Transition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Immutable transition table compiled from a {@link StateFlowContext}.
+ * Evaluating a case walks the table directly instead of building and starting a Spring State Machine,
+ * following the same rules as the machine created by {@link StateFlowBuilder}:
+ * - transitions whose source or target state has not been declared are dropped
+ * - when more than one transition out of a state is permitted the flow is flagged as ambiguous,
+ * and the last declared permitted transition is followed
+ * - a condition that throws denies its transition
+ * - flags are only set by the transitions that are followed
+ */
+@Slf4j
+public class CompiledStateFlow {
+
+    private static final int[] NO_TRANSITIONS = new int[0];
+
+    private final String[] states;
+    private final int[][] outgoing;
+    private final Transition[] transitions;
+    private final int[] targets;
+
+    private CompiledStateFlow(String[] states, int[][] outgoing, Transition[] transitions, int[] targets) {
+        this.states = states;
+        this.outgoing = outgoing;
+        this.transitions = transitions;
+        this.targets = targets;
+    }
+
+    public static CompiledStateFlow compile(StateFlowContext stateFlowContext) {
+        String initialState = stateFlowContext.getInitialState()
+            .orElseThrow(() -> new StateFlowException("Failed to compile StateFlow without an initial state."));
+
+        Map<String, Integer> stateIndex = new LinkedHashMap<>();
+        stateIndex.put(initialState, 0);
+        stateFlowContext.getStates().forEach(state -> stateIndex.putIfAbsent(state, stateIndex.size()));
+
+        List<Transition> declared = new ArrayList<>();
+        List<List<Integer>> outgoingByState = new ArrayList<>();
+        stateIndex.forEach((state, index) -> outgoingByState.add(new ArrayList<>()));
+        for (Transition transition : stateFlowContext.getTransitions()) {
+            Integer source = stateIndex.get(transition.getSourceState());
+            if (source != null && stateIndex.containsKey(transition.getTargetState())) {
+                outgoingByState.get(source).add(declared.size());
+                declared.add(transition);
+            }
+        }
+
+        String[] states = stateIndex.keySet().toArray(new String[0]);
+        int[][] outgoing = new int[states.length][];
+        for (int i = 0; i < states.length; i++) {
+            List<Integer> fromState = outgoingByState.get(i);
+            outgoing[i] = fromState.isEmpty()
+                ? NO_TRANSITIONS
+                : fromState.stream().mapToInt(Integer::intValue).toArray();
+        }
+        Transition[] transitions = declared.toArray(new Transition[0]);
+        int[] targets = new int[transitions.length];
+        for (int i = 0; i < transitions.length; i++) {
+            targets[i] = stateIndex.get(transitions[i].getTargetState());
+        }
+        return new CompiledStateFlow(states, outgoing, transitions, targets);
+    }
+
+    public StateFlow evaluate(CaseData caseData) {
+        Map<String, Boolean> flags = new HashMap<>();
+        List<String> history = new ArrayList<>();
+        boolean ambiguous = false;
+
+        int current = 0;
+        while (true) {
+            history.add(states[current]);
+
+            int followed = -1;
+            int permitted = 0;
+            boolean guardFailed = false;
+            for (int transition : outgoing[current]) {
+                try {
+                    if (isPermitted(transitions[transition], caseData)) {
+                        followed = transition;
+                        permitted++;
+                    }
+                } catch (RuntimeException e) {
+                    // a state machine denies a guard that throws, and cannot check the state for ambiguity
+                    log.warn("Deny guard due to throw as GUARD should not error", e);
+                    guardFailed = true;
+                }
+            }
+            if (permitted > 1 && !guardFailed) {
+                ambiguous = true;
+                logAmbiguity(current, caseData);
+            }
+            if (followed < 0) {
+                break;
+            }
+            if (transitions[followed].getFlags() != null) {
+                transitions[followed].getFlags().accept(flags);
+            }
+            current = targets[followed];
+        }
+
+        return new EvaluatedStateFlow(this, states[current], history, flags, ambiguous);
+    }
+
+    private static boolean isPermitted(Transition transition, CaseData caseData) {
+        return transition.getCondition() == null || transition.getCondition().test(caseData);
+    }
+
+    private void logAmbiguity(int state, CaseData caseData) {
+        StringJoiner permittedStates = new StringJoiner(",");
+        for (int transition : outgoing[state]) {
+            if (isPermitted(transitions[transition], caseData)) {
+                permittedStates.add(states[targets[transition]]);
+            }
+        }
+        log.error(String.format(
+            "Ambiguous transitions permitting state [%s] to move to more than one next states [%s].",
+            states[state], permittedStates
+        ));
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import org.springframework.statemachine.StateMachine;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Result of evaluating a case against a {@link CompiledStateFlow}.
+ * Holds the same state, history and flags a StateFlow backed by Spring State Machine reports after evaluation.
+ */
+class EvaluatedStateFlow extends StateFlow {
+
+    private final CompiledStateFlow compiledStateFlow;
+    private final String state;
+    private final List<String> stateHistory;
+    private final Map<String, Boolean> flags;
+    private final boolean ambiguous;
+
+    EvaluatedStateFlow(CompiledStateFlow compiledStateFlow, String state, List<String> stateHistory,
+                       Map<String, Boolean> flags, boolean ambiguous) {
+        super(null);
+        this.compiledStateFlow = compiledStateFlow;
+        this.state = state;
+        this.stateHistory = stateHistory;
+        this.flags = flags;
+        this.ambiguous = ambiguous;
+    }
+
+    @Override
+    public StateMachine<String, String> asStateMachine() {
+        throw new StateFlowException("A compiled state flow is not backed by a state machine.");
+    }
+
+    @Override
+    public StateFlow evaluate(CaseData caseData) {
+        return compiledStateFlow.evaluate(caseData);
+    }
+
+    @Override
+    public State getState() {
+        if (ambiguous) {
+            throw new StateFlowException("The state machine is at error state.");
+        }
+        return State.from(state);
+    }
+
+    @Override
+    public List<State> getStateHistory() {
+        return stateHistory.stream().map(State::from).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Boolean> getFlags() {
+        return flags;
+    }
+}
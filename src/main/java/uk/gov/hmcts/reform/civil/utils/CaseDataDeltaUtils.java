@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.civil.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import uk.gov.hmcts.reform.civil.callback.CallbackParams;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class CaseDataDeltaUtils {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private CaseDataDeltaUtils() {
+        //NO-OP
+    }
+
+    /**
+     * Returns the case data received with the callback with the properties the handler changed written over it,
+     * for use as the data of an about to start or about to submit response. Only the changed properties are
+     * serialised, each exactly as {@link CaseData#toMap(ObjectMapper)} would serialise it; keys no longer written
+     * for a changed property, such as one that has been emptied, are removed.
+     *
+     * <p>Falls back to serialising the whole case when the callback carries no case data to compare against, or
+     * when the case is not serialised property by property.</p>
+     *
+     * @param callbackParams callback the handler is responding to
+     * @param updated        case data built by the handler from {@link CallbackParams#getCaseData()}
+     * @param mapper         object mapper the handler would use to serialise the whole case
+     * @return data for the callback response
+     */
+    public static Map<String, Object> mergeChangedData(CallbackParams callbackParams, CaseData updated,
+                                                       ObjectMapper mapper) {
+        CaseData original = callbackParams.getCaseData();
+        Map<String, Object> incomingData = callbackParams.getRequest() == null
+            || callbackParams.getRequest().getCaseDetails() == null
+            ? null
+            : callbackParams.getRequest().getCaseDetails().getData();
+        if (original == null || incomingData == null) {
+            return updated.toMap(mapper);
+        }
+
+        try {
+            SerializerProvider provider = mapper.getSerializerProviderInstance();
+            List<BeanPropertyWriter> changedProperties = changedProperties(
+                provider.findValueSerializer(CaseData.class), original, updated);
+            if (changedProperties == null) {
+                return updated.toMap(mapper);
+            }
+
+            Map<String, Object> merged = new HashMap<>(incomingData);
+            for (BeanPropertyWriter property : changedProperties) {
+                merged.keySet().removeAll(serialise(property, original, mapper, provider).keySet());
+                merged.putAll(serialise(property, updated, mapper, provider));
+            }
+            return merged;
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static List<BeanPropertyWriter> changedProperties(JsonSerializer<Object> serializer, CaseData original,
+                                                              CaseData updated) throws Exception {
+        if (!(serializer instanceof BeanSerializerBase)) {
+            return null;
+        }
+        List<BeanPropertyWriter> changedProperties = new ArrayList<>();
+        Iterator<PropertyWriter> properties = serializer.properties();
+        while (properties.hasNext()) {
+            PropertyWriter property = properties.next();
+            if (!(property instanceof BeanPropertyWriter)) {
+                return null;
+            }
+            BeanPropertyWriter beanProperty = (BeanPropertyWriter) property;
+            if (!Objects.equals(beanProperty.get(original), beanProperty.get(updated))) {
+                changedProperties.add(beanProperty);
+            }
+        }
+        return changedProperties;
+    }
+
+    private static Map<String, Object> serialise(BeanPropertyWriter property, CaseData caseData,
+                                                 ObjectMapper mapper, SerializerProvider provider) throws Exception {
+        TokenBuffer buffer = new TokenBuffer(mapper, false);
+        if (mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+            buffer = buffer.forceUseOfBigDecimal(true);
+        }
+        buffer.writeStartObject();
+        property.serializeAsField(caseData, buffer, provider);
+        buffer.writeEndObject();
+        return mapper.readValue(buffer.asParser(), MAP_TYPE);
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Reserves a block of values from damages_claims_reference_number_seq in one call.
+ * Values are unique across callers but not necessarily contiguous.
+ */
+CREATE FUNCTION reserve_damages_claims_reference_numbers(block_size INTEGER) RETURNS SETOF BIGINT AS $$
+SELECT nextval('damages_claims_reference_number_seq') FROM generate_series(1, block_size)
+$$ LANGUAGE SQL;
+
+/**
+ * Reserves a block of values from claim_reference_number_seq in one call.
+ * Values are unique across callers but not necessarily contiguous.
+ */
+CREATE FUNCTION reserve_reference_numbers(block_size INTEGER) RETURNS SETOF BIGINT AS $$
+SELECT nextval('claim_reference_number_seq') FROM generate_series(1, block_size)
+$$ LANGUAGE SQL;
@@ -0,0 +1,15 @@
+/**
+ * Events published in process and not yet handled, kept so that they are handled after a restart.
+ * An event is available to be taken by any pod from available_at, and is no longer taken once failed_at is set.
+ */
+CREATE TABLE async_event_outbox (
+  id BIGSERIAL PRIMARY KEY,
+  event_type VARCHAR(255) NOT NULL,
+  payload TEXT NOT NULL,
+  created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+  available_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+  attempts INTEGER NOT NULL DEFAULT 0,
+  failed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX async_event_outbox_available_at_idx ON async_event_outbox (available_at) WHERE failed_at IS NULL;
@@ -13,13 +13,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
 import uk.gov.hmcts.reform.civil.callback.CallbackType;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
-import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.sampledata.CallbackParamsBuilder;
-import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowStateAllowedEventService;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
@@ -48,6 +47,8 @@ class EventAllowedAspectTest {
 
     @Autowired
     EventAllowedAspect eventAllowedAspect;
+    @Autowired
+    CaseDetailsConverter caseDetailsConverter;
     @MockBean
     ProceedingJoinPoint proceedingJoinPoint;
     @MockBean
@@ -77,13 +78,13 @@ class EventAllowedAspectTest {
             .build();
         when(proceedingJoinPoint.proceed()).thenReturn(response);
 
-        CaseData caseData = CaseDataBuilder.builder().atStateRespondentFullDefence().build();
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStatePendingClaimIssued().build();
 
         CallbackParams callbackParams = CallbackParamsBuilder.builder()
-            .of(ABOUT_TO_START, caseData)
+            .of(ABOUT_TO_START, caseDetailsConverter.toCaseData(caseDetails))
             .request(CallbackRequest.builder()
                          .eventId(DEFENDANT_RESPONSE.name())
-                         .caseDetails(CaseDetailsBuilder.builder().atStatePendingClaimIssued().build())
+                         .caseDetails(caseDetails)
                          .build())
             .build();
         Object result = eventAllowedAspect.checkEventAllowed(proceedingJoinPoint, callbackParams);
@@ -98,13 +99,13 @@ class EventAllowedAspectTest {
         AboutToStartOrSubmitCallbackResponse response = AboutToStartOrSubmitCallbackResponse.builder().build();
         when(proceedingJoinPoint.proceed()).thenReturn(response);
 
-        CaseData caseData = CaseDataBuilder.builder().atStateApplicantRespondToDefenceAndProceed().build();
+        CaseDetails caseDetails = CaseDetailsBuilder.builder().atStateRespondedToClaim().build();
 
         CallbackParams callbackParams = CallbackParamsBuilder.builder()
-            .of(ABOUT_TO_START, caseData)
+            .of(ABOUT_TO_START, caseDetailsConverter.toCaseData(caseDetails))
             .request(CallbackRequest.builder()
                          .eventId(CLAIMANT_RESPONSE.name())
-                         .caseDetails(CaseDetailsBuilder.builder().atStateRespondedToClaim().build())
+                         .caseDetails(caseDetails)
                          .build())
             .build();
         Object result = eventAllowedAspect.checkEventAllowed(proceedingJoinPoint, callbackParams);
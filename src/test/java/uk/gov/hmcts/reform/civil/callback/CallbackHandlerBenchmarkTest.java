@@ -0,0 +1,104 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.util.Optional.ofNullable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_START;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.MID;
+import static uk.gov.hmcts.reform.civil.callback.CallbackType.SUBMITTED;
+import static uk.gov.hmcts.reform.civil.callback.CallbackVersion.V_1;
+import static uk.gov.hmcts.reform.civil.callback.CaseEvent.CREATE_CLAIM;
+
+/**
+ * Compares the time taken to dispatch mid-event callbacks to a handler with the callback keys of the create claim
+ * handler, formatting the key and rebuilding the handler's callbacks for each request as before, and looking the
+ * callback up in the compiled callback table. Both must return the handler's response; the timings are only logged.
+ * The callbacks only return a response, so the timings measure the lookup rather than the work of the real
+ * handler. Tagged perf, so it runs with perfTest rather than test.
+ */
+@Slf4j
+@Tag("perf")
+class CallbackHandlerBenchmarkTest {
+
+    private static final int REQUESTS = 200_000;
+    private static final CallbackResponse RESPONSE = AboutToStartOrSubmitCallbackResponse.builder().build();
+    private static final List<String> PAGE_IDS = List.of(
+        "start-claim", "applicant", "applicant2", "fee", "idam-email", "setRespondent2SameLegalRepresentativeToNo",
+        "validate-defendant-legal-rep-email", "validate-claimant-legal-rep-email", "particulars-of-claim",
+        "appOrgPolicy", "repOrgPolicy", "rep2OrgPolicy", "statement-of-truth", "populateClaimantSolicitor"
+    );
+
+    private final CallbackHandler handler = new CallbackHandler() {
+        @Override
+        protected Map<String, Callback> callbacks() {
+            ImmutableMap.Builder<String, Callback> callbacks = new ImmutableMap.Builder<String, Callback>()
+                .put(callbackKey(ABOUT_TO_START), this::emptyCallbackResponse);
+            PAGE_IDS.forEach(pageId -> callbacks.put(callbackKey(MID, pageId), params -> RESPONSE));
+            return callbacks
+                .put(callbackKey(ABOUT_TO_SUBMIT), params -> RESPONSE)
+                .put(callbackKey(SUBMITTED), this::emptySubmittedCallbackResponse)
+                .build();
+        }
+
+        @Override
+        public List<CaseEvent> handledEvents() {
+            return List.of(CREATE_CLAIM);
+        }
+    };
+
+    @Test
+    void shouldDispatchToSameCallbacks_whenCompiled() {
+        List<CallbackParams> requests = IntStream.range(0, PAGE_IDS.size())
+            .mapToObj(i -> CallbackParams.builder()
+                .request(CallbackRequest.builder().eventId(CREATE_CLAIM.name()).build())
+                .type(MID)
+                .version(V_1)
+                .pageId(PAGE_IDS.get(i))
+                .build())
+            .toList();
+        handler.compileCallbacks();
+
+        long keyedNanos = time(() -> {
+            for (int i = 0; i < REQUESTS; i++) {
+                assertThat(handleByKey(requests.get(i % requests.size()))).isSameAs(RESPONSE);
+            }
+        });
+        long compiledNanos = time(() -> {
+            for (int i = 0; i < REQUESTS; i++) {
+                assertThat(handler.handle(requests.get(i % requests.size()))).isSameAs(RESPONSE);
+            }
+        });
+
+        log.info(
+            "Dispatched {} callbacks in {} ms by formatted key and in {} ms through the compiled callbacks",
+            REQUESTS, keyedNanos / 1_000_000, compiledNanos / 1_000_000
+        );
+    }
+
+    private CallbackResponse handleByKey(CallbackParams params) {
+        String callbackKey = String.format("%s-%s-%s", params.getVersion(), params.getType().getValue(),
+                                           params.getPageId());
+        if (ofNullable(handler.callbacks().get(callbackKey)).isEmpty()) {
+            callbackKey = String.format("%s-%s", params.getType().getValue(), params.getPageId());
+        }
+        return handler.callbacks().get(callbackKey).execute(params);
+    }
+
+    private static long time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return System.nanoTime() - start;
+    }
+}
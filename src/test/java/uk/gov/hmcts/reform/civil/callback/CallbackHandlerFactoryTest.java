@@ -128,6 +128,9 @@ class CallbackHandlerFactoryTest {
     @Autowired
     private CallbackHandlerFactory callbackHandlerFactory;
 
+    @Autowired
+    private CaseDetailsConverter caseDetailsConverter;
+
     @Test
     void shouldThrowCallbackException_whenUnknownEvent() {
         CallbackRequest callbackRequest = CallbackRequest
@@ -309,4 +312,58 @@ class CallbackHandlerFactoryTest {
 
         assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
     }
+
+    @Test
+    void shouldProcessEvent_whenPageIdMatchesVersionedCallback() {
+        CallbackRequest callbackRequest = CallbackRequest
+            .builder()
+            .eventId(CREATE_CLAIM.name())
+            .build();
+
+        CallbackParams params = CallbackParams.builder()
+            .request(callbackRequest)
+            .type(ABOUT_TO_SUBMIT)
+            .version(V_2)
+            .pageId("start-claim")
+            .params(ImmutableMap.of(CallbackParams.Params.BEARER_TOKEN, BEARER_TOKEN))
+            .build();
+
+        CallbackResponse callbackResponse = callbackHandlerFactory.dispatch(params);
+
+        assertEquals(EVENT_HANDLED_RESPONSE, callbackResponse);
+    }
+
+    @Test
+    void shouldFailToStart_whenEventHandledByTwoHandlers() {
+        CallbackHandler handler = handlerFor(DEFENDANT_RESPONSE, Map.of("about-to-submit", params -> null));
+        CallbackHandler otherHandler = handlerFor(DEFENDANT_RESPONSE, Map.of("submitted", params -> null));
+
+        assertThatThrownBy(() -> new CallbackHandlerFactory(caseDetailsConverter, handler, otherHandler))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("Event DEFENDANT_RESPONSE is handled by both");
+    }
+
+    @Test
+    void shouldFailToStart_whenCallbackKeyCannotBeReached() {
+        CallbackHandler handler = handlerFor(DEFENDANT_RESPONSE, Map.of("about-to-sbumit", params -> null));
+
+        assertThatThrownBy(() -> new CallbackHandlerFactory(caseDetailsConverter, handler))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Callback key about-to-sbumit of")
+            .hasMessageEndingWith("does not match any callback type");
+    }
+
+    private static CallbackHandler handlerFor(CaseEvent event, Map<String, Callback> callbacks) {
+        return new CallbackHandler() {
+            @Override
+            protected Map<String, Callback> callbacks() {
+                return callbacks;
+            }
+
+            @Override
+            public List<CaseEvent> handledEvents() {
+                return List.of(event);
+            }
+        };
+    }
 }
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.civil.callback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDetailsBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.civil.enums.BusinessProcessStatus.READY;
+
+class CallbackParamsTest {
+
+    private final CaseDetailsConverter caseDetailsConverter = spy(
+        new CaseDetailsConverter(new ObjectMapper().registerModule(new JavaTimeModule())));
+
+    private final CaseDetails caseDetails = CaseDetailsBuilder.builder()
+        .data(CaseDataBuilder.builder().atStateClaimIssued()
+                  .businessProcess(BusinessProcess.builder().status(READY).camundaEvent("CREATE_CLAIM").build())
+                  .build())
+        .build();
+
+    private final CallbackParams callbackParams = CallbackParams.builder()
+        .request(CallbackRequest.builder().caseDetails(caseDetails).build())
+        .caseDetailsConverter(caseDetailsConverter)
+        .build();
+
+    @Test
+    void shouldConvertCaseDetailsOnce_whenCaseDataRequestedMoreThanOnce() {
+        CaseData caseData = callbackParams.getCaseData();
+
+        assertThat(callbackParams.getCaseData()).isSameAs(caseData);
+        assertThat(caseData.getBusinessProcess().getCamundaEvent()).isEqualTo("CREATE_CLAIM");
+        verify(caseDetailsConverter, times(1)).toCaseData(caseDetails);
+    }
+
+    @Test
+    void shouldReadOnlyBusinessProcess_whenCaseDataNotYetConverted() {
+        BusinessProcess businessProcess = callbackParams.getBusinessProcess();
+
+        assertThat(businessProcess.getStatus()).isEqualTo(READY);
+        assertThat(businessProcess.getCamundaEvent()).isEqualTo("CREATE_CLAIM");
+        verify(caseDetailsConverter, never()).toCaseData(caseDetails);
+    }
+
+    @Test
+    void shouldUseGivenCaseData_whenBuiltWithCaseData() {
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDraft().build();
+        CallbackParams params = callbackParams.toBuilder().caseData(caseData).build();
+
+        assertThat(params.getCaseData()).isSameAs(caseData);
+        assertThat(params.getBusinessProcess()).isEqualTo(caseData.getBusinessProcess());
+        verify(caseDetailsConverter, never()).toCaseData(caseDetails);
+    }
+}
@@ -1,10 +1,14 @@
 package uk.gov.hmcts.reform.civil.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberBlockRepository;
 import uk.gov.hmcts.reform.civil.repositories.ReferenceNumberRepository;
+import uk.gov.hmcts.reform.civil.repositories.SpecReferenceNumberRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,8 +24,18 @@ class DatabaseConfigurationTest {
             assertThat(it).hasSingleBean(DataSourceTransactionManager.class);
             assertThat(it).hasSingleBean(Jdbi.class);
             assertThat(it).hasSingleBean(ReferenceNumberRepository.class);
+            assertThat(it).hasSingleBean(SpecReferenceNumberRepository.class);
+            assertThat(it).hasSingleBean(ReferenceNumberBlockRepository.class);
             assertThat(it).hasBean("dataSource");
+            assertThat(it).getBean("dataSource").isInstanceOf(HikariDataSource.class);
             assertThat(it).hasBean("dataSourceProxy");
+            assertThat(it).doesNotHaveBean(AsyncEventOutboxRepository.class);
         });
     }
+
+    @Test
+    void shouldCreateAsyncEventOutbox_WhenOutboxIsEnabled() {
+        context.withPropertyValues("async-events.outbox.enabled:true")
+            .run(it -> assertThat(it).hasSingleBean(AsyncEventOutboxRepository.class));
+    }
 }
@@ -4,6 +4,7 @@ import org.camunda.bpm.client.ExternalTaskClient;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.service.tasklisteners.ExternalTaskWorkers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -11,11 +12,13 @@ class ExternalTaskListenerConfigurationTest {
 
     ApplicationContextRunner context = new ApplicationContextRunner()
         .withUserConfiguration(TestAuthTokenGeneratorImpl.class)
+        .withUserConfiguration(ExternalTaskWorkerConfiguration.class)
         .withUserConfiguration(ExternalTaskListenerConfiguration.class);
 
     @Test
     void shouldCheckPresenceOfBeans_WhenExternalTaskConfigurationIsLoaded() {
-        context.run(it -> assertThat(it).hasSingleBean(ExternalTaskClient.class));
+        context.run(it -> assertThat(it).hasSingleBean(ExternalTaskClient.class)
+            .hasSingleBean(ExternalTaskWorkers.class));
     }
 
     private static class TestAuthTokenGeneratorImpl implements AuthTokenGenerator {
@@ -14,6 +14,7 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.GeneralApplicationDetailsBuilder;
 import uk.gov.hmcts.reform.civil.service.GenAppStateHelperService;
+import uk.gov.hmcts.reform.civil.service.GeneralApplicationEventExecutor;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +35,7 @@ import static uk.gov.hmcts.reform.civil.callback.CaseEvent.TRIGGER_UPDATE_GA_LOC
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     GenAppStateHelperService.class,
+    GeneralApplicationEventExecutor.class,
     TriggerGenAppLocationUpdateCallbackHandler.class,
     JacksonAutoConfiguration.class
 })
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.handler.callback.camunda.docmosis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.AboutToStartOrSubmitCallbackResponse;
 import uk.gov.hmcts.reform.civil.callback.CallbackParams;
+import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
 import uk.gov.hmcts.reform.civil.handler.callback.BaseCallbackHandlerTest;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
@@ -24,6 +26,9 @@ import uk.gov.hmcts.reform.civil.documentmanagement.model.Document;
 import uk.gov.hmcts.reform.civil.model.documents.DocumentMetaData;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.service.Time;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipelineExecutor;
 import uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim.LitigantInPersonFormGenerator;
 import uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim.SealedClaimFormGenerator;
 import uk.gov.hmcts.reform.civil.service.stitching.CivilDocumentStitchingService;
@@ -53,7 +58,10 @@ import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1;
     GenerateClaimFormCallbackHandler.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class,
-    AssignCategoryId.class
+    AssignCategoryId.class,
+    DocumentPipeline.class,
+    DocumentPipelineExecutor.class,
+    SimpleMeterRegistry.class
 })
 class GenerateClaimFormCallbackHandlerTest extends BaseCallbackHandlerTest {
 
@@ -65,6 +73,10 @@ class GenerateClaimFormCallbackHandlerTest extends BaseCallbackHandlerTest {
     private LitigantInPersonFormGenerator litigantInPersonFormGenerator;
     @MockBean
     private SealedClaimFormGenerator sealedClaimFormGenerator;
+    @MockBean
+    private DocumentGeneratorService documentGeneratorService;
+    @MockBean
+    private DocumentManagementService documentManagementService;
 
     @MockBean
     private FeatureToggleService featureToggleService;
@@ -288,7 +300,10 @@ class GenerateClaimFormCallbackHandlerTest extends BaseCallbackHandlerTest {
         GenerateClaimFormCallbackHandler.class,
         JacksonAutoConfiguration.class,
         CaseDetailsConverter.class,
-        AssignCategoryId.class
+        AssignCategoryId.class,
+        DocumentPipeline.class,
+        DocumentPipelineExecutor.class,
+        SimpleMeterRegistry.class
     })
     class GenerateSealedClaimNoStitch {
 
@@ -300,6 +315,10 @@ class GenerateClaimFormCallbackHandlerTest extends BaseCallbackHandlerTest {
         private LitigantInPersonFormGenerator litigantInPersonFormGenerator;
         @MockBean
         private SealedClaimFormGenerator sealedClaimFormGenerator;
+        @MockBean
+        private DocumentGeneratorService documentGeneratorService;
+        @MockBean
+        private DocumentManagementService documentManagementService;
 
         @Autowired
         private GenerateClaimFormCallbackHandler handler;
@@ -336,7 +355,10 @@ class GenerateClaimFormCallbackHandlerTest extends BaseCallbackHandlerTest {
         GenerateClaimFormCallbackHandler.class,
         JacksonAutoConfiguration.class,
         CaseDetailsConverter.class,
-        AssignCategoryId.class
+        AssignCategoryId.class,
+        DocumentPipeline.class,
+        DocumentPipelineExecutor.class,
+        SimpleMeterRegistry.class
     })
     class GenerateSealedClaimNoNoC {
 
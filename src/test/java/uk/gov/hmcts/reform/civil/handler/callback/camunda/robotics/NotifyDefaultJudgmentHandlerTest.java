@@ -25,6 +25,7 @@ import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataService;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
@@ -39,12 +40,12 @@ import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.times;
-import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.isMultiPartyScenario;
 
@@ -100,8 +101,7 @@ public class NotifyDefaultJudgmentHandlerTest extends BaseCallbackHandlerTest {
             boolean multiPartyScenario = isMultiPartyScenario(caseData);
             handler.handle(params);
 
-            verify(roboticsNotificationService).notifyRobotics(caseData, multiPartyScenario,
-                                                               params.getParams().get(BEARER_TOKEN).toString());
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(multiPartyScenario), any(RoboticsCaseDataDTO.class));
         }
 
         @Test
@@ -126,9 +126,7 @@ public class NotifyDefaultJudgmentHandlerTest extends BaseCallbackHandlerTest {
             handler.handle(params);
 
             // Then
-            verify(roboticsNotificationService, times(0)).notifyRobotics(caseData, multiPartyScenario,
-                                                                         params.getParams().get(BEARER_TOKEN).toString()
-            );
+            verify(roboticsNotificationService, times(0)).notifyRobotics(eq(caseData), eq(multiPartyScenario), any(RoboticsCaseDataDTO.class));
         }
 
         @Test
@@ -154,7 +152,7 @@ public class NotifyDefaultJudgmentHandlerTest extends BaseCallbackHandlerTest {
         @Test
         void shouldThrowJsonSchemaValidationException_whenSchemaErrors() {
             when(featureToggleService.isRPAEmailEnabled()).thenReturn(true);
-            when(validationService.validate(anyString())).thenReturn(Set.of(new ValidationMessage.Builder().build()));
+            when(validationService.validate(any(byte[].class))).thenReturn(Set.of(new ValidationMessage.Builder().build()));
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
 
@@ -22,6 +22,7 @@ import uk.gov.hmcts.reform.civil.service.Time;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
@@ -36,12 +37,12 @@ import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.times;
-import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.isMultiPartyScenario;
 
@@ -96,9 +97,7 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
             handler.handle(params);
 
             // Then
-            verify(roboticsNotificationService).notifyRobotics(caseData, multiPartyScenario,
-                                                               params.getParams().get(BEARER_TOKEN).toString()
-            );
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(multiPartyScenario), any(RoboticsCaseDataDTO.class));
         }
 
         @Test
@@ -113,9 +112,7 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
             handler.handle(params);
 
             // Then
-            verify(roboticsNotificationService, times(0)).notifyRobotics(caseData, multiPartyScenario,
-                                                               params.getParams().get(BEARER_TOKEN).toString()
-            );
+            verify(roboticsNotificationService, times(0)).notifyRobotics(eq(caseData), eq(multiPartyScenario), any(RoboticsCaseDataDTO.class));
         }
     }
 
@@ -130,7 +127,7 @@ class NotifyRoboticsOnCaseHandedOfflineHandlerTest extends BaseCallbackHandlerTe
         @Test
         void shouldThrowJsonSchemaValidationException_whenSchemaErrors() {
             when(featureToggleService.isRPAEmailEnabled()).thenReturn(true);
-            when(validationService.validate(anyString())).thenReturn(Set.of(new ValidationMessage.Builder().build()));
+            when(validationService.validate(any(byte[].class))).thenReturn(Set.of(new ValidationMessage.Builder().build()));
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
 
@@ -22,6 +22,7 @@ import uk.gov.hmcts.reform.civil.service.Time;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
 import uk.gov.hmcts.reform.civil.service.robotics.JsonSchemaValidationService;
 import uk.gov.hmcts.reform.civil.service.robotics.RoboticsNotificationService;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
@@ -36,11 +37,11 @@ import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static uk.gov.hmcts.reform.civil.callback.CallbackParams.Params.BEARER_TOKEN;
 import static uk.gov.hmcts.reform.civil.callback.CallbackType.ABOUT_TO_SUBMIT;
 import static uk.gov.hmcts.reform.civil.enums.CaseCategory.SPEC_CLAIM;
 
@@ -96,9 +97,7 @@ class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest
             handler.handle(params);
 
             // Then
-            verify(roboticsNotificationService).notifyRobotics(caseData, false,
-                                                               params.getParams().get(BEARER_TOKEN).toString()
-            );
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(false), any(RoboticsCaseDataDTO.class));
         }
 
         @Test
@@ -115,9 +114,7 @@ class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest
             handler.handle(params);
 
             // Then
-            verify(roboticsNotificationService).notifyRobotics(caseData, false,
-                                                               params.getParams().get(BEARER_TOKEN).toString()
-            );
+            verify(roboticsNotificationService).notifyRobotics(eq(caseData), eq(false), any(RoboticsCaseDataDTO.class));
         }
 
         @Test
@@ -141,7 +138,7 @@ class NotifyRoboticsOnContinuousFeedHandlerTest extends BaseCallbackHandlerTest
         @Test
         void shouldThrowJsonSchemaValidationException_whenSchemaErrors() {
             when(featureToggleService.isRPAEmailEnabled()).thenReturn(true);
-            when(validationService.validate(anyString())).thenReturn(Set.of(new ValidationMessage.Builder().build()));
+            when(validationService.validate(any(byte[].class))).thenReturn(Set.of(new ValidationMessage.Builder().build()));
             CaseData caseData = CaseDataBuilder.builder().atStateProceedsOfflineAdmissionOrCounterClaim().build();
             CallbackParams params = CallbackParamsBuilder.builder().of(ABOUT_TO_SUBMIT, caseData).build();
 
@@ -1,14 +1,16 @@
 package uk.gov.hmcts.reform.civil.handler.tasks;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.runtime.MessageCorrelationBuilder;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
@@ -16,6 +18,7 @@ import uk.gov.hmcts.reform.civil.handler.tasks.variables.HearingNoticeMessageVar
 import uk.gov.hmcts.reform.civil.handler.tasks.variables.HearingNoticeSchedulerVars;
 import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
 import uk.gov.hmcts.reform.civil.service.UserService;
+import uk.gov.hmcts.reform.civil.service.data.ExternalTaskData;
 import uk.gov.hmcts.reform.hmc.model.hearing.CaseDetailsHearing;
 import uk.gov.hmcts.reform.hmc.model.hearing.HearingDaySchedule;
 import uk.gov.hmcts.reform.hmc.model.hearing.HearingDetails;
@@ -35,10 +38,15 @@ import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -74,7 +82,6 @@ class AutomatedHearingNoticeHandlerTest {
     @Mock
     private FeatureToggleService featureToggleService;
 
-    @InjectMocks
     private AutomatedHearingNoticeHandler handler;
 
     static final String SERVICE_ID_KEY = "serviceId";
@@ -91,6 +98,8 @@ class AutomatedHearingNoticeHandlerTest {
 
     @BeforeEach
     void init() {
+        handler = new AutomatedHearingNoticeHandler(userService, userConfig, hearingsService, runtimeService,
+                                                    featureToggleService, mapper, 4);
         when(featureToggleService.isAutomatedHearingNoticeEnabled()).thenReturn(true);
         when(runtimeService.createMessageCorrelation(any())).thenReturn(messageCorrelationBuilder);
         when(messageCorrelationBuilder.setVariables(any())).thenReturn(messageCorrelationBuilder);
@@ -105,6 +114,11 @@ class AutomatedHearingNoticeHandlerTest {
         when(runtimeService.getVariable(PROCESS_INSTANCE_ID, SERVICE_ID_KEY)).thenReturn(new ArrayList<>());
     }
 
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
     @Test
     void shouldNotCallUnnotifiedHearings_whenAHNFeatureToggleIsOff() {
         when(featureToggleService.isAutomatedHearingNoticeEnabled()).thenReturn(false);
@@ -144,7 +158,6 @@ class AutomatedHearingNoticeHandlerTest {
             PROCESS_INSTANCE_ID,
             HearingNoticeSchedulerVars.builder()
                 .totalNumberOfUnnotifiedHearings(1)
-                .dispatchedHearingIds(List.of(HEARING_ID))
                 .build().toMap(mapper)
         );
         verify(runtimeService, times(1)).createMessageCorrelation(MESSAGE_ID);
@@ -156,6 +169,7 @@ class AutomatedHearingNoticeHandlerTest {
                 .build().toMap(mapper));
         verify(messageCorrelationBuilder, times(1)).correlateStartMessage();
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
     }
 
     @Test
@@ -185,7 +199,6 @@ class AutomatedHearingNoticeHandlerTest {
 
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of(HEARING_ID))
             .build().toMap(mapper));
         verify(runtimeService, times(1)).createMessageCorrelation(MESSAGE_ID);
         verify(messageCorrelationBuilder, times(1)).setVariables(
@@ -196,6 +209,7 @@ class AutomatedHearingNoticeHandlerTest {
                 .build().toMap(mapper));
         verify(messageCorrelationBuilder, times(1)).correlateStartMessage();
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
     }
 
     @Test
@@ -225,7 +239,6 @@ class AutomatedHearingNoticeHandlerTest {
 
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(3)
-            .dispatchedHearingIds(List.of(HEARING_ID))
             .build().toMap(mapper));
         verify(runtimeService, times(3)).createMessageCorrelation(MESSAGE_ID);
         verify(messageCorrelationBuilder, times(3)).setVariables(
@@ -236,6 +249,7 @@ class AutomatedHearingNoticeHandlerTest {
                 .build().toMap(mapper));
         verify(messageCorrelationBuilder, times(3)).correlateStartMessage();
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID, "hearing-id-2", "hearing-id-3");
     }
 
     @Test
@@ -267,11 +281,11 @@ class AutomatedHearingNoticeHandlerTest {
             );
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of())
             .build().toMap(mapper));
         verify(runtimeService, times(0)).createMessageCorrelation(MESSAGE_ID);
         verifyNoInteractions(messageCorrelationBuilder);
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).isEmpty();
     }
 
     @Test
@@ -295,11 +309,11 @@ class AutomatedHearingNoticeHandlerTest {
 
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of(HEARING_ID))
             .build().toMap(mapper));
         verify(runtimeService, times(0)).createMessageCorrelation(MESSAGE_ID);
         verifyNoInteractions(messageCorrelationBuilder);
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
     }
 
     @Test
@@ -335,7 +349,6 @@ class AutomatedHearingNoticeHandlerTest {
 
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of(HEARING_ID))
             .build().toMap(mapper));
         verify(runtimeService, times(1)).createMessageCorrelation(MESSAGE_ID);
         verify(messageCorrelationBuilder, times(1)).setVariables(
@@ -346,6 +359,7 @@ class AutomatedHearingNoticeHandlerTest {
                 .build().toMap(mapper));
         verify(messageCorrelationBuilder, times(1)).correlateStartMessage();
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
     }
 
     @Test
@@ -381,7 +395,6 @@ class AutomatedHearingNoticeHandlerTest {
 
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of(HEARING_ID))
             .build().toMap(mapper));
         verify(runtimeService, times(1)).createMessageCorrelation(MESSAGE_ID);
         verify(messageCorrelationBuilder, times(1)).setVariables(
@@ -389,6 +402,7 @@ class AutomatedHearingNoticeHandlerTest {
                 .build().toMap(mapper));
         verify(messageCorrelationBuilder, times(1)).correlateStartMessage();
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
     }
 
     @Test
@@ -432,20 +446,96 @@ class AutomatedHearingNoticeHandlerTest {
         );
         verify(runtimeService).setVariables(PROCESS_INSTANCE_ID, HearingNoticeSchedulerVars.builder()
             .totalNumberOfUnnotifiedHearings(1)
-            .dispatchedHearingIds(List.of()).build()
+            .build()
             .toMap(mapper));
         verify(runtimeService, times(0)).createMessageCorrelation(MESSAGE_ID);
         verifyNoInteractions(messageCorrelationBuilder);
         verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).isEmpty();
+    }
+
+    @Test
+    void shouldNotDispatchCamundaMessageAgain_whenDispatchedHearingIsStillUnnotified() {
+        when(mapper.convertValue(any(), eq(HearingNoticeSchedulerVars.class))).thenReturn(
+            HearingNoticeSchedulerVars.builder()
+                .serviceId(SERVICE_ID)
+                .dispatchedHearingIds(List.of(HEARING_ID))
+                .build());
+        when(hearingsService.getUnNotifiedHearingResponses(
+            anyString(), anyString(), any(LocalDateTime.class), any())).thenReturn(
+            createUnnotifiedHearings(List.of(HEARING_ID)));
+
+        handler.execute(mockTask, externalTaskService);
+
+        verify(hearingsService, times(0)).getHearingResponse(anyString(), anyString());
+        verifyNoInteractions(messageCorrelationBuilder);
+        verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
+    }
+
+    @Test
+    void shouldDropDispatchedHearings_whenTheyAreNoLongerUnnotified() {
+        when(mapper.convertValue(any(), eq(HearingNoticeSchedulerVars.class))).thenReturn(
+            HearingNoticeSchedulerVars.builder()
+                .serviceId(SERVICE_ID)
+                .dispatchedHearingIds(List.of(HEARING_ID, "hearing-id-2", "hearing-id-3"))
+                .build());
+        when(hearingsService.getUnNotifiedHearingResponses(
+            anyString(), anyString(), any(LocalDateTime.class), any())).thenReturn(
+            createUnnotifiedHearings(List.of(HEARING_ID)));
+
+        handler.execute(mockTask, externalTaskService);
+
+        verify(hearingsService, times(0)).getHearingResponse(anyString(), anyString());
+        verifyNoInteractions(messageCorrelationBuilder);
+        verify(externalTaskService).complete(mockTask);
+        assertThat(savedDispatchedHearingIds()).containsExactlyInAnyOrder(HEARING_ID);
+    }
+
+    @Test
+    void shouldProcessHearingsConcurrentlyWithOneSystemUserToken_whenMultipleUnnotifiedHearingsExist() {
+        CountDownLatch processing = new CountDownLatch(2);
+        List<Boolean> processedTogether = new CopyOnWriteArrayList<>();
+        when(mapper.convertValue(any(), eq(HearingNoticeSchedulerVars.class))).thenReturn(
+            HearingNoticeSchedulerVars.builder()
+                .serviceId(SERVICE_ID)
+                .build());
+        when(hearingsService.getUnNotifiedHearingResponses(
+            anyString(), anyString(), any(LocalDateTime.class), any())).thenReturn(
+            createUnnotifiedHearings(List.of(HEARING_ID, "hearing-id-2")));
+        when(hearingsService.getHearingResponse(anyString(), anyString())).thenAnswer(invocation -> {
+            processing.countDown();
+            processedTogether.add(processing.await(5, TimeUnit.SECONDS));
+            return createHearing(CASE_ID, ListAssistCaseStatus.CASE_CLOSED);
+        });
+
+        handler.execute(mockTask, externalTaskService);
+
+        assertThat(processedTogether).containsExactly(true, true);
+        verify(hearingsService, times(2)).updatePartiesNotifiedResponse(
+            eq(AUTH_TOKEN), anyString(), eq(VERSION), eq(RECEIVED_DATETIME), any(PartiesNotified.class));
+        verify(userService, times(1)).getAccessToken(anyString(), anyString());
+        verify(externalTaskService).complete(mockTask);
     }
 
     @Test
     void shouldCallRuntimeServiceComplete_whenCompleteTaskIsTriggered() {
-        handler.completeTask(mockTask, externalTaskService);
+        handler.completeTask(mockTask, externalTaskService, ExternalTaskData.builder().build());
 
         verify(externalTaskService).complete(mockTask);
     }
 
+    @SuppressWarnings("unchecked")
+    private List<String> savedDispatchedHearingIds() {
+        ArgumentCaptor<Object> saved = ArgumentCaptor.forClass(Object.class);
+        verify(mapper, atLeastOnce()).convertValue(saved.capture(), any(TypeReference.class));
+        return saved.getAllValues().stream()
+            .filter(HearingNoticeSchedulerVars.class::isInstance)
+            .map(vars -> ((HearingNoticeSchedulerVars) vars).getDispatchedHearingIds())
+            .findFirst()
+            .orElseThrow();
+    }
+
     private UnNotifiedHearingResponse createUnnotifiedHearings(List<String> hearingIds) {
         return UnNotifiedHearingResponse.builder()
             .hearingIds(hearingIds)
@@ -3,11 +3,13 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -27,6 +29,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -60,6 +63,9 @@ class BundleCreationTriggerHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
     @InjectMocks
     private BundleCreationTriggerHandler handler;
     private CaseData caseData;
@@ -79,6 +85,11 @@ class BundleCreationTriggerHandlerTest {
         caseData = CaseData.builder().caseBundles(caseBundles).build();
     }
 
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
     @Test
     void shouldEmitBundleCreationEvent_whenCasesFound() {
         long caseId = 1L;
@@ -86,7 +97,7 @@ class BundleCreationTriggerHandlerTest {
         Map<String, Object> data = Map.of("data", caseData);
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
         when(coreCaseDataService.getCase(caseId)).thenReturn(caseDetails.get(0));
         when(caseDetailsConverter.toCaseData(caseDetails.get(0))).thenReturn(caseData);
         when(coreCaseDataService.getCase(anyLong())).thenReturn(caseDetails.get(0));
@@ -100,7 +111,7 @@ class BundleCreationTriggerHandlerTest {
 
     @Test
     void shouldNotEmitBundleCreationEvent_WhenNoCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -112,7 +123,7 @@ class BundleCreationTriggerHandlerTest {
         String errorMessage = "there was an error";
 
         when(mockTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -150,7 +161,7 @@ class BundleCreationTriggerHandlerTest {
             CaseDetails.builder().id(caseId).data(data).build(),
             CaseDetails.builder().id(otherId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         String errorMessage = "there was an error";
 
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.civil.handler.tasks;
+
+import org.camunda.bpm.client.exception.NotFoundException;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CaseBatchProcessorTest {
+
+    private final ExternalTask externalTask = mock(ExternalTask.class);
+    private final ExternalTaskService externalTaskService = mock(ExternalTaskService.class);
+    private final CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
+    @Test
+    void shouldProcessEveryCase_whenCasesFound() {
+        Set<Long> processedIds = ConcurrentHashMap.newKeySet();
+
+        long processed = caseBatchProcessor.process(
+            externalTask, externalTaskService, cases(10), caseDetails -> processedIds.add(caseDetails.getId()));
+
+        assertThat(processed).isEqualTo(10);
+        assertThat(processedIds).isEqualTo(LongStream.range(0, 10).boxed().collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldProcessAtMostParallelismCasesAtOnce_whenCasesFound() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        caseBatchProcessor.process(externalTask, externalTaskService, cases(10), caseDetails -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+        });
+
+        assertThat(maxRunning).hasValue(2);
+    }
+
+    @Test
+    void shouldContinueWithOtherCases_whenOneCaseErrors() {
+        Set<Long> processedIds = ConcurrentHashMap.newKeySet();
+
+        long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases(3), caseDetails -> {
+            if (caseDetails.getId() == 0L) {
+                throw new IllegalStateException("there was an error");
+            }
+            processedIds.add(caseDetails.getId());
+        });
+
+        assertThat(processed).isEqualTo(3);
+        assertThat(processedIds).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void shouldExtendLock_whenLockIsAboutToExpire() {
+        when(externalTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+
+        long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases(3), caseDetails -> { });
+
+        assertThat(processed).isEqualTo(3);
+        verify(externalTaskService).extendLock(externalTask, 60000);
+    }
+
+    @Test
+    void shouldNotExtendLock_whenLockIsNotAboutToExpire() {
+        when(externalTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 600000));
+
+        caseBatchProcessor.process(externalTask, externalTaskService, cases(3), caseDetails -> { });
+
+        verify(externalTaskService, never()).extendLock(externalTask, 60000);
+    }
+
+    @Test
+    void shouldStopTakingCases_whenLockCannotBeExtended() {
+        when(externalTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+        doThrow(new NotFoundException("lock lost")).when(externalTaskService).extendLock(externalTask, 60000);
+
+        long processed = caseBatchProcessor.process(externalTask, externalTaskService, cases(3), caseDetails -> { });
+
+        assertThat(processed).isZero();
+    }
+
+    @Test
+    void shouldStopTakingCases_whenLockIsAboutToExpireWithoutExternalTaskService() {
+        when(externalTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+
+        long processed = caseBatchProcessor.process(externalTask, null, cases(3), caseDetails -> { });
+
+        assertThat(processed).isZero();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenParallelismIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new CaseBatchProcessor(0, 60000));
+    }
+
+    private static Stream<CaseDetails> cases(int count) {
+        return LongStream.range(0, count).mapToObj(id -> CaseDetails.builder().id(id).build());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
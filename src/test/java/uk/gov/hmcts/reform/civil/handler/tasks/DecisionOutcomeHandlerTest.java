@@ -3,11 +3,13 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -16,6 +18,7 @@ import uk.gov.hmcts.reform.civil.service.search.DecisionOutcomeSearchService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -44,6 +47,9 @@ class DecisionOutcomeHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
     @InjectMocks
     private DecisionOutcomeHandler handler;
 
@@ -53,13 +59,18 @@ class DecisionOutcomeHandlerTest {
         when(mockTask.getWorkerId()).thenReturn("worker");
     }
 
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
     @Test
     void shouldEmitMoveCaseToStuckOutEvent_whenCasesFound() {
         long caseId = 1L;
         Map<String, Object> data = Map.of("data", "some data");
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -69,7 +80,7 @@ class DecisionOutcomeHandlerTest {
 
     @Test
     void shouldNotEmitMoveCaseToStuckOutEvent_WhenNoCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -81,7 +92,7 @@ class DecisionOutcomeHandlerTest {
         String errorMessage = "there was an error";
 
         when(mockTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -123,7 +134,7 @@ class DecisionOutcomeHandlerTest {
             CaseDetails.builder().id(caseId).data(data).build(),
             CaseDetails.builder().id(otherId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         String errorMessage = "there was an error";
 
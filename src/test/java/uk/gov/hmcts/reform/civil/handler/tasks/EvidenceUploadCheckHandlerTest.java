@@ -2,15 +2,18 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -45,6 +48,9 @@ class EvidenceUploadCheckHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
     @InjectMocks
     private EvidenceUploadCheckHandler handler;
 
@@ -54,6 +60,11 @@ class EvidenceUploadCheckHandlerTest {
         when(mockTask.getWorkerId()).thenReturn("worker");
     }
 
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
     @Test
     void shouldEmitEvidenceUploadCheckEvent_whenCasesFound() {
         // Given: one case found from search service
@@ -61,7 +72,7 @@ class EvidenceUploadCheckHandlerTest {
         Map<String, Object> data = Map.of("data", "some data");
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        given(searchService.getCases()).willReturn(caseDetails);
+        given(searchService.streamCases()).willReturn(caseDetails.stream());
 
         // When: handler is called
         handler.execute(mockTask, externalTaskService);
@@ -74,7 +85,7 @@ class EvidenceUploadCheckHandlerTest {
     @Test
     void shouldNotEmitEvidenceUploadCheckEvent_WhenNoCasesFound() {
         // Given: no case found from search service
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         // When: handler is called
         handler.execute(mockTask, externalTaskService);
@@ -89,7 +100,7 @@ class EvidenceUploadCheckHandlerTest {
         String errorMessage = "there was an error";
 
         when(mockTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -137,7 +148,7 @@ class EvidenceUploadCheckHandlerTest {
             CaseDetails.builder().id(caseId).data(data).build(),
             CaseDetails.builder().id(otherId).data(data).build());
 
-        given(searchService.getCases()).willReturn(caseDetails);
+        given(searchService.streamCases()).willReturn(caseDetails.stream());
 
         String errorMessage = "there was an error";
 
@@ -2,11 +2,13 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
@@ -20,6 +22,7 @@ import uk.gov.hmcts.reform.civil.service.search.HearingFeeDueSearchService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -52,6 +55,9 @@ class HearingFeeDueHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
     @InjectMocks
     private HearingFeeDueHandler handler;
 
@@ -62,6 +68,11 @@ class HearingFeeDueHandlerTest {
 
     }
 
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
     @Test
     void shouldEmitHearingFeePaidEvent_whenCasesFoundPaid() {
         long caseId = 1L;
@@ -69,7 +80,7 @@ class HearingFeeDueHandlerTest {
         Map<String, Object> data = Map.of("data", caseData);
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
         when(coreCaseDataService.getCase(caseId)).thenReturn(caseDetails.get(0));
         when(caseDetailsConverter.toCaseData(caseDetails.get(0))).thenReturn(caseData);
 
@@ -86,7 +97,7 @@ class HearingFeeDueHandlerTest {
         Map<String, Object> data = Map.of("data", caseData);
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
         when(coreCaseDataService.getCase(caseId)).thenReturn(caseDetails.get(0));
         when(caseDetailsConverter.toCaseData(caseDetails.get(0))).thenReturn(caseData);
 
@@ -98,7 +109,7 @@ class HearingFeeDueHandlerTest {
 
     @Test
     void shouldNotEmitTakeCaseOfflineEvent_WhenNoCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -110,7 +121,7 @@ class HearingFeeDueHandlerTest {
         String errorMessage = "there was an error";
 
         when(mockTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -148,7 +159,7 @@ class HearingFeeDueHandlerTest {
             CaseDetails.builder().id(caseId).data(data).build(),
             CaseDetails.builder().id(otherId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         String errorMessage = "there was an error";
 
@@ -14,8 +14,8 @@ import uk.gov.hmcts.reform.civil.model.BusinessProcess;
 import uk.gov.hmcts.reform.civil.service.EventEmitterService;
 import uk.gov.hmcts.reform.civil.service.search.CaseReadyBusinessProcessSearchService;
 
-import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -62,16 +62,16 @@ class PollingEventEmitterHandlerTest {
             Map.of("businessProcess", businessProcessWithCamundaEvent("TEST_EVENT2"))).build();
         caseDetails3 = CaseDetails.builder().id(3L).data(
             Map.of("businessProcess", businessProcessWithCamundaEvent("TEST_EVENT3"))).build();
-        when(searchService.getCases()).thenReturn(List.of(caseDetails1, caseDetails2, caseDetails3));
+        when(searchService.streamCases()).thenReturn(Stream.of(caseDetails1, caseDetails2, caseDetails3));
     }
 
     @Test
     void shouldNotSendMessageAndTriggerEvent_whenZeroCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         pollingEventEmitterHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getCases();
+        verify(searchService).streamCases();
         verifyNoInteractions(eventEmitterService);
         verify(externalTaskService).complete(externalTask);
     }
@@ -80,7 +80,7 @@ class PollingEventEmitterHandlerTest {
     void shouldEmitBusinessProcessEvent_whenCasesFound() {
         pollingEventEmitterHandler.execute(externalTask, externalTaskService);
 
-        verify(searchService).getCases();
+        verify(searchService).streamCases();
         verify(eventEmitterService).emitBusinessProcessCamundaEvent(
             caseDetailsConverter.toCaseData(caseDetails1),
             true
@@ -104,7 +104,7 @@ class PollingEventEmitterHandlerTest {
 
         //Mockito instance of external task returns 0 instead of null
         when(externalTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -3,19 +3,23 @@ package uk.gov.hmcts.reform.civil.handler.tasks;
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.ExternalTaskService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
 import uk.gov.hmcts.reform.civil.event.TakeCaseOfflineEvent;
 import uk.gov.hmcts.reform.civil.service.search.TakeCaseOfflineSearchService;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -44,6 +48,9 @@ class TakeCaseOfflineHandlerTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Spy
+    private CaseBatchProcessor caseBatchProcessor = new CaseBatchProcessor(2, 60000);
+
     @InjectMocks
     private TakeCaseOfflineHandler handler;
 
@@ -53,13 +60,18 @@ class TakeCaseOfflineHandlerTest {
         when(mockTask.getWorkerId()).thenReturn("worker");
     }
 
+    @AfterEach
+    void tearDown() {
+        caseBatchProcessor.shutdown();
+    }
+
     @Test
     void shouldEmitTakeCaseOfflineEvent_whenCasesFound() {
         long caseId = 1L;
         Map<String, Object> data = Map.of("data", "some data");
         List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(caseId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -67,9 +79,37 @@ class TakeCaseOfflineHandlerTest {
         verify(externalTaskService).complete(mockTask);
     }
 
+    @Test
+    void shouldExtendLock_whenLockIsAboutToExpire() {
+        List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(1L).build());
+
+        when(mockTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
+
+        handler.execute(mockTask, externalTaskService);
+
+        verify(externalTaskService).extendLock(mockTask, 60000);
+        verify(applicationEventPublisher).publishEvent(new TakeCaseOfflineEvent(1L));
+        verify(externalTaskService).complete(mockTask);
+    }
+
+    @Test
+    void shouldStopEmittingTakeCaseOfflineEvents_whenLockCannotBeExtended() {
+        List<CaseDetails> caseDetails = List.of(CaseDetails.builder().id(1L).build());
+
+        when(mockTask.getLockExpirationTime()).thenReturn(new Date(System.currentTimeMillis() + 1000));
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
+        doThrow(new NotFoundException("lock lost")).when(externalTaskService).extendLock(mockTask, 60000);
+
+        handler.execute(mockTask, externalTaskService);
+
+        verifyNoInteractions(applicationEventPublisher);
+        verify(externalTaskService).complete(mockTask);
+    }
+
     @Test
     void shouldNotEmitTakeCaseOfflineEvent_WhenNoCasesFound() {
-        when(searchService.getCases()).thenReturn(List.of());
+        when(searchService.streamCases()).thenReturn(Stream.empty());
 
         handler.execute(mockTask, externalTaskService);
 
@@ -81,7 +121,7 @@ class TakeCaseOfflineHandlerTest {
         String errorMessage = "there was an error";
 
         when(mockTask.getRetries()).thenReturn(null);
-        when(searchService.getCases()).thenAnswer(invocation -> {
+        when(searchService.streamCases()).thenAnswer(invocation -> {
             throw new Exception(errorMessage);
         });
 
@@ -123,7 +163,7 @@ class TakeCaseOfflineHandlerTest {
             CaseDetails.builder().id(caseId).data(data).build(),
             CaseDetails.builder().id(otherId).data(data).build());
 
-        when(searchService.getCases()).thenReturn(caseDetails);
+        when(searchService.streamCases()).thenReturn(caseDetails.stream());
 
         String errorMessage = "there was an error";
 
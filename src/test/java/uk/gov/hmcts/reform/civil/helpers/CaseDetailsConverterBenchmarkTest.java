@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.civil.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.JacksonConfiguration;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataMaxEdgeCasesBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares converting sample cases to and from case details with the object mapper as configured before and
+ * with the Blackbird module registered by {@link JacksonConfiguration}. The converted data must be identical.
+ * The timing of both is tagged perf, so it runs with perfTest rather than test, and is only logged, as the gain
+ * depends on how far the JIT has warmed up.
+ */
+@Slf4j
+class CaseDetailsConverterBenchmarkTest {
+
+    private static final int ROUNDS = 200;
+
+    private final List<CaseData> cases = List.of(
+        CaseDataBuilder.builder().atStateClaimDraft().build(),
+        CaseDataBuilder.builder().atStateClaimIssued().build(),
+        CaseDataBuilder.builder().atStateClaimIssuedTrialHearingInfo().build(),
+        CaseDataBuilder.builder().atStateSdoFastTrackTrial().build(),
+        CaseDataMaxEdgeCasesBuilder.builder().atStateClaimSubmittedMaximumData().build()
+    );
+    private final JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+    private final ObjectMapper reflective = objectMapper(jacksonConfiguration);
+    private final ObjectMapper blackbird = objectMapper(jacksonConfiguration)
+        .registerModule(jacksonConfiguration.blackbirdModule());
+    private final CaseDetailsConverter reflectiveConverter = new CaseDetailsConverter(reflective);
+    private final CaseDetailsConverter blackbirdConverter = new CaseDetailsConverter(blackbird);
+
+    @Test
+    void shouldConvertIdenticallyWithBlackbird_whenConvertingSampleCases() {
+        assertThat(roundTrip(blackbird, blackbirdConverter)).isEqualTo(roundTrip(reflective, reflectiveConverter));
+    }
+
+    @Test
+    @Tag("perf")
+    void shouldLogTimings_whenConvertingSampleCasesWithAndWithoutBlackbird() {
+        long reflectiveNanos = time(reflective, reflectiveConverter);
+        long blackbirdNanos = time(blackbird, blackbirdConverter);
+
+        log.info(
+            "Converted {} cases {} times in {} ms with reflection and in {} ms with Blackbird",
+            cases.size(), ROUNDS, reflectiveNanos / 1_000_000, blackbirdNanos / 1_000_000
+        );
+    }
+
+    private List<Map<String, Object>> roundTrip(ObjectMapper mapper, CaseDetailsConverter converter) {
+        return cases.stream()
+            .map(caseData -> converter.toCaseData(CaseDetails.builder().id(1L).data(caseData.toMap(mapper)).build()))
+            .map(caseData -> caseData.toMap(mapper))
+            .collect(Collectors.toList());
+    }
+
+    private long time(ObjectMapper mapper, CaseDetailsConverter converter) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(roundTrip(mapper, converter)).hasSameSizeAs(cases);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static ObjectMapper objectMapper(JacksonConfiguration jacksonConfiguration) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        jacksonConfiguration.jsonDateTimeFormatCustomizer().customize(builder);
+        return builder.build();
+    }
+}
@@ -19,11 +19,15 @@ import uk.gov.hmcts.reform.civil.utils.UnavailabilityDatesUtils;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.emptyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.reform.civil.enums.MultiPartyScenario.ONE_V_TWO_TWO_LEGAL_REP;
 import static uk.gov.hmcts.reform.civil.enums.hearing.PartyType.IND;
@@ -61,18 +65,15 @@ public class HearingsPartyMapperTest {
 
     @BeforeEach
     void setUp() {
-        when(organisationService.findOrganisationById(APPLICANT_ORG_ID))
-            .thenReturn(Optional.of(Organisation.builder()
-                                        .name(APPLICANT_LR_ORG_NAME)
-                                        .build()));
-        when(organisationService.findOrganisationById(RESPONDENT_ONE_ORG_ID))
-            .thenReturn(Optional.of(Organisation.builder()
-                                        .name(RESPONDENT_ONE_LR_ORG_NAME)
-                                        .build()));
-        when(organisationService.findOrganisationById(RESPONDENT_TWO_ORG_ID))
-            .thenReturn(Optional.of(Organisation.builder()
-                                        .name(RESPONDENT_TWO_LR_ORG_NAME)
-                                        .build()));
+        Map<String, Organisation> organisations = Map.of(
+            APPLICANT_ORG_ID, Organisation.builder().name(APPLICANT_LR_ORG_NAME).build(),
+            RESPONDENT_ONE_ORG_ID, Organisation.builder().name(RESPONDENT_ONE_LR_ORG_NAME).build(),
+            RESPONDENT_TWO_ORG_ID, Organisation.builder().name(RESPONDENT_TWO_LR_ORG_NAME).build()
+        );
+        when(organisationService.findOrganisationsById(anyCollection())).thenAnswer(
+            invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                .filter(organisations::containsKey)
+                .collect(Collectors.toMap(Function.identity(), organisations::get)));
     }
 
     private String getLocalDateInString(LocalDate date) {
@@ -26,6 +26,16 @@ class QueryTest {
         );
     }
 
+    @Test
+    void shouldThrowException_WhenSizeLessThan1() {
+        MatchQueryBuilder matchQuery = QueryBuilders.matchQuery("field", "value");
+        List<String> emptyList = List.of();
+
+        assertThrows(IllegalArgumentException.class, () -> new Query(matchQuery, emptyList, 0, 0),
+                     "Size cannot be less than 1"
+        );
+    }
+
     @Test
     void shouldThrowException_WhenQueryIsNull() {
         List<String> emptyList = List.of();
@@ -41,4 +51,59 @@ class QueryTest {
 
         JSONAssert.assertEquals(EXPECTED_QUERY, query.toString(), true);
     }
+
+    @Test
+    void shouldIncludeSize_whenSizeIsGiven() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference", "other field"), 100, 50);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\",\"other field\"], "
+                + "\"from\": 100, \"size\": 50}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldIncludeSize_whenSizeIsSetOnQuery() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0, 50).withSize(100);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], "
+                + "\"from\": 0, \"size\": 100}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldThrowException_WhenSizeSetOnQueryIsLessThan1() {
+        Query query = new Query(matchAllQuery(), List.of(), 0);
+
+        assertThrows(IllegalArgumentException.class, () -> query.withSize(0), "Size cannot be less than 1");
+    }
+
+    @Test
+    void shouldSortByReferenceFromFirstCase_whenNoReferenceGiven() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0, 50).afterReference(null);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], "
+                + "\"from\": 0, \"size\": 50, \"sort\": [{\"reference\": \"asc\"}]}",
+            query.toString(),
+            true
+        );
+    }
+
+    @Test
+    void shouldSearchAfterReference_whenReferenceGiven() throws JSONException {
+        Query query = new Query(matchAllQuery(), List.of("reference"), 0).afterReference(1594901956117591L);
+
+        JSONAssert.assertEquals(
+            "{\"query\": {\"match_all\": {\"boost\": 1.0 }}, \"_source\": [\"reference\"], "
+                + "\"from\": 0, \"sort\": [{\"reference\": \"asc\"}], \"search_after\": [1594901956117591]}",
+            query.toString(),
+            true
+        );
+    }
 }
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.civil.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceNumberAllocatorTest {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger reservations = new AtomicInteger();
+    private final IntFunction<List<Long>> reserveBlock = blockSize -> {
+        reservations.incrementAndGet();
+        long first = sequence.getAndAdd(blockSize) + 1;
+        return LongStream.range(first, first + blockSize).boxed().collect(Collectors.toList());
+    };
+
+    @Test
+    void shouldFormatReferenceNumber_whenAllocated() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator("DC", 5, reserveBlock);
+
+        assertThat(allocator.allocate()).isEqualTo("000DC001");
+        assertThat(allocator.allocate()).isEqualTo("000DC002");
+    }
+
+    @Test
+    void shouldFormatReferenceNumber_whenValueUsesAllDigits() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator("MC", 1, blockSize -> List.of(123456L));
+
+        assertThat(allocator.allocate()).isEqualTo("123MC456");
+    }
+
+    @Test
+    void shouldReserveOncePerBlock_whenAllocatingFromMemory() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator("DC", 10, reserveBlock);
+
+        for (int i = 0; i < 25; i++) {
+            allocator.allocate();
+        }
+
+        assertThat(reservations).hasValue(3);
+    }
+
+    @Test
+    void shouldAllocateUniqueReferenceNumbers_whenAllocatedConcurrently() throws InterruptedException {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator("DC", 7, reserveBlock);
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 1000; i++) {
+            executorService.execute(() -> references.add(allocator.allocate()));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(references).hasSize(1000);
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenNoReferenceNumbersReserved() {
+        ReferenceNumberAllocator allocator = new ReferenceNumberAllocator("DC", 10, blockSize -> List.of());
+
+        assertThrows(IllegalStateException.class, allocator::allocate);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenBlockSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ReferenceNumberAllocator("DC", 0, reserveBlock));
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.civil.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -46,6 +47,8 @@ import static org.mockito.Mockito.when;
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     CoreCaseDataService.class,
+    SystemUpdateUserTokenManager.class,
+    SimpleMeterRegistry.class,
     JacksonAutoConfiguration.class,
     CaseDetailsConverter.class
 })
@@ -230,6 +233,25 @@ class CoreCaseDataServiceTest {
             verify(coreCaseDataApi).searchCases(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, CASE_TYPE, query.toString());
             verify(userService).getAccessToken(userConfig.getUserName(), userConfig.getPassword());
         }
+
+        @Test
+        void shouldReturnGeneralApplications_WhenSearchingGeneralApplicationsAsSystemUpdateUser() {
+            Query query = new Query(QueryBuilders.termsQuery("reference", List.of(1L, 2L)), emptyList(), 0, 2);
+
+            List<CaseDetails> cases = List.of(CaseDetails.builder().id(1L).build(),
+                                              CaseDetails.builder().id(2L).build());
+            SearchResult searchResult = SearchResult.builder().cases(cases).build();
+
+            when(coreCaseDataApi.searchCases(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, GENERALAPPLICATION_CASE_TYPE,
+                                             query.toString()))
+                .thenReturn(searchResult);
+
+            List<CaseDetails> casesFound = service.searchGeneralApplicationCases(query).getCases();
+
+            assertThat(casesFound).isEqualTo(cases);
+            verify(coreCaseDataApi).searchCases(USER_AUTH_TOKEN, SERVICE_AUTH_TOKEN, GENERALAPPLICATION_CASE_TYPE,
+                                                query.toString());
+        }
     }
 
     @Nested
@@ -5,12 +5,14 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.enums.YesOrNo;
 import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
 import uk.gov.hmcts.reform.civil.model.CaseData;
@@ -18,14 +20,20 @@ import uk.gov.hmcts.reform.civil.model.common.Element;
 import uk.gov.hmcts.reform.civil.model.genapplication.CaseLocationCivil;
 import uk.gov.hmcts.reform.civil.model.genapplication.GADetailsRespondentSol;
 import uk.gov.hmcts.reform.civil.model.genapplication.GeneralApplicationsDetails;
+import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.GeneralApplicationDetailsBuilder;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -38,6 +46,7 @@ import static uk.gov.hmcts.reform.civil.service.GenAppStateHelperService.Require
 @ExtendWith(SpringExtension.class)
 @SpringBootTest(classes = {
     GenAppStateHelperService.class, JacksonAutoConfiguration.class,
+    GeneralApplicationEventExecutor.class,
     CaseDetailsConverter.class
 })
 class GenAppStateHelperServiceTest {
@@ -198,6 +207,106 @@ class GenAppStateHelperServiceTest {
             assertStatusChangeApplicationClosed(updatedData, "9999", false);
         }
 
+        @Test
+        public void shouldSearchLatestStatusOfAllApplicationsAtOnce_whenApplicationsAreIndexed() {
+            when(coreCaseDataService.searchGeneralApplicationCases(any())).thenReturn(
+                SearchResult.builder().total(2).cases(List.of(
+                    getCaseDetails(1234L, "APPLICATION_CLOSED", APPLICATION_CLOSED),
+                    getCaseDetails(2345L, "APPLICATION_CLOSED", APPLICATION_CLOSED)
+                )).build());
+            CaseData caseData = GeneralApplicationDetailsBuilder.builder()
+                .getTestCaseDataWithDetails(CaseData.builder().build(),
+                                            true,
+                                            true,
+                                            true, true,
+                                            getLiveApplications("1234", "2345")
+                );
+
+            CaseData updatedData = service.updateApplicationDetailsInClaim(
+                caseData,
+                APPLICATION_CLOSED_TEXT,
+                APPLICATION_CLOSED
+            );
+
+            assertStatusChangeApplicationClosed(updatedData, "1234", true);
+            assertStatusChangeApplicationClosed(updatedData, "2345", true);
+            ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+            verify(coreCaseDataService, times(1)).searchGeneralApplicationCases(query.capture());
+            assertThat(query.getValue().toString())
+                .contains("\"terms\"", "1234", "2345", "data.applicationClosedDate", "\"size\": 2");
+            verify(coreCaseDataService, never()).getCase(anyLong());
+        }
+
+        @Test
+        public void shouldReadApplicationsDirectly_whenIndexDoesNotShowThemInRequiredStateYet() {
+            when(coreCaseDataService.searchGeneralApplicationCases(any())).thenReturn(
+                SearchResult.builder().total(3).cases(List.of(
+                    getCaseDetails(1234L, "APPLICATION_CLOSED", APPLICATION_CLOSED),
+                    getCaseDetails(2345L, "AWAITING_RESPONDENT_RESPONSE", null),
+                    getCaseDetails(3456L, "ORDER_MADE", null)
+                )).build());
+            when(coreCaseDataService.getCase(2345L))
+                .thenReturn(getCaseDetails(2345L, "APPLICATION_CLOSED", APPLICATION_CLOSED));
+            when(coreCaseDataService.getCase(3456L))
+                .thenReturn(getCaseDetails(3456L, "ORDER_MADE", null));
+            CaseData caseData = GeneralApplicationDetailsBuilder.builder()
+                .getTestCaseDataWithDetails(CaseData.builder().build(),
+                                            true,
+                                            true,
+                                            true, true,
+                                            getLiveApplications("1234", "2345", "3456")
+                );
+
+            CaseData updatedData = service.updateApplicationDetailsInClaim(
+                caseData,
+                APPLICATION_CLOSED_TEXT,
+                APPLICATION_CLOSED
+            );
+
+            assertStatusChangeApplicationClosed(updatedData, "1234", true);
+            assertStatusChangeApplicationClosed(updatedData, "2345", true);
+            assertStatusChangeApplicationClosed(updatedData, "3456", false);
+            verify(coreCaseDataService, never()).getCase(1234L);
+            verify(coreCaseDataService, times(1)).getCase(2345L);
+            verify(coreCaseDataService, times(1)).getCase(3456L);
+        }
+
+        @Test
+        public void shouldReadApplicationsDirectly_whenApplicationsAreNotIndexed() {
+            when(coreCaseDataService.searchGeneralApplicationCases(any())).thenReturn(
+                SearchResult.builder().total(1).cases(List.of(
+                    getCaseDetails(1234L, "APPLICATION_CLOSED", APPLICATION_CLOSED)
+                )).build());
+            when(coreCaseDataService.getCase(2345L))
+                .thenReturn(getCaseDetails(2345L, "APPLICATION_CLOSED", APPLICATION_CLOSED));
+            CaseData caseData = GeneralApplicationDetailsBuilder.builder()
+                .getTestCaseDataWithDetails(CaseData.builder().build(),
+                                            true,
+                                            true,
+                                            true, true,
+                                            getLiveApplications("1234", "2345")
+                );
+
+            CaseData updatedData = service.updateApplicationDetailsInClaim(
+                caseData,
+                APPLICATION_CLOSED_TEXT,
+                APPLICATION_CLOSED
+            );
+
+            assertStatusChangeApplicationClosed(updatedData, "1234", true);
+            assertStatusChangeApplicationClosed(updatedData, "2345", true);
+            verify(coreCaseDataService, times(1)).getCase(2345L);
+            verify(coreCaseDataService, never()).getCase(1234L);
+        }
+
+        private Map<String, String> getLiveApplications(String... caseReferences) {
+            Map<String, String> applications = new HashMap<>();
+            for (String caseReference : caseReferences) {
+                applications.put(caseReference, "Application Submitted - Awaiting Judicial Decision");
+            }
+            return applications;
+        }
+
         @Test
         public void updateApplicationDetailsListsToReflectLatestApplicationStatusChange_AO() {
             setupForApplicationOffline();
@@ -456,6 +565,24 @@ class GenAppStateHelperServiceTest {
             verifyNoMoreInteractions(coreCaseDataService);
         }
 
+        @Test
+        void shouldTriggerEventOnEveryApplicationThenFail_whenEventFailsOnOneApplication() {
+            CaseData caseData = GeneralApplicationDetailsBuilder.builder()
+                .getTestCaseDataWithDetails(CaseData.builder().build(),
+                                            true,
+                                            true,
+                                            true, true,
+                                            getOriginalStatusOfGeneralApplication()
+                );
+            when(coreCaseDataService.triggerGeneralApplicationEvent(1234L, MAIN_CASE_CLOSED))
+                .thenThrow(new IllegalStateException("CCD unavailable"));
+
+            assertThrows(IllegalStateException.class, () -> service.triggerEvent(caseData, MAIN_CASE_CLOSED));
+
+            verify(coreCaseDataService, times(1)).triggerGeneralApplicationEvent(1234L, MAIN_CASE_CLOSED);
+            verify(coreCaseDataService, times(1)).triggerGeneralApplicationEvent(2345L, MAIN_CASE_CLOSED);
+        }
+
         @Test
         void shouldNotTriggerGeneralApplicationEvent_whenCaseHasNoGeneralApplication() {
             CaseData caseData = CaseDataBuilder.builder().atStatePendingClaimIssuedUnrepresentedDefendant().build();
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GeneralApplicationEventExecutorTest {
+
+    private final GeneralApplicationEventExecutor eventExecutor = new GeneralApplicationEventExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        eventExecutor.shutdown();
+    }
+
+    @Test
+    void shouldTriggerEventOnEventThread_whenTriggerSubmitted() {
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        eventExecutor.submit(() -> thread.set(Thread.currentThread().getName())).join();
+
+        assertThat(thread.get()).startsWith("general-application-event-");
+    }
+
+    @Test
+    void shouldRejectPool_whenNoThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new GeneralApplicationEventExecutor(0));
+    }
+}
@@ -21,19 +21,26 @@ import uk.gov.hmcts.reform.civil.config.GeneralAppFeesConfiguration;
 import uk.gov.hmcts.reform.civil.referencedata.LRDConfiguration;
 import uk.gov.hmcts.reform.civil.model.common.DynamicList;
 import uk.gov.hmcts.reform.civil.model.common.DynamicListElement;
+import uk.gov.hmcts.reform.civil.referencedata.CourtLocationIndex;
+import uk.gov.hmcts.reform.civil.referencedata.CourtLocationSnapshot;
 import uk.gov.hmcts.reform.civil.referencedata.model.LocationRefData;
 import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataException;
 import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataService;
 
 import java.net.URI;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +69,12 @@ class LocationRefDataServiceTest {
     @Mock
     private AuthTokenGenerator authTokenGenerator;
 
+    @Mock
+    private CourtLocationIndex courtLocationIndex;
+
+    @Captor
+    private ArgumentCaptor<Function<String, CourtLocationSnapshot>> loaderCaptor;
+
     @InjectMocks
     private LocationRefDataService refDataService;
 
@@ -626,4 +639,86 @@ class LocationRefDataServiceTest {
         }
     }
 
+    @Nested
+    class CourtLocationSnapshotTest {
+
+        private final LocationRefData ccmcc = LocationRefData.builder().epimmsId("192280").regionId("4")
+            .siteName("site_name_01").region("North West").courtTypeId("10").build();
+        private final LocationRefData tribunal = LocationRefData.builder().epimmsId("192280").regionId("4")
+            .siteName("site_name_02").region("North West").courtTypeId("31").build();
+        private final LocationRefData scottish = LocationRefData.builder().epimmsId("333333").regionId("11")
+            .siteName("site_name_03").region("Scotland").courtTypeId("10").build();
+        private final CourtLocationSnapshot snapshot = new CourtLocationSnapshot(
+            List.of(ccmcc, tribunal, scottish), List.of(scottish, ccmcc), ccmcc, Instant.now());
+
+        @Test
+        void shouldServeLookupsFromSnapshot_whenSnapshotAvailable() {
+            when(courtLocationIndex.getSnapshot(eq("user_token"), any())).thenReturn(Optional.of(snapshot));
+
+            assertThat(refDataService.getCcmccLocation("user_token")).isSameAs(ccmcc);
+            assertThat(refDataService.getCourtLocationsForDefaultJudgments("user_token"))
+                .containsExactly(scottish, ccmcc);
+            assertThat(refDataService.getCourtLocationsForGeneralApplication("user_token"))
+                .containsExactly(ccmcc);
+            assertThat(refDataService.getCourtLocationsByEpimmsId("user_token", "192280"))
+                .containsExactly(ccmcc, tribunal);
+            assertThat(refDataService.getCourtLocationsByEpimmsIdAndCourtType("user_token", "192280"))
+                .containsExactly(ccmcc);
+            verify(restTemplate, never()).exchange(
+                any(URI.class),
+                any(HttpMethod.class),
+                any(),
+                ArgumentMatchers.<ParameterizedTypeReference<List<LocationRefData>>>any()
+            );
+        }
+
+        @Test
+        void shouldQueryLRD_whenEpimmsIdNotInSnapshot() {
+            when(courtLocationIndex.getSnapshot(eq("user_token"), any())).thenReturn(Optional.of(snapshot));
+            when(authTokenGenerator.generate()).thenReturn("service_token");
+            when(restTemplate.exchange(
+                uriCaptor.capture(),
+                httpMethodCaptor.capture(),
+                httpEntityCaptor.capture(),
+                ArgumentMatchers.<ParameterizedTypeReference<List<LocationRefData>>>any()
+            ))
+                .thenReturn(new ResponseEntity<>(List.of(scottish), OK));
+
+            assertThat(refDataService.getCourtLocationsByEpimmsIdAndCourtType("user_token", "999999"))
+                .containsExactly(scottish);
+            assertThat(uriCaptor.getValue().toString())
+                .isEqualTo("dummy_url/fees-register/fees/lookup?epimms_id=999999&court_type_id=10");
+        }
+
+        @Test
+        void shouldLoadSnapshotFromLRD_whenIndexLoadsSnapshot() {
+            when(authTokenGenerator.generate()).thenReturn("service_token");
+            when(restTemplate.exchange(
+                uriCaptor.capture(),
+                httpMethodCaptor.capture(),
+                httpEntityCaptor.capture(),
+                ArgumentMatchers.<ParameterizedTypeReference<List<LocationRefData>>>any()
+            ))
+                .thenReturn(new ResponseEntity<>(List.of(ccmcc), OK))
+                .thenReturn(new ResponseEntity<>(List.of(ccmcc), OK))
+                .thenReturn(new ResponseEntity<>(List.of(ccmcc, tribunal, scottish), OK))
+                .thenReturn(new ResponseEntity<>(List.of(scottish, ccmcc), OK));
+            refDataService.getCcmccLocation("user_token");
+            verify(courtLocationIndex).getSnapshot(eq("user_token"), loaderCaptor.capture());
+
+            CourtLocationSnapshot loaded = loaderCaptor.getValue().apply("user_token");
+
+            assertThat(uriCaptor.getAllValues().subList(1, 4)).extracting(URI::toString).containsExactly(
+                "dummy_url/fees-register/fees/lookup?court_venue_name=County%20Court%20Money%20Claims%20Centre",
+                "dummy_url/fees-register/fees/lookup",
+                "dummy_url/fees-register/fees/lookup?is_hearing_location=Y&is_case_management_location=Y"
+                    + "&court_type_id=10&location_type=Court"
+            );
+            assertThat(httpEntityCaptor.getValue().getHeaders().getFirst("Authorization")).isEqualTo("user_token");
+            assertThat(loaded.getCcmccLocation()).isEqualTo(ccmcc);
+            assertThat(loaded.getSize()).isEqualTo(3);
+            assertThat(loaded.getLocationsByRegionId("11")).containsExactly(scottish);
+            assertThat(loaded.getDefaultJudgmentLocations()).containsExactly(scottish, ccmcc);
+        }
+    }
 }
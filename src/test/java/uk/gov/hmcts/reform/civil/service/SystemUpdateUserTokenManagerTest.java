@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.civil.service;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.civil.service.data.UserAuthContent;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SystemUpdateUserTokenManagerTest {
+
+    private static final String USER_NAME = "system-update";
+    private static final String PASSWORD = "password";
+    private static final String USER_ID = "system-update-id";
+
+    @Mock
+    private UserService userService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SystemUpdateUserTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        tokenManager = new SystemUpdateUserTokenManager(
+            userService,
+            new SystemUpdateUserConfiguration(USER_NAME, PASSWORD),
+            meterRegistry
+        );
+    }
+
+    @Test
+    void shouldReuseSystemUpdateUser_whenTokenIsNotAboutToExpire() {
+        String token = tokenExpiringIn(Duration.ofHours(1));
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenReturn(token);
+        when(userService.getUserInfo(token)).thenReturn(UserInfo.builder().uid(USER_ID).build());
+
+        UserAuthContent first = tokenManager.getSystemUpdateUser();
+        UserAuthContent second = tokenManager.getSystemUpdateUser();
+
+        assertThat(first).isEqualTo(UserAuthContent.builder().userToken(token).userId(USER_ID).build());
+        assertThat(second).isEqualTo(first);
+        assertThat(tokenManager.getAccessToken()).isEqualTo(token);
+        verify(userService).getAccessToken(USER_NAME, PASSWORD);
+        verify(userService).getUserInfo(token);
+        assertThat(meterRegistry.counter("civil.system.update.user.token.refreshes").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshAccessToken_whenCachedTokenIsAboutToExpire() {
+        String expiringToken = tokenExpiringIn(Duration.ofMinutes(2));
+        String freshToken = tokenExpiringIn(Duration.ofHours(1));
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenReturn(expiringToken);
+        when(userService.refreshAccessToken(USER_NAME, PASSWORD)).thenReturn(freshToken);
+
+        assertThat(tokenManager.getAccessToken()).isEqualTo(freshToken);
+        assertThat(tokenManager.getAccessToken()).isEqualTo(freshToken);
+        verify(userService).refreshAccessToken(USER_NAME, PASSWORD);
+    }
+
+    @Test
+    void shouldResolveTokenEachTime_whenTokenHasNoReadableExpiry() {
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenReturn("Bearer user-xyz");
+
+        tokenManager.getAccessToken();
+        tokenManager.getAccessToken();
+
+        verify(userService, times(2)).getAccessToken(USER_NAME, PASSWORD);
+        verify(userService, never()).refreshAccessToken(USER_NAME, PASSWORD);
+    }
+
+    @Test
+    void shouldResolveTokenOnce_whenRequestedConcurrently() throws InterruptedException {
+        String token = tokenExpiringIn(Duration.ofHours(1));
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return token;
+        });
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                    tokenManager.getAccessToken();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        verify(userService).getAccessToken(USER_NAME, PASSWORD);
+    }
+
+    @Test
+    void shouldKeepCurrentToken_whenRefreshFailsBeforeTokenExpires() throws InterruptedException {
+        String token = tokenExpiringIn(Duration.ofSeconds(4));
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenReturn(token);
+        when(userService.refreshAccessToken(USER_NAME, PASSWORD)).thenReturn(token);
+        tokenManager.getAccessToken();
+
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenThrow(new IllegalStateException("idam down"));
+        Thread.sleep(2100);
+
+        assertThat(tokenManager.getAccessToken()).isEqualTo(token);
+        assertThat(meterRegistry.counter("civil.system.update.user.token.refresh.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountRefreshFailure_whenNoTokenCanBeResolved() {
+        when(userService.getAccessToken(USER_NAME, PASSWORD)).thenThrow(new IllegalStateException("idam down"));
+
+        assertThrows(IllegalStateException.class, () -> tokenManager.getAccessToken());
+        assertThat(meterRegistry.counter("civil.system.update.user.token.refresh.failures").count()).isEqualTo(1);
+    }
+
+    private static String tokenExpiringIn(Duration duration) {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject(USER_NAME)
+            .expirationTime(Date.from(Instant.now().plus(duration)))
+            .build();
+        return "Bearer " + new PlainJWT(claims).serialize();
+    }
+}
@@ -1,78 +1,84 @@
 package uk.gov.hmcts.reform.civil.service.docmosis;
 
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.civil.config.DocmosisConfiguration;
 import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
-import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisRequest;
 import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.SealedClaimForm;
 
+import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N1;
 import static uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService.API_RENDER;
 
 @ExtendWith(SpringExtension.class)
-@SpringBootTest(classes = {DocumentGeneratorService.class, JacksonAutoConfiguration.class})
+@SpringBootTest(classes = {DocumentGeneratorService.class, JacksonAutoConfiguration.class, RestTemplate.class})
 class DocumentGeneratorServiceTest {
 
-    @MockBean
-    private RestTemplate restTemplate;
+    private static final String DOCMOSIS_URL = "http://docmosis";
 
-    @Mock
-    private ResponseEntity<byte[]> tornadoResponse;
+    @Autowired
+    private RestTemplate restTemplate;
 
     @MockBean
     private DocmosisConfiguration configuration;
 
-    @Captor
-    ArgumentCaptor<HttpEntity<DocmosisRequest>> argumentCaptor;
-
     @Autowired
     private DocumentGeneratorService documentGeneratorService;
 
+    private MockRestServiceServer docmosis;
+
+    @BeforeEach
+    void setUp() {
+        when(configuration.getUrl()).thenReturn(DOCMOSIS_URL);
+        docmosis = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
     @Test
     void shouldInvokesTornado() {
         SealedClaimForm sealedClaimForm = SealedClaimForm.builder().issueDate(LocalDate.now()).build();
-
-        when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
-                                   eq(HttpMethod.POST), argumentCaptor.capture(), eq(byte[].class)
-        )).thenReturn(tornadoResponse);
-
         byte[] expectedResponse = {1, 2, 3};
-        when(tornadoResponse.getBody()).thenReturn(expectedResponse);
+        docmosis.expect(requestTo(DOCMOSIS_URL + API_RENDER))
+            .andExpect(method(HttpMethod.POST))
+            .andExpect(jsonPath("$.templateName").value(N1.getTemplate()))
+            .andExpect(jsonPath("$.outputFormat").value("pdf"))
+            .andRespond(withSuccess(expectedResponse, MediaType.APPLICATION_PDF));
 
         DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(sealedClaimForm, N1);
-        assertThat(docmosisDocument.getBytes()).isEqualTo(expectedResponse);
 
-        assertThat(argumentCaptor.getValue().getBody().getTemplateName()).isEqualTo(N1.getTemplate());
-        assertThat(argumentCaptor.getValue().getBody().getOutputFormat()).isEqualTo("pdf");
+        assertThat(docmosisDocument.getBytes()).isEqualTo(expectedResponse);
+        docmosis.verify();
     }
 
     @Test
     void shouldThrowWhenTornadoFails() {
-        when(restTemplate.exchange(eq(configuration.getUrl() + API_RENDER),
-                                   eq(HttpMethod.POST), argumentCaptor.capture(), eq(byte[].class)
-        )).thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND, "not found"));
+        docmosis.expect(requestTo(DOCMOSIS_URL + API_RENDER))
+            .andRespond(request -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND, "not found");
+            });
 
         Map<String, Object> placeholders = Map.of();
 
@@ -83,5 +89,40 @@ class DocumentGeneratorServiceTest {
 
         assertThat(httpClientErrorException).hasMessageContaining("404 not found");
     }
-}
 
+    /**
+     * Measures the bytes allocated on the calling thread while a 16 MB document is read. Tagged perf, so it runs
+     * with perfTest rather than test.
+     */
+    @Tag("perf")
+    @Test
+    void shouldHoldOneCopyOfRenderedDocument_whenLargeDocumentRendered() {
+        byte[] largeDocument = new byte[16 * 1024 * 1024];
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentLength(largeDocument.length);
+        docmosis.expect(requestTo(DOCMOSIS_URL + API_RENDER))
+            .andRespond(withSuccess().contentType(MediaType.APPLICATION_PDF).headers(headers).body(largeDocument));
+
+        long allocatedBefore = allocatedBytes();
+        DocmosisDocument docmosisDocument = documentGeneratorService.generateDocmosisDocument(Map.of(), N1);
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        assertThat(docmosisDocument.getBytes()).hasSize(largeDocument.length);
+        assertThat(allocated).isLessThan(largeDocument.length * 3L / 2);
+    }
+
+    @Test
+    void shouldReadWholeDocument_whenContentLengthNotDeclared() {
+        byte[] document = new byte[64 * 1024];
+        docmosis.expect(requestTo(DOCMOSIS_URL + API_RENDER))
+            .andRespond(withSuccess(document, MediaType.APPLICATION_PDF));
+
+        assertThat(documentGeneratorService.generateDocmosisDocument(Map.of(), N1).getBytes())
+            .hasSize(document.length);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
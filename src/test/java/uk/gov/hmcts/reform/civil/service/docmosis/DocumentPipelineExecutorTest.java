@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DocumentPipelineExecutorTest {
+
+    private final DocumentPipelineExecutor pipelineExecutor = new DocumentPipelineExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        pipelineExecutor.shutdown();
+    }
+
+    @Test
+    void shouldRunJobOnPipelineThread_whenJobSubmitted() {
+        assertThat(pipelineExecutor.submit(() -> Thread.currentThread().getName()).join())
+            .startsWith("document-pipeline-");
+    }
+
+    @Test
+    void shouldRejectPool_whenNoThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new DocumentPipelineExecutor(0));
+    }
+}
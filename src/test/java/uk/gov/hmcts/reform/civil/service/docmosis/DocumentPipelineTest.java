@@ -0,0 +1,220 @@
+package uk.gov.hmcts.reform.civil.service.docmosis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import uk.gov.hmcts.reform.civil.documentmanagement.DocumentManagementService;
+import uk.gov.hmcts.reform.civil.documentmanagement.model.CaseDocument;
+import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
+import uk.gov.hmcts.reform.civil.model.common.MappableObject;
+import uk.gov.hmcts.reform.civil.model.docmosis.DocmosisDocument;
+import uk.gov.hmcts.reform.civil.model.docmosis.sealedclaim.LitigantInPersonForm;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.civil.documentmanagement.model.DocumentType.DEFAULT_JUDGMENT;
+import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N121;
+
+@ExtendWith(SpringExtension.class)
+class DocumentPipelineTest {
+
+    private static final String BEARER_TOKEN = "Bearer Token";
+    private static final byte[] BYTES = {1, 2, 3};
+    private static final PDF PDF_DOCUMENT = new PDF("file-name", BYTES, DEFAULT_JUDGMENT);
+    private static final CaseDocument CASE_DOCUMENT = CaseDocumentBuilder.builder()
+        .documentName("file-name")
+        .documentType(DEFAULT_JUDGMENT)
+        .build();
+
+    @Mock
+    private DocumentGeneratorService documentGeneratorService;
+    @Mock
+    private DocumentManagementService documentManagementService;
+    @Mock
+    private ObjectProvider<CacheManager> cacheManager;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MappableObject templateData = LitigantInPersonForm.builder().referenceNumber("000DC001").build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DocumentPipelineExecutor pipelineExecutor = new DocumentPipelineExecutor(4);
+    private DocumentPipeline documentPipeline;
+
+    @BeforeEach
+    void setUp() {
+        documentPipeline = new DocumentPipeline(documentGeneratorService, documentManagementService, pipelineExecutor,
+                                                meterRegistry, mapper, cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipelineExecutor.shutdown();
+    }
+
+    @Test
+    void shouldRenderAndUploadDocumentsConcurrently_whenSeveralJobsSubmitted() {
+        CountDownLatch bothRendering = new CountDownLatch(2);
+        when(documentGeneratorService.generateDocmosisDocument(templateData, N121)).thenAnswer(invocation -> {
+            bothRendering.countDown();
+            assertThat(bothRendering.await(5, TimeUnit.SECONDS)).isTrue();
+            return new DocmosisDocument(N121.getDocumentTitle(), BYTES);
+        });
+        when(documentManagementService.uploadDocument(BEARER_TOKEN, PDF_DOCUMENT)).thenReturn(CASE_DOCUMENT);
+
+        List<CaseDocument> documents = documentPipeline.joinAll(List.of(
+            documentPipeline.renderAndUpload(BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT),
+            documentPipeline.renderAndUpload(BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT)
+        ));
+
+        assertThat(documents).containsExactly(CASE_DOCUMENT, CASE_DOCUMENT);
+        assertThat(meterRegistry.get(DocumentPipeline.STAGE_TIMER).tag("stage", "render").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(DocumentPipeline.STAGE_TIMER).tag("stage", "upload").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void shouldRetryRender_whenDocmosisFailsWithServerError() {
+        when(documentGeneratorService.generateDocmosisDocument(templateData, N121))
+            .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+            .thenReturn(new DocmosisDocument(N121.getDocumentTitle(), BYTES));
+
+        DocmosisDocument document = documentPipeline.render(templateData, N121);
+
+        assertThat(document.getBytes()).isEqualTo(BYTES);
+        verify(documentGeneratorService, times(2)).generateDocmosisDocument(templateData, N121);
+    }
+
+    @Test
+    void shouldNotRetryRender_whenDocmosisRejectsRequest() {
+        when(documentGeneratorService.generateDocmosisDocument(templateData, N121))
+            .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> documentPipeline.render(templateData, N121))
+            .isInstanceOf(HttpClientErrorException.class);
+        verify(documentGeneratorService, times(1)).generateDocmosisDocument(templateData, N121);
+    }
+
+    @Test
+    void shouldRethrowFailureOfJob_whenAnyJobFails() {
+        when(documentManagementService.uploadDocument(eq(BEARER_TOKEN), any(PDF.class)))
+            .thenThrow(new IllegalStateException("upload failed"));
+
+        CompletableFuture<CaseDocument> failing = documentPipeline.submit(
+            () -> documentPipeline.upload(BEARER_TOKEN, PDF_DOCUMENT));
+        CompletableFuture<CaseDocument> succeeding = documentPipeline.submit(() -> CASE_DOCUMENT);
+
+        assertThatThrownBy(() -> documentPipeline.joinAll(List.of(succeeding, failing)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("upload failed");
+    }
+
+    @Nested
+    class GenerateWithRenderedDocumentCache {
+
+        @BeforeEach
+        void setUp() {
+            when(cacheManager.getIfAvailable())
+                .thenReturn(new CaffeineCacheManager(DocumentPipeline.RENDERED_DOCUMENT_CACHE));
+            documentPipeline = new DocumentPipeline(documentGeneratorService, documentManagementService,
+                                                    pipelineExecutor, meterRegistry, mapper, cacheManager);
+            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N121)))
+                .thenReturn(new DocmosisDocument(N121.getDocumentTitle(), BYTES));
+            when(documentManagementService.uploadDocument(BEARER_TOKEN, PDF_DOCUMENT)).thenReturn(CASE_DOCUMENT);
+        }
+
+        @Test
+        void shouldReuseUploadedDocument_whenIdenticalDocumentGeneratedAgain() {
+            CaseDocument first = documentPipeline.generate(BEARER_TOKEN, templateData, N121, "file-name",
+                                                           DEFAULT_JUDGMENT);
+            CaseDocument second = documentPipeline.generate(
+                BEARER_TOKEN, LitigantInPersonForm.builder().referenceNumber("000DC001").build(),
+                N121, "file-name", DEFAULT_JUDGMENT
+            );
+
+            assertThat(second).isEqualTo(first).isEqualTo(CASE_DOCUMENT).isNotSameAs(first);
+            verify(documentGeneratorService, times(1)).generateDocmosisDocument(any(MappableObject.class), eq(N121));
+            verify(documentManagementService, times(1)).uploadDocument(BEARER_TOKEN, PDF_DOCUMENT);
+        }
+
+        @Test
+        void shouldRenderOnce_whenIdenticalDocumentGeneratedWhileFirstIsInFlight() throws Exception {
+            CountDownLatch rendering = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(documentGeneratorService.generateDocmosisDocument(any(MappableObject.class), eq(N121)))
+                .thenAnswer(invocation -> {
+                    rendering.countDown();
+                    assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                    return new DocmosisDocument(N121.getDocumentTitle(), BYTES);
+                });
+
+            CompletableFuture<CaseDocument> first = documentPipeline.renderAndUpload(
+                BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT);
+            assertThat(rendering.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<CaseDocument> second = documentPipeline.renderAndUpload(
+                BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT);
+            release.countDown();
+
+            assertThat(documentPipeline.joinAll(List.of(first, second))).containsExactly(CASE_DOCUMENT, CASE_DOCUMENT);
+            verify(documentGeneratorService, times(1)).generateDocmosisDocument(any(MappableObject.class), eq(N121));
+            verify(documentManagementService, times(1)).uploadDocument(BEARER_TOKEN, PDF_DOCUMENT);
+        }
+
+        @Test
+        void shouldRenderAgain_whenTemplateDataDiffers() {
+            documentPipeline.generate(BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT);
+            documentPipeline.generate(
+                BEARER_TOKEN, LitigantInPersonForm.builder().referenceNumber("000DC002").build(),
+                N121, "file-name", DEFAULT_JUDGMENT
+            );
+
+            verify(documentGeneratorService, times(2)).generateDocmosisDocument(any(MappableObject.class), eq(N121));
+        }
+
+        @Test
+        void shouldRenderAgain_whenPreviousUploadFailed() {
+            when(documentManagementService.uploadDocument(BEARER_TOKEN, PDF_DOCUMENT))
+                .thenThrow(new IllegalStateException("upload failed"))
+                .thenReturn(CASE_DOCUMENT);
+
+            assertThatThrownBy(() -> documentPipeline.generate(BEARER_TOKEN, templateData, N121, "file-name",
+                                                               DEFAULT_JUDGMENT))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(documentPipeline.generate(BEARER_TOKEN, templateData, N121, "file-name", DEFAULT_JUDGMENT))
+                .isEqualTo(CASE_DOCUMENT);
+            verify(documentGeneratorService, times(2)).generateDocmosisDocument(any(MappableObject.class), eq(N121));
+        }
+    }
+
+    @Test
+    void shouldRecordStitchStage_whenStitching() {
+        assertThat(documentPipeline.stitch(() -> CASE_DOCUMENT)).isEqualTo(CASE_DOCUMENT);
+
+        assertThat(meterRegistry.get(DocumentPipeline.STAGE_TIMER).tag("stage", "stitch").timer().count())
+            .isEqualTo(1);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.docmosis.dj;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,8 @@ import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.civil.service.FeesService;
 import uk.gov.hmcts.reform.civil.service.OrganisationService;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipelineExecutor;
 import uk.gov.hmcts.reform.civil.documentmanagement.UnsecuredDocumentManagementService;
 import uk.gov.hmcts.reform.civil.utils.InterestCalculator;
 
@@ -36,7 +39,10 @@ import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.N121_
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {
     DefaultJudgmentFormGenerator.class,
-    JacksonAutoConfiguration.class
+    JacksonAutoConfiguration.class,
+    DocumentPipeline.class,
+    DocumentPipelineExecutor.class,
+    SimpleMeterRegistry.class
 })
 public class DefaultJudgmentFormGeneratorTest {
 
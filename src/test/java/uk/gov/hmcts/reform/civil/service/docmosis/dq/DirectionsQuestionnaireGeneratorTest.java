@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.docmosis.dq;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -47,6 +48,8 @@ import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.PartyBuilder;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipelineExecutor;
 import uk.gov.hmcts.reform.civil.service.docmosis.RepresentativeService;
 import uk.gov.hmcts.reform.civil.documentmanagement.UnsecuredDocumentManagementService;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
@@ -87,7 +90,10 @@ import static uk.gov.hmcts.reform.civil.utils.ElementUtils.unwrapElements;
     DirectionsQuestionnaireGenerator.class,
     JacksonAutoConfiguration.class,
     StateFlowEngine.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    DocumentPipeline.class,
+    DocumentPipelineExecutor.class,
+    SimpleMeterRegistry.class
 })
 class DirectionsQuestionnaireGeneratorTest {
 
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.docmosis.sealedclaim;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,8 @@ import uk.gov.hmcts.reform.civil.documentmanagement.model.PDF;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDocumentBuilder;
 import uk.gov.hmcts.reform.civil.service.docmosis.DocumentGeneratorService;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipeline;
+import uk.gov.hmcts.reform.civil.service.docmosis.DocumentPipelineExecutor;
 import uk.gov.hmcts.reform.civil.documentmanagement.UnsecuredDocumentManagementService;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,7 +34,10 @@ import static uk.gov.hmcts.reform.civil.service.docmosis.DocmosisTemplates.LIP_C
 @ContextConfiguration(classes = {
     LitigantInPersonFormGenerator.class,
     JacksonAutoConfiguration.class,
-    CaseDetailsConverter.class
+    CaseDetailsConverter.class,
+    DocumentPipeline.class,
+    DocumentPipelineExecutor.class,
+    SimpleMeterRegistry.class
 })
 class LitigantInPersonFormGeneratorTest {
 
@@ -0,0 +1,303 @@
+package uk.gov.hmcts.reform.civil.service.eventbus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.civil.config.AsyncEventConfiguration;
+import uk.gov.hmcts.reform.civil.event.AsyncCaseEvent;
+import uk.gov.hmcts.reform.civil.event.DismissClaimEvent;
+import uk.gov.hmcts.reform.civil.event.TakeCaseOfflineEvent;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxEntry;
+import uk.gov.hmcts.reform.civil.repositories.AsyncEventOutboxRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static feign.Request.HttpMethod.POST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class AsyncEventBusTest {
+
+    private static final long CASE_ID = 1594901956117591L;
+
+    @Mock
+    private AsyncEventOutboxRepository outbox;
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncEventConfiguration configuration = new AsyncEventConfiguration();
+    private final Queue<AsyncCaseEvent> handled = new ConcurrentLinkedQueue<>();
+    private AsyncEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        configuration.getRetry().setInitialBackoff(1);
+        configuration.getRetry().setMaxBackoff(2);
+        configuration.getOutbox().setPollInterval(60000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        eventBus.destroy();
+    }
+
+    @Test
+    void shouldReturnBeforeEventIsHandled_whenEventPublished() throws InterruptedException {
+        CountDownLatch published = new CountDownLatch(1);
+        eventBus = inMemoryBus(event -> {
+            awaitQuietly(published);
+            handled.add(event);
+        });
+
+        eventBus.publish(new DismissClaimEvent(CASE_ID));
+        published.countDown();
+
+        awaitHandled(1);
+        assertThat(handled).containsExactly(new DismissClaimEvent(CASE_ID));
+        assertThat(meterRegistry.get(AsyncEventBus.LAG).tag("type", "DismissClaimEvent").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryListeners_whenTheyFail() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        eventBus = inMemoryBus(event -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("CCD unavailable");
+            }
+            handled.add(event);
+        });
+
+        eventBus.publish(new DismissClaimEvent(CASE_ID));
+
+        awaitHandled(1);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void shouldNotRetryListeners_whenCcdRejectsEvent() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        eventBus = inMemoryBus(event -> {
+            attempts.incrementAndGet();
+            throw unprocessableEntity();
+        });
+
+        eventBus.publish(new DismissClaimEvent(CASE_ID));
+        eventBus.destroy();
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldHandleEventOnPublishingThread_whenQueueIsFull() throws InterruptedException {
+        configuration.setQueueCapacity(1);
+        configuration.setConcurrency(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+        eventBus = inMemoryBus(event -> {
+            threads.add(Thread.currentThread());
+            if (event.getCaseId() == 1L) {
+                awaitQuietly(release);
+            }
+            handled.add(event);
+        });
+
+        eventBus.publish(new DismissClaimEvent(1L));
+        eventBus.publish(new DismissClaimEvent(2L));
+        eventBus.publish(new DismissClaimEvent(3L));
+
+        assertThat(handled).containsExactly(new DismissClaimEvent(3L));
+        assertThat(threads).contains(Thread.currentThread());
+        assertThat(meterRegistry.get(AsyncEventBus.QUEUE_DEPTH).tag("type", "DismissClaimEvent").gauge().value())
+            .isEqualTo(1);
+        release.countDown();
+        awaitHandled(3);
+    }
+
+    @Test
+    void shouldHandleEventTypesConcurrently_whenOneTypeIsBusy() throws InterruptedException {
+        configuration.setConcurrency(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventBus = inMemoryBus(event -> {
+            if (event instanceof DismissClaimEvent) {
+                awaitQuietly(release);
+            }
+            handled.add(event);
+        });
+
+        eventBus.publish(new DismissClaimEvent(CASE_ID));
+        eventBus.publish(new TakeCaseOfflineEvent(CASE_ID));
+
+        awaitHandled(1);
+        assertThat(handled).containsExactly(new TakeCaseOfflineEvent(CASE_ID));
+        release.countDown();
+        awaitHandled(2);
+    }
+
+    @Nested
+    class WithOutbox {
+
+        @Test
+        void shouldAddEventToOutboxAndDeleteIt_whenEventHandled() throws InterruptedException {
+            when(outbox.add(anyString(), anyString(), anyLong())).thenReturn(10L);
+            eventBus = outboxBus(handled::add);
+
+            eventBus.publish(new DismissClaimEvent(CASE_ID));
+
+            awaitHandled(1);
+            verify(outbox).add(eq(DismissClaimEvent.class.getName()), anyString(), anyLong());
+            verify(outbox, timeout(1000)).delete(10L);
+        }
+
+        @Test
+        void shouldLeaveEventInOutboxToRetryLater_whenAllRetriesFail() {
+            when(outbox.add(anyString(), anyString(), anyLong())).thenReturn(10L);
+            eventBus = outboxBus(event -> {
+                throw new IllegalStateException("CCD unavailable");
+            });
+
+            eventBus.publish(new DismissClaimEvent(CASE_ID));
+
+            verify(outbox, timeout(1000)).retryLater(10L, configuration.getOutbox().getRetryDelay());
+            verify(outbox, never()).delete(10L);
+        }
+
+        @Test
+        void shouldMarkEventFailedWithoutRetrying_whenCcdRejectsEvent() {
+            when(outbox.add(anyString(), anyString(), anyLong())).thenReturn(10L);
+            eventBus = outboxBus(event -> {
+                throw unprocessableEntity();
+            });
+
+            eventBus.publish(new DismissClaimEvent(CASE_ID));
+
+            verify(outbox, timeout(1000)).markFailed(10L);
+            verify(outbox, never()).retryLater(anyLong(), anyLong());
+            verify(outbox, never()).delete(10L);
+        }
+
+        @Test
+        void shouldQueueEventInMemory_whenOutboxUnavailable() throws InterruptedException {
+            when(outbox.add(anyString(), anyString(), anyLong())).thenThrow(new IllegalStateException("down"));
+            eventBus = outboxBus(handled::add);
+
+            eventBus.publish(new DismissClaimEvent(CASE_ID));
+
+            awaitHandled(1);
+            verify(outbox, never()).delete(anyLong());
+        }
+
+        @Test
+        void shouldHandleEventsTakenFromOutbox_whenOutboxPolled() throws Exception {
+            TakeCaseOfflineEvent event = new TakeCaseOfflineEvent(CASE_ID);
+            when(outbox.countPending()).thenReturn(1L);
+            when(outbox.take(anyInt(), anyLong())).thenReturn(List.of(
+                entry(20L, event.getClass().getName(), mapper.writeValueAsString(event), 0)));
+            eventBus = outboxBus(handled::add);
+
+            eventBus.pollOutbox();
+
+            awaitHandled(1);
+            assertThat(handled).containsExactly(event);
+            verify(outbox, timeout(1000)).delete(20L);
+            assertThat(meterRegistry.get(AsyncEventBus.OUTBOX_PENDING).gauge().value()).isEqualTo(1);
+        }
+
+        @Test
+        void shouldMarkEventFailed_whenItFailedOnItsLastAttempt() {
+            when(outbox.take(anyInt(), anyLong())).thenReturn(List.of(
+                entry(20L, DismissClaimEvent.class.getName(), "{\"caseId\":1}",
+                      configuration.getOutbox().getMaxAttempts() - 1)));
+            eventBus = outboxBus(event -> {
+                throw new IllegalStateException("CCD unavailable");
+            });
+
+            eventBus.pollOutbox();
+
+            verify(outbox, timeout(1000)).markFailed(20L);
+            verify(outbox, never()).retryLater(anyLong(), anyLong());
+        }
+
+        @Test
+        void shouldMarkEntryFailed_whenItIsNotAnAsyncCaseEvent() {
+            when(outbox.take(anyInt(), anyLong())).thenReturn(List.of(
+                entry(20L, String.class.getName(), "\"text\"", 0)));
+            eventBus = outboxBus(handled::add);
+
+            eventBus.pollOutbox();
+
+            verify(outbox).markFailed(20L);
+            assertThat(handled).isEmpty();
+        }
+    }
+
+    private AsyncEventBus inMemoryBus(Consumer<AsyncCaseEvent> listeners) {
+        return new AsyncEventBus(configuration, listeners, meterRegistry, mapper, null);
+    }
+
+    private AsyncEventBus outboxBus(Consumer<AsyncCaseEvent> listeners) {
+        return new AsyncEventBus(configuration, listeners, meterRegistry, mapper, outbox);
+    }
+
+    private void awaitHandled(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (handled.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(handled).hasSizeGreaterThanOrEqualTo(count);
+    }
+
+    private static FeignException unprocessableEntity() {
+        return new FeignException.FeignClientException(
+            422,
+            "Case data validation failed",
+            Request.create(POST, "", Map.of(), new byte[]{}, UTF_8, null),
+            new byte[]{}
+        );
+    }
+
+    private static AsyncEventOutboxEntry entry(long id, String eventType, String payload, int attempts) {
+        AsyncEventOutboxEntry entry = new AsyncEventOutboxEntry();
+        entry.setId(id);
+        entry.setEventType(eventType);
+        entry.setPayload(payload);
+        entry.setCreatedAt(Instant.now());
+        entry.setAttempts(attempts);
+        return entry;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
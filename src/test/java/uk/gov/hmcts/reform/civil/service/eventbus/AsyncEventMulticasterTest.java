@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.civil.service.eventbus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.civil.callback.CaseEvent;
+import uk.gov.hmcts.reform.civil.event.DismissClaimEvent;
+import uk.gov.hmcts.reform.civil.event.DispatchBusinessProcessEvent;
+import uk.gov.hmcts.reform.civil.model.BusinessProcess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class AsyncEventMulticasterTest {
+
+    private static final Long CASE_ID = 1594901956117591L;
+
+    @Mock
+    private ObjectProvider<AsyncEventBus> eventBusProvider;
+    @Mock
+    private AsyncEventBus eventBus;
+
+    private final List<Object> received = new ArrayList<>();
+    private AsyncEventMulticaster multicaster;
+
+    @BeforeEach
+    void setUp() {
+        multicaster = new AsyncEventMulticaster(eventBusProvider);
+        multicaster.addApplicationListener(
+            (ApplicationListener<PayloadApplicationEvent<?>>) event -> received.add(event.getPayload()));
+    }
+
+    @Test
+    void shouldPublishOnEventBus_whenAsyncCaseEventMulticast() {
+        when(eventBusProvider.getIfAvailable()).thenReturn(eventBus);
+
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, new DismissClaimEvent(CASE_ID)));
+
+        verify(eventBus).publish(new DismissClaimEvent(CASE_ID));
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void shouldCallListeners_whenOtherEventMulticast() {
+        when(eventBusProvider.getIfAvailable()).thenReturn(eventBus);
+
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "other"));
+
+        verifyNoInteractions(eventBus);
+        assertThat(received).containsExactly("other");
+    }
+
+    @Test
+    void shouldCallListeners_whenBusinessProcessDispatched() {
+        when(eventBusProvider.getIfAvailable()).thenReturn(eventBus);
+        DispatchBusinessProcessEvent dispatch = new DispatchBusinessProcessEvent(
+            CASE_ID, BusinessProcess.ready(CaseEvent.CREATE_CLAIM));
+
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, dispatch));
+
+        verifyNoInteractions(eventBus);
+        assertThat(received).containsExactly(dispatch);
+    }
+
+    @Test
+    void shouldCallListeners_whenEventBusNotCreatedYet() {
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, new DismissClaimEvent(CASE_ID)));
+
+        assertThat(received).containsExactly(new DismissClaimEvent(CASE_ID));
+    }
+
+    @Test
+    void shouldCallListeners_whenEventDelivered() {
+        multicaster.deliver(new DismissClaimEvent(CASE_ID));
+
+        assertThat(received).containsExactly(new DismissClaimEvent(CASE_ID));
+        verifyNoInteractions(eventBus);
+    }
+}
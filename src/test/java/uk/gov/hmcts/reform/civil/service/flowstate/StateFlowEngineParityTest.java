@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilderSpec;
+import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static uk.gov.hmcts.reform.civil.enums.CaseCategory.SPEC_CLAIM;
+import static uk.gov.hmcts.reform.civil.enums.CaseCategory.UNSPEC_CLAIM;
+import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.DRAFT;
+import static uk.gov.hmcts.reform.civil.service.flowstate.FlowState.Main.SPEC_DRAFT;
+
+/**
+ * Evaluates every sample case through both the flows compiled at start up and the
+ * Spring State Machine built from the same definition, and expects the same outcome.
+ */
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class
+})
+class StateFlowEngineParityTest {
+
+    @Autowired
+    private StateFlowEngine stateFlowEngine;
+
+    @MockBean
+    private FeatureToggleService featureToggleService;
+
+    static Stream<Arguments> sampleCases() {
+        Stream<CaseData> unspecCases = sampleCases(CaseDataBuilder.class, CaseDataBuilder::builder)
+            .map(caseData -> caseData.toBuilder().caseAccessCategory(UNSPEC_CLAIM).build());
+        Stream<CaseData> specCases = Stream.concat(
+            sampleCases(CaseDataBuilder.class, CaseDataBuilder::builder),
+            sampleCases(CaseDataBuilderSpec.class, CaseDataBuilderSpec::builder)
+        ).map(caseData -> caseData.toBuilder().caseAccessCategory(SPEC_CLAIM).build());
+
+        List<CaseData> cases = Stream.concat(unspecCases, specCases).collect(Collectors.toList());
+        return Stream.of(true, false)
+            .flatMap(togglesEnabled -> cases.stream().map(caseData -> Arguments.of(caseData, togglesEnabled)));
+    }
+
+    private static <B> Stream<CaseData> sampleCases(Class<B> builderClass, Supplier<B> builder) {
+        return Arrays.stream(builderClass.getMethods())
+            .filter(method -> method.getName().startsWith("atState"))
+            .filter(method -> method.getParameterCount() == 0)
+            .filter(method -> !Modifier.isStatic(method.getModifiers()))
+            .map(method -> sampleCase(method, builder.get()))
+            .flatMap(Optional::stream);
+    }
+
+    private static Optional<CaseData> sampleCase(Method atState, Object builder) {
+        try {
+            Object atStateBuilder = atState.invoke(builder);
+            return Optional.of((CaseData) atStateBuilder.getClass().getMethod("build").invoke(atStateBuilder));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("sampleCases")
+    void shouldEvaluateSameAsStateMachine(CaseData caseData, boolean togglesEnabled) {
+        given(featureToggleService.isNoticeOfChangeEnabled()).willReturn(togglesEnabled);
+        given(featureToggleService.isCertificateOfServiceEnabled()).willReturn(togglesEnabled);
+        given(featureToggleService.isGeneralApplicationsEnabled()).willReturn(togglesEnabled);
+        given(featureToggleService.isPinInPostEnabled()).willReturn(togglesEnabled);
+
+        FlowState.Main initialState = SPEC_CLAIM.equals(caseData.getCaseAccessCategory()) ? SPEC_DRAFT : DRAFT;
+        StateFlow expected = stateFlowEngine.build(initialState).evaluate(caseData);
+        StateFlow actual = stateFlowEngine.evaluate(caseData);
+
+        assertThat(stateOf(actual)).isEqualTo(stateOf(expected));
+        assertThat(actual.getStateHistory()).isEqualTo(expected.getStateHistory());
+        assertThat(actual.getFlags()).isEqualTo(expected.getFlags());
+    }
+
+    private static String stateOf(StateFlow stateFlow) {
+        try {
+            return stateFlow.getState().getName();
+        } catch (StateFlowException e) {
+            return State.ERROR_STATE;
+        }
+    }
+}
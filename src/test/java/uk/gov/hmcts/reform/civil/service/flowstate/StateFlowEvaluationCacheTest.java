@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.civil.service.flowstate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.stateflow.StateFlow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StateFlowEvaluationCacheTest {
+
+    private static final Long CASE_REFERENCE = 1594901956117591L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StateFlowEvaluationCache evaluationCache = new StateFlowEvaluationCache(meterRegistry);
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final Supplier<StateFlow> evaluation = () -> {
+        evaluations.incrementAndGet();
+        return mock(StateFlow.class);
+    };
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    class WithinRequest {
+
+        @Test
+        void shouldEvaluateOnce_whenSameCaseContentIsEvaluatedAgain() {
+            startRequest();
+
+            StateFlow first = evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+            StateFlow second = evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+
+            assertThat(second).isSameAs(first);
+            assertThat(evaluations).hasValue(1);
+            assertThat(count("hit")).isEqualTo(1);
+            assertThat(count("miss")).isEqualTo(1);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenCaseContentHasChanged() {
+            startRequest();
+
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC002"), evaluation);
+
+            assertThat(evaluations).hasValue(2);
+            assertThat(count("hit")).isZero();
+            assertThat(count("miss")).isEqualTo(2);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenDifferentCaseContentHasSameHash() {
+            startRequest();
+            assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+            StateFlow first = evaluationCache.evaluate("FLOW", CASE_REFERENCE, "Aa", evaluation);
+            StateFlow second = evaluationCache.evaluate("FLOW", CASE_REFERENCE, "BB", evaluation);
+
+            assertThat(second).isNotSameAs(first);
+            assertThat(evaluations).hasValue(2);
+            assertThat(count("hit")).isZero();
+            assertThat(count("miss")).isEqualTo(2);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenFlowIsDifferent() {
+            startRequest();
+
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+            evaluationCache.evaluate("OTHER_FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+
+            assertThat(evaluations).hasValue(2);
+        }
+
+        @Test
+        void shouldEvaluateAgain_whenInNewRequest() {
+            startRequest();
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+
+            startRequest();
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+
+            assertThat(evaluations).hasValue(2);
+        }
+    }
+
+    @Nested
+    class OutsideRequest {
+
+        @Test
+        void shouldEvaluateEveryTime_whenNoRequestIsActive() {
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+            evaluationCache.evaluate("FLOW", CASE_REFERENCE, caseData("000DC001"), evaluation);
+
+            assertThat(evaluations).hasValue(2);
+            assertThat(count("hit")).isZero();
+            assertThat(count("miss")).isZero();
+        }
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(StateFlowEvaluationCache.METER_NAME, "result", result).count();
+    }
+
+    private static void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static CaseData caseData(String legacyCaseReference) {
+        return CaseData.builder().ccdCaseReference(CASE_REFERENCE).legacyCaseReference(legacyCaseReference).build();
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.civil.service.hearings;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HearingValuesLookupExecutorTest {
+
+    private final HearingValuesLookupExecutor lookupExecutor = new HearingValuesLookupExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.shutdown();
+    }
+
+    @Test
+    void shouldStartTimeoutWhenLookupRuns_whenLookupWaitsForFreeThread() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> busy = lookupExecutor.submit(() -> {
+            awaitQuietly(release);
+            return "busy";
+        }, Duration.ofSeconds(5));
+        final CompletableFuture<String> queued = lookupExecutor.submit(() -> "queued", Duration.ofMillis(100));
+
+        Thread.sleep(300);
+        release.countDown();
+
+        assertThat(busy.join()).isEqualTo("busy");
+        assertThat(queued.join()).isEqualTo("queued");
+    }
+
+    @Test
+    void shouldFailLookup_whenLookupRunsLongerThanTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slow = lookupExecutor.submit(() -> {
+            awaitQuietly(release);
+            return "slow";
+        }, Duration.ofMillis(100));
+
+        assertThatThrownBy(slow::join).isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+    }
+
+    @Test
+    void shouldFailLookup_whenLookupThrows() {
+        CompletableFuture<String> failing = lookupExecutor.submit(() -> {
+            throw new IllegalStateException("lookup failed");
+        }, Duration.ofSeconds(1));
+
+        assertThatThrownBy(failing::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectPool_whenNoThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new HearingValuesLookupExecutor(0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
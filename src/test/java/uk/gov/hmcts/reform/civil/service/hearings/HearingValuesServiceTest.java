@@ -3,18 +3,22 @@ package uk.gov.hmcts.reform.civil.service.hearings;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.SneakyThrows;
 import org.camunda.bpm.client.exception.NotFoundException;
 import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.config.HearingValuesConfiguration;
 import uk.gov.hmcts.reform.civil.config.ManageCaseBaseUrlConfiguration;
 import uk.gov.hmcts.reform.civil.config.PaymentsConfiguration;
 import uk.gov.hmcts.reform.civil.enums.dq.Language;
@@ -40,7 +44,9 @@ import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 import uk.gov.hmcts.reform.civil.service.OrganisationService;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.util.Lists.emptyList;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -84,7 +90,9 @@ public class HearingValuesServiceTest {
     @Autowired
     private ObjectMapper objectMapper;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HearingValuesLookupExecutor lookupExecutor = new HearingValuesLookupExecutor(3);
+
     private HearingValuesService hearingValuesService;
 
     private static final String APPLICANT_ORG_ID = "QWERTY A";
@@ -94,6 +102,20 @@ public class HearingValuesServiceTest {
     private static final String BASE_LOCATION_ID = "1234";
     private static final String WELSH_REGION_ID = "7";
 
+    @BeforeEach
+    void setUp() {
+        hearingValuesService = new HearingValuesService(
+            paymentsConfiguration, manageCaseBaseUrlConfiguration, caseCategoriesService, caseDataService,
+            caseDetailsConverter, organisationService, deadlinesCalculator,
+            new HearingValuesConfiguration(1000, 1000), meterRegistry, lookupExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        lookupExecutor.shutdown();
+    }
+
     @Test
     void shouldReturnExpectedHearingValuesWhenCaseDataIsReturned() {
         Applicant1DQ applicant1DQ = Applicant1DQ.builder().applicant1DQLanguage(
@@ -116,14 +138,11 @@ public class HearingValuesServiceTest {
         when(caseDataService.getCase(caseId)).thenReturn(caseDetails);
         when(caseDetailsConverter.toCaseData(caseDetails.getData())).thenReturn(caseData);
         when(deadlinesCalculator.getSlaStartDate(caseData)).thenReturn(LocalDate.of(2023, 1, 30));
-        when(organisationService.findOrganisationById(APPLICANT_ORG_ID))
-            .thenReturn(Optional.of(Organisation.builder()
-                                        .name(APPLICANT_LR_ORG_NAME)
-                                        .build()));
-        when(organisationService.findOrganisationById(RESPONDENT_ONE_ORG_ID))
-            .thenReturn(Optional.of(Organisation.builder()
-                                        .name(RESPONDENT_ONE_LR_ORG_NAME)
-                                        .build()));
+        when(organisationService.findOrganisationsById(List.of(APPLICANT_ORG_ID, RESPONDENT_ONE_ORG_ID)))
+            .thenReturn(Map.of(
+                APPLICANT_ORG_ID, Organisation.builder().name(APPLICANT_LR_ORG_NAME).build(),
+                RESPONDENT_ONE_ORG_ID, Organisation.builder().name(RESPONDENT_ONE_LR_ORG_NAME).build()
+            ));
         given(manageCaseBaseUrlConfiguration.getManageCaseBaseUrl()).willReturn("http://localhost:3333");
         given(paymentsConfiguration.getSiteId()).willReturn("AAA7");
 
@@ -178,6 +197,63 @@ public class HearingValuesServiceTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void shouldBuildValuesWithoutFailedLookups_whenLookupsFailOrTimeOut() throws InterruptedException {
+        CaseData caseData = CaseDataBuilder.builder()
+            .atStateClaimIssued()
+            .caseAccessCategory(UNSPEC_CLAIM)
+            .caseManagementLocation(CaseLocationCivil.builder().baseLocation(BASE_LOCATION_ID)
+                                        .region(WELSH_REGION_ID).build())
+            .applicant1DQ(Applicant1DQ.builder().applicant1DQLanguage(
+                WelshLanguageRequirements.builder().court(Language.ENGLISH).build()).build())
+            .respondent1DQ(Respondent1DQ.builder().respondent1DQLanguage(
+                WelshLanguageRequirements.builder().court(Language.ENGLISH).build()).build())
+            .build();
+        Long caseId = 1L;
+        CaseDetails caseDetails = CaseDetails.builder()
+            .data(caseData.toMap(objectMapper))
+            .id(caseId).build();
+        CaseCategoryModel caseType = CaseCategoryModel.builder()
+            .categoryType(CategoryType.CASE_TYPE)
+            .categoryValue("AAA7-SMALL_CLAIM")
+            .build();
+        CountDownLatch releaseOrganisations = new CountDownLatch(1);
+
+        when(caseDataService.getCase(caseId)).thenReturn(caseDetails);
+        when(caseDetailsConverter.toCaseData(caseDetails.getData())).thenReturn(caseData);
+        when(deadlinesCalculator.getSlaStartDate(caseData)).thenReturn(LocalDate.of(2023, 1, 30));
+        when(caseCategoriesService.getCaseCategoriesFor(eq(CategoryType.CASE_TYPE), any(), any()))
+            .thenReturn(caseType);
+        when(caseCategoriesService.getCaseCategoriesFor(eq(CategoryType.CASE_SUBTYPE), any(), any()))
+            .thenThrow(new IllegalStateException("Category search failed"));
+        when(organisationService.findOrganisationsById(any())).thenAnswer(invocation -> {
+            releaseOrganisations.await(5, TimeUnit.SECONDS);
+            return Map.of(APPLICANT_ORG_ID, Organisation.builder().name(APPLICANT_LR_ORG_NAME).build());
+        });
+        given(manageCaseBaseUrlConfiguration.getManageCaseBaseUrl()).willReturn("http://localhost:3333");
+        given(paymentsConfiguration.getSiteId()).willReturn("AAA7");
+        HearingValuesService service = new HearingValuesService(
+            paymentsConfiguration, manageCaseBaseUrlConfiguration, caseCategoriesService, caseDataService,
+            caseDetailsConverter, organisationService, deadlinesCalculator,
+            new HearingValuesConfiguration(1000, 100), meterRegistry, lookupExecutor
+        );
+
+        ServiceHearingValuesModel actual = service.getValues(caseId, "8AB87C89", "auth");
+        releaseOrganisations.countDown();
+
+        assertThat(actual.getCaseCategories()).containsExactly(caseType);
+        assertThat(actual.getParties())
+            .filteredOn(party -> "LGRP".equals(party.getPartyRole()))
+            .extracting(PartyDetailsModel::getPartyName)
+            .containsExactly("", "");
+        assertThat(meterRegistry.get(HearingValuesService.LOOKUP_FAILURES).tag("stage", "caseSubType")
+                       .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(HearingValuesService.LOOKUP_FAILURES).tag("stage", "organisations")
+                       .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(HearingValuesService.STAGE_TIMER).tag("stage", "case")
+                       .timer().count()).isEqualTo(1);
+    }
+
     @NotNull
     private List<CaseCategoryModel> getExpectedCaseCategories() {
         CaseCategoryModel caseType = CaseCategoryModel.builder()
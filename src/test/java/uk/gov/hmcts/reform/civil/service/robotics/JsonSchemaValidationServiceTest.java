@@ -6,6 +6,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import uk.gov.hmcts.reform.civil.service.robotics.exception.JsonSchemaValidationException;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -78,6 +80,41 @@ class JsonSchemaValidationServiceTest {
             assertThat(errors).isEmpty();
         }
 
+        @Test
+        void shouldReturnValidationErrors_whenSerialisedPayloadIsNotValid() {
+            byte[] payload = "{\"name\": \"Joe\",\"age\": -1}".getBytes(StandardCharsets.UTF_8);
+            var errors = validationService.validate(payload);
+
+            assertThat(errors)
+                .singleElement()
+                .extracting("message")
+                .isEqualTo("$.age: must have a minimum value of 0");
+        }
+
+        @Test
+        void shouldReturnNoErrors_whenSerialisedPayloadIsValid() {
+            byte[] payload = "{\"name\": \"Joé\",\"age\": 10}".getBytes(StandardCharsets.UTF_8);
+
+            assertThat(validationService.validate(payload)).isEmpty();
+        }
+
+        @Test
+        void shouldThrowJsonSchemaValidationException_whenSerialisedPayloadIsNotJson() {
+            byte[] payload = "not a json".getBytes(StandardCharsets.UTF_8);
+
+            assertThrows(JsonSchemaValidationException.class, () -> validationService.validate(payload));
+        }
+
+        @Test
+        void shouldValidateAgainstSameSchema_whenValidatingRepeatedly() {
+            String payload = "{\"name\": \"Joe\",\"age\": -1}";
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(validationService.validate(payload)).hasSize(1);
+                assertThat(validationService.validate(payload, "sample-json-schema.json")).hasSize(1);
+            }
+        }
+
         @Test
         void shouldThrowJsonSchemaValidationException_whenJsonSchemaFileDoesNotExist() {
             Exception exception = assertThrows(
@@ -21,6 +21,7 @@ import uk.gov.hmcts.reform.civil.model.CaseData;
 import uk.gov.hmcts.reform.civil.model.dq.Respondent1DQ;
 import uk.gov.hmcts.reform.civil.model.robotics.Event;
 import uk.gov.hmcts.reform.civil.model.robotics.EventHistory;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
 import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseDataSpec;
 import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
 import uk.gov.hmcts.reform.civil.sampledata.PartyBuilder;
@@ -31,6 +32,7 @@ import uk.gov.hmcts.reform.civil.service.Time;
 import uk.gov.hmcts.reform.civil.service.UserService;
 import uk.gov.hmcts.reform.civil.service.flowstate.FlowState;
 import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
+import uk.gov.hmcts.reform.civil.service.robotics.dto.RoboticsCaseDataDTO;
 import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataService;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
 import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
@@ -154,6 +156,31 @@ class RoboticsNotificationServiceTest {
             .containsExactlyInAnyOrder(tuple(fileName, "application/json"));
     }
 
+    @Test
+    @SneakyThrows
+    void shouldAttachPayloadAsItIs_whenPayloadAlreadyBuilt() {
+        // Given
+        CaseData caseData = CaseDataBuilder.builder().atStateClaimDetailsNotified().build();
+        RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData, BEARER_TOKEN);
+        byte[] payload = roboticsCaseData.toJsonBytes();
+
+        // When
+        service.notifyRobotics(caseData, false, RoboticsCaseDataDTO.builder()
+            .jsonRawData(payload)
+            .events(roboticsCaseData.getEvents())
+            .build());
+
+        verify(sendGridClient).sendEmail(eq(emailConfiguration.getSender()), emailDataArgumentCaptor.capture());
+
+        // Then
+        EmailData capturedEmailData = emailDataArgumentCaptor.getValue();
+        assertThat(capturedEmailData.getSubject())
+            .isEqualTo(format("Robotics case data for %s", caseData.getLegacyCaseReference()));
+        assertThat(capturedEmailData.getAttachments()).hasSize(1);
+        assertThat(capturedEmailData.getAttachments().get(0).getData().getInputStream().readAllBytes())
+            .isEqualTo(payload);
+    }
+
     @Test
     @SneakyThrows
     void shouldSendNotificationEmailLRSpec_whenCaseDataIsProvided() {
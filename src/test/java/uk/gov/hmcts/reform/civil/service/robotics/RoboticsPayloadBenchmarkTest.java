@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.civil.service.robotics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.networknt.schema.ValidationMessage;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.civil.config.PrdAdminUserConfiguration;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.model.robotics.RoboticsCaseData;
+import uk.gov.hmcts.reform.civil.prd.client.OrganisationApi;
+import uk.gov.hmcts.reform.civil.referencedata.LocationRefDataService;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+import uk.gov.hmcts.reform.civil.service.FeatureToggleService;
+import uk.gov.hmcts.reform.civil.service.OrganisationService;
+import uk.gov.hmcts.reform.civil.service.Time;
+import uk.gov.hmcts.reform.civil.service.UserService;
+import uk.gov.hmcts.reform.civil.service.flowstate.StateFlowEngine;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.AddressLinesMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistoryMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.EventHistorySequencer;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsAddressMapper;
+import uk.gov.hmcts.reform.civil.service.robotics.mapper.RoboticsDataMapper;
+import uk.gov.hmcts.reform.civil.utils.LocationRefDataUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.civil.enums.YesOrNo.YES;
+
+/**
+ * Compares building the robotics payload as before, mapped and serialised once to validate it and again to send
+ * it with the schema compiled for every validation, with building it once and validating it against the schema
+ * compiled up front. Both must produce the same bytes and validation result for 1v1, 1v2 and 2v1 claims; the
+ * timings are logged rather than asserted as the gain depends on how far the JIT has warmed up.
+ * Tagged perf, so it runs with perfTest rather than test.
+ */
+@Slf4j
+@Tag("perf")
+@SpringBootTest(classes = {
+    JacksonAutoConfiguration.class,
+    CaseDetailsConverter.class,
+    StateFlowEngine.class,
+    EventHistorySequencer.class,
+    EventHistoryMapper.class,
+    RoboticsDataMapper.class,
+    RoboticsAddressMapper.class,
+    AddressLinesMapper.class,
+    OrganisationService.class
+})
+@ExtendWith(SpringExtension.class)
+class RoboticsPayloadBenchmarkTest {
+
+    private static final int ROUNDS = 50;
+    private static final String BEARER_TOKEN = "Bearer Token";
+    private static final String RPA_SCHEMA = "schema/rpa-json-schema.json";
+
+    @MockBean
+    OrganisationApi organisationApi;
+    @MockBean
+    AuthTokenGenerator authTokenGenerator;
+    @MockBean
+    UserService userService;
+    @MockBean
+    FeatureToggleService featureToggleService;
+    @MockBean
+    PrdAdminUserConfiguration userConfig;
+    @MockBean
+    private Time time;
+    @MockBean
+    LocationRefDataService locationRefDataService;
+    @MockBean
+    LocationRefDataUtil locationRefDataUtil;
+
+    @Autowired
+    RoboticsDataMapper roboticsDataMapper;
+
+    private final JsonSchemaValidationService validationService = new JsonSchemaValidationService();
+    private Map<String, CaseData> cases;
+
+    @BeforeEach
+    void setUp() {
+        when(time.now()).thenReturn(LocalDateTime.of(2020, 8, 1, 12, 0, 0));
+        cases = Map.of(
+            "1v1", CaseDataBuilder.builder().atStateClaimDetailsNotified().build(),
+            "1v2", CaseDataBuilder.builder()
+                .multiPartyClaimTwoDefendantSolicitors()
+                .atStateClaimDetailsNotified()
+                .build().toBuilder()
+                .respondent2Represented(YES)
+                .build(),
+            "2v1", CaseDataBuilder.builder()
+                .atStateNotificationAcknowledged()
+                .multiPartyClaimTwoApplicants()
+                .build()
+        );
+    }
+
+    @Test
+    void shouldBuildSamePayloadOnce_whenNotifyingRobotics() {
+        cases.forEach((scenario, caseData) -> {
+            Payload before = buildTwiceWithSchemaCompiledEachTime(caseData);
+            Payload after = buildOnceWithCompiledSchema(caseData);
+
+            assertThat(after.json).as(scenario).isEqualTo(before.json);
+            assertThat(after.errors).as(scenario).isEqualTo(before.errors);
+
+            long beforeNanos = time(() -> buildTwiceWithSchemaCompiledEachTime(caseData));
+            long afterNanos = time(() -> buildOnceWithCompiledSchema(caseData));
+
+            log.info(
+                "Built {} robotics payload {} times in {} ms as before and in {} ms once per notification",
+                scenario, ROUNDS, beforeNanos / 1_000_000, afterNanos / 1_000_000
+            );
+        });
+    }
+
+    @SneakyThrows
+    private Payload buildTwiceWithSchemaCompiledEachTime(CaseData caseData) {
+        String validated = new ObjectMapper().registerModule(new JavaTimeModule())
+            .writeValueAsString(roboticsDataMapper.toRoboticsCaseData(caseData, BEARER_TOKEN));
+        Set<ValidationMessage> errors = new JsonSchemaValidationService(RPA_SCHEMA).validate(validated);
+        String sent = new ObjectMapper().registerModule(new JavaTimeModule())
+            .writeValueAsString(roboticsDataMapper.toRoboticsCaseData(caseData, BEARER_TOKEN));
+        return new Payload(sent.getBytes(StandardCharsets.UTF_8), errors);
+    }
+
+    @SneakyThrows
+    private Payload buildOnceWithCompiledSchema(CaseData caseData) {
+        RoboticsCaseData roboticsCaseData = roboticsDataMapper.toRoboticsCaseData(caseData, BEARER_TOKEN);
+        byte[] json = roboticsCaseData.toJsonBytes();
+        return new Payload(json, validationService.validate(json));
+    }
+
+    private static long time(Runnable build) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            build.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static class Payload {
+
+        private final byte[] json;
+        private final Set<ValidationMessage> errors;
+
+        private Payload(byte[] json, Set<ValidationMessage> errors) {
+            this.json = json;
+            this.errors = errors;
+        }
+    }
+}
@@ -15,11 +15,11 @@ class BundleCreationTriggerServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new BundleCreationTriggerService(coreCaseDataService);
+        searchService = new BundleCreationTriggerService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
@@ -28,6 +28,6 @@ class BundleCreationTriggerServiceTest extends ElasticSearchServiceTest {
             .should(boolQuery()
                         .must(rangeQuery("data.hearingDate").lte(LocalDate.now().plusWeeks(3)))
                         .must(boolQuery().must(matchQuery("state", "PREPARE_FOR_HEARING_CONDUCT_HEARING"))));
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
@@ -14,11 +14,11 @@ class CaseDismissedSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new CaseDismissedSearchService(coreCaseDataService);
+        searchService = new CaseDismissedSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
@@ -31,6 +31,6 @@ class CaseDismissedSearchServiceTest extends ElasticSearchServiceTest {
                         .must(rangeQuery("data.claimDismissedDeadline").lt("now"))
                         .must(boolQuery().must(matchQuery("state", "AWAITING_RESPONDENT_ACKNOWLEDGEMENT"))));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
@@ -13,14 +13,19 @@ class CaseReadyBusinessProcessSearchServiceTest extends ElasticSearchServiceTest
 
     @BeforeEach
     void setup() {
-        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService);
+        searchService = new CaseReadyBusinessProcessSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .must(matchQuery("data.businessProcess.status", "READY"));
 
-        return new Query(query, List.of(), fromValue);
+        return new Query(query, List.of(), 0);
+    }
+
+    @Override
+    protected int pageSize() {
+        return 100;
     }
 }
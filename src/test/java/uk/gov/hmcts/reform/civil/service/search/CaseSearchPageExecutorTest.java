@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CaseSearchPageExecutorTest {
+
+    private final CaseSearchPageExecutor pageExecutor = new CaseSearchPageExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        pageExecutor.shutdown();
+    }
+
+    @Test
+    void shouldFetchPageOnPageFetchThread_whenPageRequested() {
+        assertThat(pageExecutor.fetch(() -> Thread.currentThread().getName()).join())
+            .startsWith("case-search-page-");
+    }
+
+    @Test
+    void shouldRejectPool_whenNoThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new CaseSearchPageExecutor(0));
+    }
+}
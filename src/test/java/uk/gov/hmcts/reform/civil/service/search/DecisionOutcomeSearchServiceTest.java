@@ -14,17 +14,17 @@ class DecisionOutcomeSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new DecisionOutcomeSearchService(coreCaseDataService);
+        searchService = new DecisionOutcomeSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
                 .must(rangeQuery("data.hearingDate").lte("now"))
                 .must(boolQuery().must(matchQuery("state", "PREPARE_FOR_HEARING_CONDUCT_HEARING"))));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.civil.service.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.ccd.client.CoreCaseDataApi;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
+import uk.gov.hmcts.reform.civil.config.SystemUpdateUserConfiguration;
+import uk.gov.hmcts.reform.civil.helpers.CaseDetailsConverter;
+import uk.gov.hmcts.reform.civil.model.search.Query;
+import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
+import uk.gov.hmcts.reform.civil.service.SystemUpdateUserTokenManager;
+import uk.gov.hmcts.reform.civil.service.UserService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Pages through 10,000 cases from a CoreCaseDataApi stub. Every case must be returned once, in reference order,
+ * with no more than one search running at a time. The timing of the Elasticsearch default page size against a
+ * larger one, with a fixed latency per search, is tagged perf, so it runs with perfTest rather than test, and
+ * is only logged.
+ */
+@Slf4j
+class ElasticSearchServiceBenchmarkTest {
+
+    private static final int TOTAL_CASES = 10_000;
+    private static final long SEARCH_LATENCY_MILLIS = 2;
+    private static final Pattern SEARCH_AFTER = Pattern.compile("\"search_after\": \\[(\\d+)]");
+    private static final Pattern SIZE = Pattern.compile("\"size\": (\\d+)");
+
+    private final CoreCaseDataApi coreCaseDataApi = mock(CoreCaseDataApi.class);
+    private final AuthTokenGenerator authTokenGenerator = mock(AuthTokenGenerator.class);
+    private final UserService userService = mock(UserService.class);
+    private final CaseSearchPageExecutor pageExecutor = new CaseSearchPageExecutor(2);
+    private final AtomicInteger searchesInFlight = new AtomicInteger();
+    private final AtomicInteger maxSearchesInFlight = new AtomicInteger();
+    private long searchLatencyMillis;
+    private CoreCaseDataService coreCaseDataService;
+
+    @BeforeEach
+    void setUp() {
+        given(authTokenGenerator.generate()).willReturn("service-token");
+        given(userService.getAccessToken(any(), any())).willReturn("user-token");
+        given(coreCaseDataApi.searchCases(anyString(), anyString(), anyString(), anyString()))
+            .willAnswer(invocation -> search(invocation.getArgument(3)));
+
+        coreCaseDataService = new CoreCaseDataService(
+            coreCaseDataApi,
+            authTokenGenerator,
+            mock(CaseDetailsConverter.class),
+            new SystemUpdateUserTokenManager(
+                userService,
+                new SystemUpdateUserConfiguration("system-update", "password"),
+                new SimpleMeterRegistry()
+            )
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        pageExecutor.shutdown();
+    }
+
+    @Test
+    void shouldReturnEveryCaseOnceWithOneSearchAtATime_whenPagingThroughTenThousandCases() {
+        assertThat(new BenchmarkSearchService(coreCaseDataService, pageExecutor, 100).getCases())
+            .extracting(CaseDetails::getId)
+            .containsExactlyElementsOf(LongStream.range(0, TOTAL_CASES).boxed().collect(Collectors.toList()));
+        assertThat(maxSearchesInFlight).hasValue(1);
+    }
+
+    @Test
+    @Tag("perf")
+    void shouldLogTimings_whenPagingThroughTenThousandCasesWithSearchLatency() {
+        searchLatencyMillis = SEARCH_LATENCY_MILLIS;
+
+        long defaultPageMillis = timeGetCases(new BenchmarkSearchService(coreCaseDataService, pageExecutor, 10));
+        long largerPageMillis = timeGetCases(new BenchmarkSearchService(coreCaseDataService, pageExecutor, 100));
+
+        log.info(
+            "Fetched {} cases in {} ms paging by 10 and in {} ms paging by 100",
+            TOTAL_CASES, defaultPageMillis, largerPageMillis
+        );
+    }
+
+    private static long timeGetCases(ElasticSearchService searchService) {
+        long start = System.nanoTime();
+        List<CaseDetails> cases = searchService.getCases();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(cases).hasSize(TOTAL_CASES);
+        return elapsedMillis;
+    }
+
+    private SearchResult search(String query) throws InterruptedException {
+        maxSearchesInFlight.accumulateAndGet(searchesInFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(searchLatencyMillis);
+            int from = extract(SEARCH_AFTER, query, -1) + 1;
+            int size = extract(SIZE, query, 10);
+            return SearchResult.builder()
+                .total(TOTAL_CASES)
+                .cases(LongStream.range(from, Math.min(from + size, TOTAL_CASES))
+                           .mapToObj(id -> CaseDetails.builder().id(id).build())
+                           .collect(Collectors.toList()))
+                .build();
+        } finally {
+            searchesInFlight.decrementAndGet();
+        }
+    }
+
+    private static int extract(Pattern pattern, String query, int defaultValue) {
+        Matcher matcher = pattern.matcher(query);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : defaultValue;
+    }
+
+    private static class BenchmarkSearchService extends ElasticSearchService {
+
+        BenchmarkSearchService(CoreCaseDataService coreCaseDataService,
+                               CaseSearchPageExecutor pageExecutor,
+                               int pageSize) {
+            super(coreCaseDataService, pageExecutor, pageSize);
+        }
+
+        @Override
+        Query query() {
+            return new Query(matchAllQuery(), List.of("reference"), 0);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.civil.service.search;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -11,11 +12,21 @@ import uk.gov.hmcts.reform.ccd.client.model.SearchResult;
 import uk.gov.hmcts.reform.civil.model.search.Query;
 import uk.gov.hmcts.reform.civil.service.CoreCaseDataService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,14 +34,23 @@ import static org.mockito.Mockito.when;
 @ExtendWith(SpringExtension.class)
 abstract class ElasticSearchServiceTest {
 
+    private static final Pattern SEARCH_AFTER = Pattern.compile("\"search_after\": \\[(\\d+)]");
+
     @Captor
     private ArgumentCaptor<Query> queryCaptor;
 
     @Mock
     protected CoreCaseDataService coreCaseDataService;
 
+    protected final CaseSearchPageExecutor pageExecutor = new CaseSearchPageExecutor(2);
+
     protected ElasticSearchService searchService;
 
+    @AfterEach
+    void shutdownPageExecutor() {
+        pageExecutor.shutdown();
+    }
+
     @Test
     void shouldCallGetCasesOnce_WhenCasesReturnEqualsTotalCases() {
         SearchResult searchResult = buildSearchResultWithTotalCases(1);
@@ -39,7 +59,7 @@ abstract class ElasticSearchServiceTest {
 
         assertThat(searchService.getCases()).isEqualTo(searchResult.getCases());
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(expectedQuery().afterReference(null));
     }
 
     @Test
@@ -50,32 +70,88 @@ abstract class ElasticSearchServiceTest {
 
         assertThat(searchService.getCases()).isEmpty();
         verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(expectedQuery().afterReference(null));
     }
 
     @Test
-    void shouldCallGetCasesOnce_WhenCasesRetrievedEqualsEsSearchLimit() {
-        SearchResult searchResult = buildSearchResultWithTotalCases(10);
+    void shouldSearchAfterLastReference_WhenCasesRetrievedEqualsEsSearchLimit() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(pageSize(), cases(1, pageSize())))
+            .thenReturn(buildSearchResult(pageSize(), emptyList()));
 
-        when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
+        assertThat(searchService.getCases()).hasSize(pageSize());
+        verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
 
-        assertThat(searchService.getCases()).hasSize(1);
-        verify(coreCaseDataService).searchCases(queryCaptor.capture());
-        assertThat(queryCaptor.getValue()).usingRecursiveComparison().isEqualTo(buildQuery(0));
+        List<Query> capturedQueries = queryCaptor.getAllValues();
+        assertThat(capturedQueries.get(0)).usingRecursiveComparison().isEqualTo(expectedQuery().afterReference(null));
+        assertThat(capturedQueries.get(1)).usingRecursiveComparison()
+            .isEqualTo(expectedQuery().afterReference((long) pageSize()));
     }
 
     @Test
     void shouldCallGetCasesMultipleTimes_WhenCasesReturnedIsMoreThanEsSearchLimit() {
-        SearchResult searchResult = buildSearchResultWithTotalCases(11);
-
-        when(coreCaseDataService.searchCases(any())).thenReturn(searchResult);
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(pageSize() + 1, cases(1, pageSize())))
+            .thenReturn(buildSearchResult(pageSize() + 1, cases(pageSize() + 1, 1)));
 
-        assertThat(searchService.getCases()).hasSize(2);
+        assertThat(searchService.getCases()).hasSize(pageSize() + 1);
         verify(coreCaseDataService, times(2)).searchCases(queryCaptor.capture());
 
         List<Query> capturedQueries = queryCaptor.getAllValues();
-        assertThat(capturedQueries.get(0)).usingRecursiveComparison().isEqualTo(buildQuery(0));
-        assertThat(capturedQueries.get(1)).usingRecursiveComparison().isEqualTo(buildQuery(10));
+        assertThat(capturedQueries.get(0)).usingRecursiveComparison().isEqualTo(expectedQuery().afterReference(null));
+        assertThat(capturedQueries.get(1)).usingRecursiveComparison()
+            .isEqualTo(expectedQuery().afterReference((long) pageSize()));
+    }
+
+    @Test
+    void shouldReturnEveryCaseOnce_WhenCasesStopMatchingWhileTheyAreProcessed() {
+        int total = 5 * pageSize() + 3;
+        Set<Long> matching = new ConcurrentSkipListSet<>();
+        LongStream.rangeClosed(1, total).forEach(matching::add);
+        when(coreCaseDataService.searchCases(any())).thenAnswer(invocation -> {
+            Matcher searchAfter = SEARCH_AFTER.matcher(invocation.getArgument(0).toString());
+            long after = searchAfter.find() ? Long.parseLong(searchAfter.group(1)) : 0L;
+            List<CaseDetails> page = matching.stream()
+                .filter(reference -> reference > after)
+                .limit(pageSize())
+                .map(reference -> CaseDetails.builder().id(reference).build())
+                .collect(Collectors.toList());
+            return buildSearchResult(matching.size(), page);
+        });
+
+        List<Long> processed = new ArrayList<>();
+        try (Stream<CaseDetails> cases = searchService.streamCases()) {
+            cases.forEach(caseDetails -> {
+                processed.add(caseDetails.getId());
+                matching.remove(caseDetails.getId());
+            });
+        }
+
+        assertThat(processed).containsExactlyElementsOf(
+            LongStream.rangeClosed(1, total).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldOnlyFetchNextPage_WhenStreamIsClosedEarly() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(100 * pageSize(), cases(1, pageSize())));
+
+        try (Stream<CaseDetails> cases = searchService.streamCases()) {
+            assertThat(cases.findFirst()).isPresent();
+        }
+
+        verify(coreCaseDataService, atMost(2)).searchCases(any());
+    }
+
+    @Test
+    void shouldRethrowException_WhenPageCannotBeFetched() {
+        when(coreCaseDataService.searchCases(any()))
+            .thenReturn(buildSearchResult(3 * pageSize(), cases(1, pageSize())))
+            .thenThrow(new IllegalStateException("search failed"));
+
+        assertThatThrownBy(() -> searchService.getCases())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("search failed");
     }
 
     private SearchResult buildSearchResultWithTotalCases(int i) {
@@ -89,5 +165,19 @@ abstract class ElasticSearchServiceTest {
             .build();
     }
 
-    protected abstract Query buildQuery(int fromValue);
+    private static List<CaseDetails> cases(long firstReference, int count) {
+        return LongStream.range(firstReference, firstReference + count)
+            .mapToObj(reference -> CaseDetails.builder().id(reference).build())
+            .collect(Collectors.toList());
+    }
+
+    private Query expectedQuery() {
+        return buildQuery().withSize(pageSize());
+    }
+
+    protected abstract Query buildQuery();
+
+    protected int pageSize() {
+        return 10;
+    }
 }
@@ -14,11 +14,11 @@ class EvidenceUploadNotificationSearchServiceTest extends ElasticSearchServiceTe
 
     @BeforeEach
     void setup() {
-        searchService = new EvidenceUploadNotificationSearchService(coreCaseDataService);
+        searchService = new EvidenceUploadNotificationSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .must(boolQuery()
                       .minimumShouldMatch(1)
@@ -32,6 +32,6 @@ class EvidenceUploadNotificationSearchServiceTest extends ElasticSearchServiceTe
                       .should(rangeQuery("data.caseDocumentUploadDateRes").lt("now").gt(
                           "now-1d"))
                       );
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
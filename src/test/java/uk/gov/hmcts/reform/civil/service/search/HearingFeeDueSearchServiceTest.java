@@ -16,11 +16,11 @@ class HearingFeeDueSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new HearingFeeDueSearchService(coreCaseDataService);
+        searchService = new HearingFeeDueSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
@@ -28,6 +28,11 @@ class HearingFeeDueSearchServiceTest extends ElasticSearchServiceTest {
                                                                        .atTime(LocalTime.MIN)
                                                                        .toString()))
                         .must(boolQuery().must(matchQuery("state", "HEARING_READINESS"))));
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
+    }
+
+    @Override
+    protected int pageSize() {
+        return 500;
     }
 }
@@ -14,17 +14,17 @@ class TakeCaseOfflineSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new TakeCaseOfflineSearchService(coreCaseDataService);
+        searchService = new TakeCaseOfflineSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
                 .must(rangeQuery("data.applicant1ResponseDeadline").lt("now"))
                 .must(boolQuery().must(matchQuery("state", "AWAITING_APPLICANT_INTENTION"))));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
@@ -16,11 +16,11 @@ class TrialReadyCheckSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new TrialReadyCheckSearchService(coreCaseDataService);
+        searchService = new TrialReadyCheckSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
@@ -30,6 +30,6 @@ class TrialReadyCheckSearchServiceTest extends ElasticSearchServiceTest {
                 .mustNot(matchQuery("data.allocatedTrack", "SMALL_CLAIM"))
                 .mustNot(matchQuery("data.trialReadyChecked", "Yes")));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
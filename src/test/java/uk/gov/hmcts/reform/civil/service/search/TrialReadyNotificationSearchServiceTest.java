@@ -18,11 +18,11 @@ class TrialReadyNotificationSearchServiceTest extends ElasticSearchServiceTest {
 
     @BeforeEach
     void setup() {
-        searchService = new TrialReadyNotificationSearchService(coreCaseDataService);
+        searchService = new TrialReadyNotificationSearchService(coreCaseDataService, pageExecutor);
     }
 
     @Override
-    protected Query buildQuery(int fromValue) {
+    protected Query buildQuery() {
         BoolQueryBuilder query = boolQuery()
             .minimumShouldMatch(1)
             .should(boolQuery()
@@ -33,6 +33,6 @@ class TrialReadyNotificationSearchServiceTest extends ElasticSearchServiceTest {
                 .mustNot(matchQuery("data.listingOrRelisting", ListingOrRelisting.RELISTING))
                 .mustNot(matchQuery("data.trialReadyNotified", YesOrNo.YES));
 
-        return new Query(query, List.of("reference"), fromValue);
+        return new Query(query, List.of("reference"), 0);
     }
 }
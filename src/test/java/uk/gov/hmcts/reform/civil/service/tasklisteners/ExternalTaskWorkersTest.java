@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.civil.service.tasklisteners;
+
+import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.reform.civil.config.ExternalTaskWorkerConfiguration;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class ExternalTaskWorkersTest {
+
+    private static final String BUSY_TOPIC = "START_BUSINESS_PROCESS";
+    private static final String TOPIC = "END_BUSINESS_PROCESS";
+
+    @Mock
+    private ExternalTaskClient client;
+    @Mock
+    private ExternalTaskClient workerClient;
+    @Mock
+    private TopicSubscriptionBuilder subscriptionBuilder;
+    @Mock
+    private ExternalTaskService externalTaskService;
+
+    private ExternalTaskWorkers externalTaskWorkers;
+    private Integer workerClientMaxTasks;
+
+    @BeforeEach
+    void setUp() {
+        ExternalTaskWorkerConfiguration.Worker worker = new ExternalTaskWorkerConfiguration.Worker();
+        worker.setMaxTasks(2);
+        worker.setLockDuration(120000);
+        externalTaskWorkers = new ExternalTaskWorkers(client, maxTasks -> {
+            workerClientMaxTasks = maxTasks;
+            return workerClient;
+        }, Map.of(BUSY_TOPIC, worker));
+
+        when(client.subscribe(any())).thenReturn(subscriptionBuilder);
+        when(workerClient.subscribe(any())).thenReturn(subscriptionBuilder);
+        when(subscriptionBuilder.lockDuration(anyLong())).thenReturn(subscriptionBuilder);
+        when(subscriptionBuilder.handler(any())).thenReturn(subscriptionBuilder);
+    }
+
+    @Test
+    void shouldSubscribeHandlerOnSharedClient_whenTopicHasNoWorkers() {
+        ExternalTaskHandler handler = mock(ExternalTaskHandler.class);
+
+        externalTaskWorkers.subscribe(TOPIC, handler);
+
+        verify(client).subscribe(TOPIC);
+        verify(subscriptionBuilder).handler(handler);
+        verifyNoInteractions(workerClient);
+    }
+
+    @Test
+    void shouldHandleTasksConcurrently_whenTopicHasWorkers() throws Exception {
+        CountDownLatch bothHandling = new CountDownLatch(2);
+        CountDownLatch bothHandled = new CountDownLatch(2);
+        ExternalTaskHandler handler = (externalTask, externalTaskService) -> {
+            bothHandling.countDown();
+            try {
+                if (bothHandling.await(5, TimeUnit.SECONDS)) {
+                    bothHandled.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        externalTaskWorkers.subscribe(BUSY_TOPIC, handler);
+
+        ArgumentCaptor<ExternalTaskHandler> workerHandler = ArgumentCaptor.forClass(ExternalTaskHandler.class);
+        verify(workerClient).subscribe(BUSY_TOPIC);
+        verify(subscriptionBuilder).lockDuration(120000);
+        verify(subscriptionBuilder).handler(workerHandler.capture());
+        assertThat(workerClientMaxTasks).isEqualTo(2);
+
+        workerHandler.getValue().execute(mock(ExternalTask.class), externalTaskService);
+        workerHandler.getValue().execute(mock(ExternalTask.class), externalTaskService);
+
+        assertThat(bothHandled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldStopWorkerClients_whenDestroyed() {
+        externalTaskWorkers.subscribe(BUSY_TOPIC, mock(ExternalTaskHandler.class));
+
+        externalTaskWorkers.destroy();
+
+        verify(workerClient).stop();
+        verifyNoInteractions(client);
+    }
+}
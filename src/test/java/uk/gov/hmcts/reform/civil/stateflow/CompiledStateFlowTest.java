@@ -0,0 +1,175 @@
+package uk.gov.hmcts.reform.civil.stateflow;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.service.flowstate.FlowFlag;
+import uk.gov.hmcts.reform.civil.stateflow.exception.StateFlowException;
+import uk.gov.hmcts.reform.civil.stateflow.model.State;
+
+import java.util.function.Consumer;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompiledStateFlowTest {
+
+    private final CaseData caseData = CaseData.builder().build();
+
+    enum FlowState {
+        STATE_1,
+        STATE_2,
+        STATE_3
+    }
+
+    enum SubflowState {
+        STATE_1,
+        STATE_2
+    }
+
+    @Nested
+    class Compile {
+
+        @Test
+        void shouldThrowStateFlowException_whenContextHasNoInitialState() {
+            StateFlowContext stateFlowContext = new StateFlowContext();
+
+            assertThrows(StateFlowException.class, () -> CompiledStateFlow.compile(stateFlowContext));
+        }
+    }
+
+    @Nested
+    class Evaluate {
+
+        @Test
+        void shouldFollowImplicitTransition() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldStayInState_whenTransitionHasFalseCondition() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> false)
+                .state(FlowState.STATE_2)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_1");
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName).containsExactly("FLOW.STATE_1");
+        }
+
+        @Test
+        void shouldFollowPermittedTransition_whenTransitionsAreMutuallyExclusive() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> false)
+                .transitionTo(FlowState.STATE_3).onlyIf(caseData -> true)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_3");
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+        }
+
+        @Test
+        void shouldIgnoreTransition_whenTargetStateIsUndefined() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> true)
+                .state(FlowState.STATE_2)
+                .transitionTo(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2");
+        }
+
+        @Test
+        void shouldFollowSubflow() {
+            Consumer<StateFlowContext> subflow = stateFlowContext ->
+                StateFlowBuilder.<SubflowState>subflow("SUBFLOW", stateFlowContext)
+                    .transitionTo(SubflowState.STATE_1)
+                    .state(SubflowState.STATE_1)
+                    .transitionTo(SubflowState.STATE_2)
+                    .state(SubflowState.STATE_2);
+
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2)
+                .state(FlowState.STATE_2)
+                .subflow(subflow)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_2", "SUBFLOW.STATE_1", "SUBFLOW.STATE_2");
+        }
+
+        @Test
+        void shouldSetFlagsOfFollowedTransitionsOnly() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> true)
+                    .set(flags -> flags.put("FOLLOWED", true))
+                .transitionTo(FlowState.STATE_3).onlyIf(caseData -> false)
+                    .set(flags -> flags.put("NOT_FOLLOWED", true))
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThat(stateFlow.getFlags()).containsOnly(entry("FOLLOWED", true));
+            assertThat(stateFlow.isFlagSet(FlowFlag.PIP_ENABLED)).isFalse();
+        }
+
+        @Test
+        void shouldBeAtErrorState_whenConditionsOnTransitionsAreNotMutuallyExclusive() {
+            StateFlow stateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> true)
+                .transitionTo(FlowState.STATE_3).onlyIf(caseData -> true)
+                .state(FlowState.STATE_2)
+                .state(FlowState.STATE_3)
+                .compile()
+                .evaluate(caseData);
+
+            assertThrows(StateFlowException.class, stateFlow::getState);
+            assertThat(stateFlow.getStateHistory()).extracting(State::getName)
+                .containsExactly("FLOW.STATE_1", "FLOW.STATE_3");
+        }
+
+        @Test
+        void shouldReturnIndependentResults_whenEvaluatedMoreThanOnce() {
+            CompiledStateFlow compiledStateFlow = StateFlowBuilder.<FlowState>flow("FLOW")
+                .initial(FlowState.STATE_1)
+                .transitionTo(FlowState.STATE_2).onlyIf(caseData -> caseData.getLegacyCaseReference() != null)
+                    .set(flags -> flags.put("REFERENCED", true))
+                .state(FlowState.STATE_2)
+                .compile();
+
+            StateFlow first = compiledStateFlow.evaluate(CaseData.builder().legacyCaseReference("000DC001").build());
+            StateFlow second = compiledStateFlow.evaluate(caseData);
+
+            assertThat(first.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_2");
+            assertThat(first.getFlags()).containsOnly(entry("REFERENCED", true));
+            assertThat(second.getState()).extracting(State::getName).isEqualTo("FLOW.STATE_1");
+            assertThat(second.getFlags()).isEmpty();
+        }
+    }
+}
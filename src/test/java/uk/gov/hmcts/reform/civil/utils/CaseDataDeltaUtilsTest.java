@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.civil.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.ccd.client.model.CallbackRequest;
+import uk.gov.hmcts.reform.ccd.client.model.CaseDetails;
+import uk.gov.hmcts.reform.civil.callback.CallbackParams;
+import uk.gov.hmcts.reform.civil.model.CaseData;
+import uk.gov.hmcts.reform.civil.sampledata.CaseDataBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.civil.utils.CaseDataDeltaUtils.mergeChangedData;
+
+class CaseDataDeltaUtilsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+    private final CaseData original = CaseDataBuilder.builder().atStateClaimIssued().build();
+
+    @Test
+    void shouldMatchWholeCaseSerialisation_whenIncomingDataIsOriginalCase() {
+        CaseData updated = original.toBuilder()
+            .takenOfflineDate(LocalDateTime.of(2023, 3, 1, 12, 0, 30))
+            .claimNotificationDeadline(null)
+            .build();
+
+        Map<String, Object> data = mergeChangedData(callbackParams(original.toMap(mapper)), updated, mapper);
+
+        assertThat(data).isEqualTo(updated.toMap(mapper));
+    }
+
+    @Test
+    void shouldKeepIncomingValues_whenPropertiesAreUnchanged() {
+        Map<String, Object> incomingData = new HashMap<>(original.toMap(mapper));
+        incomingData.put("submittedDate", "2023-03-01T10:15:30.000");
+        incomingData.put("fieldUnknownToCaseData", "kept");
+        CaseData updated = original.toBuilder()
+            .takenOfflineDate(LocalDateTime.of(2023, 3, 1, 12, 0, 30))
+            .build();
+
+        Map<String, Object> data = mergeChangedData(callbackParams(incomingData), updated, mapper);
+
+        assertThat(data)
+            .containsEntry("submittedDate", "2023-03-01T10:15:30.000")
+            .containsEntry("fieldUnknownToCaseData", "kept")
+            .containsEntry("takenOfflineDate", "2023-03-01T12:00:30");
+    }
+
+    @Test
+    void shouldRemoveKey_whenChangedPropertyIsEmptied() {
+        assertThat(original.getClaimNotificationDeadline()).isNotNull();
+        CaseData updated = original.toBuilder().claimNotificationDeadline(null).build();
+
+        Map<String, Object> data = mergeChangedData(callbackParams(original.toMap(mapper)), updated, mapper);
+
+        assertThat(data).doesNotContainKey("claimNotificationDeadline");
+    }
+
+    @Test
+    void shouldSerialiseWholeCase_whenCallbackHasNoCaseDetails() {
+        CaseData updated = original.toBuilder()
+            .takenOfflineDate(LocalDateTime.of(2023, 3, 1, 12, 0, 30))
+            .build();
+        CallbackParams params = CallbackParams.builder().caseData(original).build();
+
+        assertThat(mergeChangedData(params, updated, mapper)).isEqualTo(updated.toMap(mapper));
+    }
+
+    private CallbackParams callbackParams(Map<String, Object> incomingData) {
+        return CallbackParams.builder()
+            .caseData(original)
+            .request(CallbackRequest.builder()
+                         .caseDetails(CaseDetails.builder().data(incomingData).build())
+                         .build())
+            .build();
+    }
+}